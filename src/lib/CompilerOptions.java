@@ -0,0 +1,262 @@
+package src.lib;
+
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.TreeSet;
+
+/**
+ * Esta clase se encarga de contener las opciones con las que se ejecuta el
+ * compilador (Se obtienen de los argumentos de línea de comandos).
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class CompilerOptions {
+    private String sourcePath;
+    private boolean gc, stats, statsJson, incremental;
+    private int optimizationLevel;
+    private HashSet<String> enabledPasses, disabledPasses;
+    private String cachePath;
+    private long cacheSize;
+    private int maxErrors;
+    private int jobs;
+
+    /**
+     * Constructor de la clase. Genera las opciones por defecto.
+     */
+    public CompilerOptions () {
+        sourcePath = null;
+        gc = false;
+        stats = false;
+        statsJson = false;
+        incremental = false;
+        optimizationLevel = 0;
+        enabledPasses = new HashSet<String>();
+        disabledPasses = new HashSet<String>();
+        cachePath = null;
+        cacheSize = Const.DEFAULT_CACHE_SIZE;
+        maxErrors = 1;
+        jobs = 1;
+    }
+
+    /**
+     * Genera las opciones a partir de los argumentos de línea de comandos.<br/>
+     *
+     * Los argumentos que comienzan con "--" son opciones, al igual que los
+     * niveles de optimización (-O0, -O1, -O2). El resto se toma como la
+     * ubicación del código fuente.
+     *
+     * @param args Argumentos
+     * @return Opciones del compilador
+     * @throws IllegalArgumentException Si alguna opción no existe
+     */
+    public static CompilerOptions parse (String[] args) {
+        CompilerOptions options = new CompilerOptions();
+
+        for (String arg : args) {
+            switch (arg) {
+                case "--gc":
+                    options.gc = true;
+                    break;
+                case "--stats":
+                    options.stats = true;
+                    break;
+                case "--stats=json":
+                    options.stats = true;
+                    options.statsJson = true;
+                    break;
+                case "--incremental":
+                    options.incremental = true;
+                    break;
+                case "--cache":
+                    options.cachePath = Paths.get(System.getProperty("user.home"), ".cache", "compilador").toString();
+                    break;
+                case "-O0":
+                case "-O1":
+                case "-O2":
+                    options.optimizationLevel = arg.charAt(2) - '0';
+                    break;
+                default:
+                    if (arg.startsWith("--enable-pass=")) {
+                        options.enabledPasses.add(arg.substring(14));
+                        options.disabledPasses.remove(arg.substring(14));
+                        break;
+                    }
+                    if (arg.startsWith("--disable-pass=")) {
+                        options.disabledPasses.add(arg.substring(15));
+                        options.enabledPasses.remove(arg.substring(15));
+                        break;
+                    }
+                    if (arg.startsWith("--cache=")) {
+                        options.cachePath = arg.substring(8);
+                        break;
+                    }
+                    if (arg.startsWith("--max-errors=")) {
+                        try {
+                            options.maxErrors = Math.max(0, Integer.parseInt(arg.substring(13)));
+                        } catch (NumberFormatException e) {
+                            throw new IllegalArgumentException(Const.ERROR_UNKNOWN_OPTION + arg);
+                        }
+                        break;
+                    }
+                    if (arg.startsWith("--jobs=")) {
+                        try {
+                            options.jobs = Integer.parseInt(arg.substring(7));
+                        } catch (NumberFormatException e) {
+                            throw new IllegalArgumentException(Const.ERROR_UNKNOWN_OPTION + arg);
+                        }
+                        //0 indica un hilo por procesador
+                        if (options.jobs <= 0) {
+                            options.jobs = Runtime.getRuntime().availableProcessors();
+                        }
+                        break;
+                    }
+                    if (arg.startsWith("--cache-size=")) {
+                        options.cacheSize = Static.parseSize(arg);
+                        break;
+                    }
+                    if (arg.startsWith("--") || arg.startsWith("-O")) {
+                        throw new IllegalArgumentException(Const.ERROR_UNKNOWN_OPTION + arg);
+                    }
+                    options.sourcePath = arg;
+                    break;
+            }
+        }
+
+        return options;
+    }
+
+    /**
+     * Obtiene la ubicación del código fuente.
+     *
+     * @return Ubicación del código fuente o null si no se proporcionó
+     */
+    public String getSourcePath () {
+        return sourcePath;
+    }
+
+    /**
+     * Avisa si se debe generar el runtime con recolector de basura.
+     *
+     * @return Booleano
+     */
+    public boolean isGcEnabled () {
+        return gc;
+    }
+
+    /**
+     * Activa o desactiva el recolector de basura.
+     *
+     * @param gc Booleano
+     */
+    public void setGcEnabled (boolean gc) {
+        this.gc = gc;
+    }
+
+    /**
+     * Avisa si se deben registrar las métricas de la compilación.
+     *
+     * @return Booleano
+     */
+    public boolean isStatsEnabled () {
+        return stats;
+    }
+
+    /**
+     * Avisa si las métricas se deben escribir en un archivo JSON en lugar de
+     * mostrarse por consola.
+     *
+     * @return Booleano
+     */
+    public boolean isStatsJson () {
+        return statsJson;
+    }
+
+    /**
+     * Obtiene el nivel de optimización (0, 1 o 2).
+     *
+     * @return Nivel
+     */
+    public int getOptimizationLevel () {
+        return optimizationLevel;
+    }
+
+    /**
+     * Obtiene los pases de optimización activados explícitamente
+     * (Se ejecutan sin importar el nivel).
+     *
+     * @return Nombres de los pases
+     */
+    public HashSet<String> getEnabledPasses () {
+        return enabledPasses;
+    }
+
+    /**
+     * Obtiene los pases de optimización desactivados explícitamente.
+     *
+     * @return Nombres de los pases
+     */
+    public HashSet<String> getDisabledPasses () {
+        return disabledPasses;
+    }
+
+    /**
+     * Obtiene la carpeta de la caché de compilación.
+     *
+     * @return Ubicación o null si la caché no está habilitada
+     */
+    public String getCachePath () {
+        return cachePath;
+    }
+
+    /**
+     * Obtiene el tamaño máximo de la caché de compilación.
+     *
+     * @return Bytes
+     */
+    public long getCacheSize () {
+        return cacheSize;
+    }
+
+    /**
+     * Obtiene la cantidad máxima de errores a informar antes de detener el
+     * análisis (Por defecto 1, 0 indica sin límite).
+     *
+     * @return Cantidad
+     */
+    public int getMaxErrors () {
+        return maxErrors;
+    }
+
+    /**
+     * Obtiene la cantidad de hilos con los que se compila un archivo
+     * (Por defecto 1, compilación secuencial).
+     *
+     * @return Cantidad
+     */
+    public int getJobs () {
+        return jobs;
+    }
+
+    /**
+     * Avisa si se recompilan solo los bloques modificados y los que dependen
+     * de ellos (El estado de la compilación anterior se conserva en memoria).
+     *
+     * @return Booleano
+     */
+    public boolean isIncremental () {
+        return incremental;
+    }
+
+    /**
+     * Genera un string con las opciones que modifican los archivos generados
+     * (Se utiliza como parte de la clave de la caché de compilación).
+     *
+     * @return String
+     */
+    public String getFingerprint () {
+        return "gc=" + gc + ";O=" + optimizationLevel +
+            ";enable=" + new TreeSet<String>(enabledPasses) + ";disable=" + new TreeSet<String>(disabledPasses);
+    }
+}
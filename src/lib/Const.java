@@ -1,7 +1,10 @@
 package src.lib;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 import src.lib.tokenHelper.IDToken;
 
@@ -56,9 +59,33 @@ public class Const {
     public static final String ERROR_READ_FILE = "ERROR: El archivo no existe o es un directorio. Se busca en: ";
     /** Error a mostrar cuando no se ha podido leer la siguiente linea de un archivo */
     public static final String ERROR_READ_NEXT_LINE = "ERROR: No se ha podido leer la siguiente linea del archivo.";
+    /** Error a mostrar cuando se proporciona una opción inexistente */
+    public static final String ERROR_UNKNOWN_OPTION = "ERROR: Opcion desconocida: ";
+    public static final String ERROR_INVALID_EXTENSION = "ERROR: El archivo fuente es invalido, no tiene extension .ru";
+    public static final String ERROR_SERVER_CONNECTION = "ERROR: No se ha podido conectar con el servidor de compilacion: ";
+    /** Mensaje a mostrar cuando comienza la observación de archivos */
+    public static final String SUCCESS_WATCH = "OBSERVANDO (Ctrl+C para finalizar): ";
     
+    //Compilador
+    /** Versión del compilador (Forma parte de la clave de la caché de compilación) */
+    public static final String COMPILER_VERSION = "1.1";
+    /** Tamaño máximo por defecto (en bytes) de la caché de compilación */
+    public static final long DEFAULT_CACHE_SIZE = 268435456;
+    /** Cantidad máxima de archivos cuyo estado conserva la compilación incremental */
+    public static final int INCREMENTAL_MAX_FILES = 8;
+    /** Milisegundos sin cambios que se esperan antes de recompilar los archivos observados */
+    public static final long WATCH_DEBOUNCE = 150;
+
+    //Runtime del código generado
+    /** Tamaño (en bytes) de cada bloque que el allocator solicita al sistema mediante sbrk */
+    public static final int HEAP_CHUNK_SIZE = 65536;
+    /** Tamaño máximo (en bytes) del heap administrado por el recolector de basura */
+    public static final int GC_HEAP_LIMIT = 16777216;
+    /** Bytes a reservar antes de ejecutar la primer recolección (Se duplica si el heap vivo lo supera) */
+    public static final int GC_INITIAL_THRESHOLD = 262144;
+
     /** Hash que guarda el valor de las palabra reservada */
-    public static final HashMap<String, IDToken> KEY_WORDS = new HashMap<String, IDToken>() {{
+    public static final Map<String, IDToken> KEY_WORDS = Collections.unmodifiableMap(new HashMap<String, IDToken>() {{
         put("struct", IDToken.pSTRUCT);
         put("impl", IDToken.pIMPL);
         put("else", IDToken.pELSE);
@@ -75,19 +102,19 @@ public class Const {
         put("pri", IDToken.pPRI);
         put("self", IDToken.pSELF);
         put("void", IDToken.typeVOID);
-    }};
+    }});
 
     /** Hash que guarda el valor de los tipos de datos */
-    public static final HashMap<String, IDToken> KEY_TYPE_WORDS = new HashMap<String, IDToken>() {{
+    public static final Map<String, IDToken> KEY_TYPE_WORDS = Collections.unmodifiableMap(new HashMap<String, IDToken>() {{
         put("Int", IDToken.typeINT);
         put("Str", IDToken.typeSTR);
         put("Char", IDToken.typeCHAR);
         put("Bool", IDToken.typeBOOL);
         put("Array", IDToken.typeARRAY);
-    }};
+    }});
 
     /** Hash que guarda los tipos de datos primitivos */
-    public static final HashSet<String> primitiveTypes = new HashSet<String>(){{
+    public static final Set<String> primitiveTypes = Collections.unmodifiableSet(new HashSet<String>(){{
         add("Int");
         add("Str");
         add("Char");
@@ -96,10 +123,10 @@ public class Const {
         add("literal Str");
         add("literal Char");
         add("literal Bool");
-    }};
+    }});
 
     /** Hash que guarda las estructuras predefinidias*/
-    public static final HashSet<String> predefinedStructs = new HashSet<String>(){{
+    public static final Set<String> predefinedStructs = Collections.unmodifiableSet(new HashSet<String>(){{
         add("IO");
         add("Object");
         add("Char");
@@ -110,5 +137,5 @@ public class Const {
         add("Array Bool");
         add("Array Int");
         add("Array Str");
-    }};
+    }});
 }
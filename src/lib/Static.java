@@ -6,6 +6,7 @@ import java.util.HashMap;
 
 import src.lib.exceptionHelper.CustomException;
 import src.lib.exceptionHelper.SemanticException;
+import src.lib.runtimeHelper.GarbageCollector;
 import src.lib.semanticHelper.SymbolTable;
 import src.lib.semanticHelper.astHelper.sentences.expressions.Expression;
 import src.lib.semanticHelper.symbolTableHelper.Metadata;
@@ -87,6 +88,31 @@ public class Static {
         }
     }
 
+    /**
+     * Convierte el valor de una opción de tamaño (Por ejemplo: --size=2MB) a bytes.
+     * El valor admite el sufijo opcional KB o MB.
+     *
+     * @since 19/10/2026
+     * @param arg Opción completa con el formato --opcion=N[KB|MB]
+     * @return Tamaño en bytes
+     * @throws IllegalArgumentException Si el valor no es un tamaño válido
+     */
+    public static long parseSize (String arg) {
+        String upper = arg.substring(arg.indexOf('=') + 1).toUpperCase();
+
+        try {
+            if (upper.endsWith("MB")) {
+                return Long.parseLong(upper.substring(0, upper.length() - 2)) * 1024 * 1024;
+            }
+            if (upper.endsWith("KB")) {
+                return Long.parseLong(upper.substring(0, upper.length() - 2)) * 1024;
+            }
+            return Long.parseLong(upper);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(Const.ERROR_UNKNOWN_OPTION + arg);
+        }
+    }
+
     /**
      * Valida si un caracter es mayúscula.
      * 
@@ -143,26 +169,12 @@ public class Static {
      * @param metadata Metadata para errores
      */
     public static void checkInherited (SymbolTable st, String origin, String currentType, Token metadata) {
-        boolean isInherited = false;
-        String resultType=currentType;
-        //Solo si el tipo de dato no es void
-        if (!currentType.equals("void")) {
-            //Valida asignacion hereditaria, hasta llegar a Object o se encuentre herencia
-            while (!currentType.equals("Object") && !isInherited) {
-                //Parseo el tipo de dato
-                currentType = getPrimitiveDataType(currentType);
-                
-                //Obtiene el padre 
-                currentType = st.getStruct(currentType).getParent();
-    
-                //Valida si se obtuvo el tipo correcto
-                isInherited = origin.equals(currentType);
-            }
-        }
+        //Solo si el tipo de dato no es void, valida que herede del tipo de origen
+        boolean isInherited = !currentType.equals("void") && st.isSubtype(getPrimitiveDataType(currentType), origin);
 
         //Si no encuentra herencia, retorna error
         if (!isInherited) {
-            throw new SemanticException(metadata, "Se esperaba una variable de tipo " + origin + " y se encontro una de tipo " + resultType + ".", true);
+            throw new SemanticException(metadata, "Se esperaba una variable de tipo " + origin + " y se encontro una de tipo " + currentType + ".", true);
         }
     }
 
@@ -258,6 +270,17 @@ public class Static {
         return result;
     }
 
+    /**
+     * Avisa si un tipo de dato es una referencia al heap (Estructuras y arrays).
+     * Los Str no se incluyen porque siempre apuntan al segmento de datos.
+     * 
+     * @param type Tipo de dato
+     * @return Booleano
+     */
+    public static boolean isReferenceType (IDToken type) {
+        return !(type.equals(IDToken.typeINT) || type.equals(IDToken.typeBOOL) || type.equals(IDToken.typeCHAR) || type.equals(IDToken.typeSTR));
+    }
+
     public static String initCirData (IDToken type, int index) {
         //Siempre inicializa con 0
         String result = "sw $0, ";
@@ -286,8 +309,81 @@ public class Static {
         return result;
     }
 
-    static public String generatePredefinedMethods(){
-        String code;
+    /**
+     * Genera la reserva en línea de un bloque de tamaño conocido en compilación.<br/>
+     *
+     * Si el bloque entra en el chunk actual solo incrementa Heap_ptr; caso contrario
+     * llama a Heap_alloc para que solicite un nuevo chunk al sistema.
+     * Con el recolector de basura siempre llama a Heap_alloc (Puede requerir una recolección).
+     * Modifica $v0 (dirección del bloque), $a0, $t8, $t9 y $ra.
+     *
+     * @param st Tabla de símbolos
+     * @param namespace Prefijo de las etiquetas del método actual
+     * @param size Tamaño en bytes a reservar
+     * @return Código MIPS
+     */
+    public static String generateInlineAlloc (SymbolTable st, String namespace, int size) {
+        int counter;
+
+        //Alinea el tamaño a palabra
+        size = (size + 3) & ~3;
+
+        if (st.getOptions().isGcEnabled()) {
+            return "li $a0, " + size + "\t\t\t\t\t\t#Garbage collected allocation\n" +
+                "jal Heap_alloc\t\t\t\t\t#$v0 contains address of allocated memory\n";
+        }
+
+        counter = st.addAllocCounter(namespace);
+
+        return "lw $v0, Heap_ptr\t\t\t\t#Bump pointer allocation\n" +
+            "lw $t9, Heap_end\n" +
+            "addiu $t8, $v0, " + size + "\n" +
+            "bleu $t8, $t9, " + namespace + "heap_fast" + counter + "\n" +
+            "li $a0, " + size + "\t\t\t\t\t\t#The chunk is full, request a new one\n" +
+            "jal Heap_alloc\n" +
+            "j " + namespace + "heap_done" + counter + "\n" +
+            namespace + "heap_fast" + counter + ":\n" +
+            "sw $t8, Heap_ptr\n" +
+            namespace + "heap_done" + counter + ":\t\t\t\t\t#$v0 contains address of allocated memory\n";
+    }
+
+    /**
+     * Genera la rutina Heap_alloc del allocator lineal (Sin recolector de basura).<br/>
+     *
+     * Recibe en $a0 los bytes a reservar y retorna en $v0 la dirección del bloque.
+     * Solo modifica $a0, $t8 y $t9.
+     *
+     * @return Código MIPS
+     */
+    private static String generateHeapAlloc () {
+        return " 	Heap_alloc:			#$a0: bytes a reservar. Retorna en $v0 la direccion (Modifica $a0, $t8 y $t9)\n" +
+            "		addiu $a0, $a0, 3			#Alinea el tamaño a palabra\n" +
+            "		srl $a0, $a0, 2\n" +
+            "		sll $a0, $a0, 2\n" +
+            "	Heap_alloc_aligned:\n" +
+            "		lw $v0, Heap_ptr\n" +
+            "		lw $t9, Heap_end\n" +
+            "		addu $t8, $v0, $a0\n" +
+            "		bgtu $t8, $t9, Heap_refill			#No entra en el chunk actual\n" +
+            "		sw $t8, Heap_ptr\n" +
+            "		jr $ra\n" +
+            "	Heap_refill:\n" +
+            "		move $t9, $a0			#Guarda el tamaño solicitado\n" +
+            "		addiu $a0, $a0, " + Const.HEAP_CHUNK_SIZE + "			#Solicita un chunk que contenga al bloque\n" +
+            "		li $v0, 9			#Syscall para reservar memoria en el heap\n" +
+            "		syscall\n" +
+            "		lw $t8, Heap_end\n" +
+            "		beq $v0, $t8, Heap_refill_contiguous			#El chunk es contiguo al anterior\n" +
+            "		sw $v0, Heap_ptr\n" +
+            "	Heap_refill_contiguous:\n" +
+            "		addu $t8, $v0, $a0\n" +
+            "		sw $t8, Heap_end\n" +
+            "		move $a0, $t9\n" +
+            "		j Heap_alloc_aligned\n";
+    }
+
+    static public String generatePredefinedMethods(CompilerOptions options){
+        String code, gcNone = options.isGcEnabled() ? "\t.word Gc_map_none\n" : "", gcArray = options.isGcEnabled() ? "\t.word Gc_map_array\n" : "";
         code =
             ".data\n" +
             "	IO_false: .asciiz \"false\"\n" +
@@ -298,18 +394,30 @@ public class Static {
             "	IO_ingresar_bool: .asciiz \"Ingresar valor bool (0 para false, 1 para true: \"\n" +
             "	IO_ingresar_char: .asciiz \"Ingresar valor char: \"\n" +
             "	IO_buffer_str: .space 1024	\n" +
+            "	Heap_ptr: .word 0\n" +
+            "	Heap_end: .word 0\n" +
+            gcNone +
             "	Str_vtable: .word Str_Constructor, length, Str_concat\n" +
-            "	ArrayStr_vtable: .word ArrayStr_Constructor, length\n" +
-            "	ArrayInt_vtable: .word ArrayInt_Constructor, length\n" +
-            "	ArrayChar_vtable: .word ArrayChar_Constructor, length\n" +
+            gcArray +
+            "	ArrayStr_vtable: .word ArrayStr_Constructor, ArrayStr_length\n" +
+            gcNone +
+            "	ArrayInt_vtable: .word ArrayInt_Constructor, ArrayInt_length\n" +
+            gcNone +
+            "	ArrayChar_vtable: .word ArrayChar_Constructor, ArrayChar_length\n" +
+            gcNone +
             "	Bool_vtable: .word Bool_Constructor\n" +
+            gcNone +
             "	IO_vtable: .word IO_Constructor\n" +
             "	IO_vtable_static: .word IO_out_array_int, IO_out_array_char, IO_in_str, IO_out_char, IO_out_array_str, IO_in_int, IO_out_int, IO_in_bool, IO_out_str, IO_in_char, IO_out_bool, IO_out_array_bool\n" +
             "	IO_struct_static: .word IO_vtable_static\n" +
+            gcNone +
             "	Char_vtable: .word Char_Constructor\n" +
+            gcNone +
             "	Object_vtable: .word Object_Constructor\n" +
+            gcNone +
             "	Int_vtable: .word Int_Constructor\n" +
-            "	ArrayBool_vtable: .word ArrayBool_Constructor, length\n" +
+            gcNone +
+            "	ArrayBool_vtable: .word ArrayBool_Constructor, ArrayBool_length\n" +
             ".text \n" +
             "	IO_out_int:\n" +
             "		lw $a0, 4($sp) \n" +
@@ -393,48 +501,80 @@ public class Static {
             "		syscall #syscall\n" +
             "		move $v0, $a0\n" +
             " 		jr $ra\n" +
-            " 	ArrayInt_Constructor:\n" +
-            "		li $v0, 9			#Syscall para reservar memoria en el heap\n" +
-            "		addi $a0, $a0, 8			#Add space para vtable y length\n" +
-            "		syscall\n" +
-            "		move $t1, $a0			#Moves dimention a $t1\n" +
+            //Allocator (Con recolector de basura se agrega su runtime)
+            (options.isGcEnabled() ? GarbageCollector.generateRuntime() : generateHeapAlloc()) +
+            //Arrays: [vtable | cantidad de elementos | datos]. Reciben en $a0 la cantidad de elementos
+            "	ArrayInt_Constructor:\n" +
+            "		bltz $a0, ErrorSize		#La cantidad de elementos no puede ser negativa\n" +
+            "		sw $ra, 0($sp)			#Guarda $ra (Heap_alloc lo modifica)\n" +
+            "		sw $a0, -4($sp)			#Guarda la cantidad de elementos\n" +
+            "		addiu $sp, $sp, -8\n" +
+            "		sll $a0, $a0, 2			#4 bytes por elemento\n" +
+            "		addiu $a0, $a0, 8			#Add space para vtable y length\n" +
+            "		jal Heap_alloc\n" +
             "		la $t0, ArrayInt_vtable\n" +
             "		sw $t0, 0($v0)			#Saves the vtable reference\n" +
-            "		sw $t1, 4($v0)			#Saves the dimention en el cir\n" +
-            "		jr $ra			# salta a la dirección almacenada en el registro $ra\n" +
+            "		lw $t0, 4($sp)\n" +
+            "		sw $t0, 4($v0)			#Saves the dimention en el cir\n" +
+            "		lw $ra, 8($sp)\n" +
+            "		addiu $sp, $sp, 8\n" +
+            "		jr $ra          # salta a la dirección almacenada en el registro $ra\n" +
             "	ArrayStr_Constructor:\n" +
-            "		li $v0, 9			#Syscall para reservar memoria en el heap\n" +
-            "		addi $a0, $a0, 8			#Add space para vtable y length\n" +
-            "		syscall\n" +
+            "		bltz $a0, ErrorSize		#La cantidad de elementos no puede ser negativa\n" +
+            "		sw $ra, 0($sp)			#Guarda $ra (Heap_alloc lo modifica)\n" +
+            "		sw $a0, -4($sp)			#Guarda la cantidad de elementos\n" +
+            "		addiu $sp, $sp, -8\n" +
+            "		sll $a0, $a0, 2			#4 bytes por elemento\n" +
+            "		addiu $a0, $a0, 8			#Add space para vtable y length\n" +
+            "		jal Heap_alloc\n" +
             "		la $t0, ArrayStr_vtable\n" +
             "		sw $t0, 0($v0)			#Saves the vtable reference\n" +
-            "		sw $t1, 4($v0)			#Saves the dimention en el cir\n" +
+            "		lw $t0, 4($sp)\n" +
+            "		sw $t0, 4($v0)			#Saves the dimention en el cir\n" +
+            "		lw $ra, 8($sp)\n" +
+            "		addiu $sp, $sp, 8\n" +
             "		jr $ra          # salta a la dirección almacenada en el registro $ra\n" +
             "	ArrayChar_Constructor:\n" +
-            "		li $v0, 9			#Syscall para reservar memoria en el heap\n" +
-            "		addi $a0, $a0, 8			#Add space para vtable y length\n" +
-            "		syscall\n" +
+            "		bltz $a0, ErrorSize		#La cantidad de elementos no puede ser negativa\n" +
+            "		sw $ra, 0($sp)			#Guarda $ra (Heap_alloc lo modifica)\n" +
+            "		sw $a0, -4($sp)			#Guarda la cantidad de elementos\n" +
+            "		addiu $sp, $sp, -8\n" +
+            "		#1 byte por elemento\n" +
+            "		addiu $a0, $a0, 8			#Add space para vtable y length\n" +
+            "		jal Heap_alloc\n" +
             "		la $t0, ArrayChar_vtable\n" +
             "		sw $t0, 0($v0)			#Saves the vtable reference\n" +
-            "		sw $t1, 4($v0)			#Saves the dimention en el cir\n" +
+            "		lw $t0, 4($sp)\n" +
+            "		sw $t0, 4($v0)			#Saves the dimention en el cir\n" +
+            "		lw $ra, 8($sp)\n" +
+            "		addiu $sp, $sp, 8\n" +
             "		jr $ra          # salta a la dirección almacenada en el registro $ra\n" +
             "	ArrayBool_Constructor:\n" +
-            "		li $v0, 9			#Syscall para reservar memoria en el heap\n" +
-            "		addi $a0, $a0, 8			#Add space para vtable y length\n" +
-            "		syscall\n" +
+            "		bltz $a0, ErrorSize		#La cantidad de elementos no puede ser negativa\n" +
+            "		sw $ra, 0($sp)			#Guarda $ra (Heap_alloc lo modifica)\n" +
+            "		sw $a0, -4($sp)			#Guarda la cantidad de elementos\n" +
+            "		addiu $sp, $sp, -8\n" +
+            "		#1 byte por elemento\n" +
+            "		addiu $a0, $a0, 8			#Add space para vtable y length\n" +
+            "		jal Heap_alloc\n" +
             "		la $t0, ArrayBool_vtable\n" +
             "		sw $t0, 0($v0)			#Saves the vtable reference\n" +
-            "		sw $t1, 4($v0)			#Saves the dimention en el cir\n" +
+            "		lw $t0, 4($sp)\n" +
+            "		sw $t0, 4($v0)			#Saves the dimention en el cir\n" +
+            "		lw $ra, 8($sp)\n" +
+            "		addiu $sp, $sp, 8\n" +
             "		jr $ra          # salta a la dirección almacenada en el registro $ra\n" +
-            "	Array_length:\n" +
-            "	IO_out_array_int:\n" +
-            "	IO_out_array_str:\n" +
-            "	IO_out_array_bool:\n" +
-            "	IO_out_array_char:\n" +
+            "	Array_length:			#$v0: referencia al array\n" +
             "	ArrayStr_length:\n" +
             "	ArrayInt_length:\n" +
             "	ArrayChar_length:\n" +
             "	ArrayBool_length:\n" +
+            "		addiu $v0, $v0, 4			#Posicion de la cantidad de elementos\n" +
+            "		jr $ra\n" +
+            "	IO_out_array_int:\n" +
+            "	IO_out_array_str:\n" +
+            "	IO_out_array_bool:\n" +
+            "	IO_out_array_char:\n" +
             "	Str_concat:\n" +
             "	Str_length:\n" +
             "	Str_Constructor: \n" +
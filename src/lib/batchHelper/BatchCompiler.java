@@ -0,0 +1,161 @@
+package src.lib.batchHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import src.lib.CompilerOptions;
+import src.lib.Const;
+import src.lib.exceptionHelper.CustomException;
+import src.main.CodeGenerator;
+
+/**
+ * Compila varios archivos .ru en un único proceso, repartiéndolos en un pool
+ * de hilos de tamaño fijo.<br/>
+ *
+ * Cada archivo se compila con su propio analizador sintáctico y su propia
+ * tabla de símbolos. El estado estático compartido (First, Const, Static y
+ * las estructuras predefinidas de la tabla de símbolos) es de solo lectura.
+ * Los resultados se escriben junto a cada código fuente y los diagnósticos se
+ * retornan en el orden de los archivos, sin importar el orden en que terminan.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class BatchCompiler {
+    private final String[] options;
+    private final int threads;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param options Opciones del compilador (como en la línea de comandos, sin el código fuente)
+     * @param threads Cantidad de hilos
+     * @throws IllegalArgumentException Si alguna opción no existe
+     */
+    public BatchCompiler (String[] options, int threads) {
+        //Valida las opciones antes de comenzar
+        CompilerOptions.parse(options);
+
+        this.options = options;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Compila los archivos en paralelo.
+     *
+     * @param paths Ubicaciones de los códigos fuente
+     * @return Resultados en el mismo orden que los archivos
+     * @throws InterruptedException Si se interrumpe la espera de los resultados
+     */
+    public ArrayList<BatchResult> compileAll (ArrayList<String> paths) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, paths.size())));
+        ArrayList<Future<BatchResult>> futures = new ArrayList<Future<BatchResult>>();
+        ArrayList<BatchResult> results = new ArrayList<BatchResult>();
+
+        try {
+            for (String path : paths) {
+                futures.add(executor.submit(() -> compile(path)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    results.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    results.add(new BatchResult(paths.get(i), "Ocurrio un error al analizar." + e.getCause(), 0));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * Compila un archivo y escribe los resultados junto al código fuente.
+     *
+     * @param path Ubicación del código fuente
+     * @return Resultado de la compilación
+     */
+    public BatchResult compile (String path) {
+        long start = System.nanoTime();
+        String error = null;
+        String[] args = Arrays.copyOf(options, options.length + 1);
+
+        args[options.length] = path;
+        try {
+            new CodeGenerator(path, CompilerOptions.parse(args)).run();
+        }
+        //Captura los errores léxicos, sintácticos y semánticos
+        catch (CustomException e) {
+            error = e.getMessage();
+        }
+        //Captura cualquier otro tipo de error sin detener el resto de las compilaciones
+        catch (Exception | StackOverflowError e) {
+            error = "Ocurrio un error al analizar." + e.getMessage();
+        }
+
+        return new BatchResult(path, error, (System.nanoTime() - start) / 1000000);
+    }
+
+    /**
+     * Obtiene los archivos .ru indicados por un argumento, que puede ser un
+     * archivo, una carpeta (se recorre recursivamente) o un patrón glob
+     * (Por ejemplo: src/test/**&#47;*.ru).
+     *
+     * @param arg Archivo, carpeta o patrón
+     * @return Ubicaciones ordenadas por nombre
+     * @throws IOException Si no se puede recorrer una carpeta
+     * @throws IllegalArgumentException Si el archivo no existe o no es un .ru
+     */
+    public static ArrayList<String> collect (String arg) throws IOException {
+        File file = new File(arg);
+
+        if (arg.contains("*") || arg.contains("?") || arg.contains("{")) {
+            //Recorre desde la carpeta anterior al primer comodín
+            int wildcard = arg.replaceAll("[?{]", "*").indexOf('*'),
+                separator = Math.max(arg.lastIndexOf('/', wildcard), arg.lastIndexOf(File.separatorChar, wildcard));
+            Path base = Paths.get(separator < 0 ? "" : arg.substring(0, separator + 1));
+            PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + arg);
+
+            return walk(base, path -> matcher.matches(path));
+        }
+        if (file.isDirectory()) {
+            return walk(file.toPath(), path -> true);
+        }
+        if (!arg.endsWith(".ru")) {
+            throw new IllegalArgumentException(Const.ERROR_INVALID_EXTENSION + ": " + arg);
+        }
+        if (!file.isFile()) {
+            throw new IllegalArgumentException(Const.ERROR_READ_FILE + file.getAbsolutePath());
+        }
+        return new ArrayList<String>(Arrays.asList(arg));
+    }
+
+    /**
+     * Recorre una carpeta y obtiene los archivos .ru que cumplen el filtro.
+     */
+    private static ArrayList<String> walk (Path base, Predicate<Path> filter) throws IOException {
+        try (Stream<Path> stream = Files.walk(base.toString().isEmpty() ? Paths.get(".") : base)) {
+            return stream
+                .map(path -> base.toString().isEmpty() ? Paths.get(".").relativize(path) : path)
+                .filter(path -> path.toString().endsWith(".ru") && Files.isRegularFile(path) && filter.test(path))
+                .map(Path::toString)
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+}
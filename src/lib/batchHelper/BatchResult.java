@@ -0,0 +1,69 @@
+package src.lib.batchHelper;
+
+/**
+ * Resultado de la compilación de un archivo en modo batch.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class BatchResult {
+    private final String path;
+    private final String error;
+    private final long millis;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param path Ubicación del código fuente
+     * @param error Diagnóstico de la compilación o null si fue correcta
+     * @param millis Tiempo de compilación en milisegundos
+     */
+    public BatchResult (String path, String error, long millis) {
+        this.path = path;
+        this.error = error;
+        this.millis = millis;
+    }
+
+    /**
+     * Obtiene la ubicación del código fuente.
+     *
+     * @return String
+     */
+    public String getPath () {
+        return path;
+    }
+
+    /**
+     * Obtiene el diagnóstico de la compilación.
+     *
+     * @return Mensaje de error o null si la compilación fue correcta
+     */
+    public String getError () {
+        return error;
+    }
+
+    /**
+     * Avisa si la compilación fue correcta.
+     *
+     * @return Booleano
+     */
+    public boolean isCorrect () {
+        return error == null;
+    }
+
+    /**
+     * Obtiene el tiempo de compilación.
+     *
+     * @return Milisegundos
+     */
+    public long getMillis () {
+        return millis;
+    }
+
+    @Override
+    public String toString () {
+        return "| " + path + " | " + (error == null ? "CORRECTO" : "ERROR") + " | " + millis + " ms |" +
+            (error == null ? "" : "\n" + error);
+    }
+}
@@ -0,0 +1,47 @@
+package src.lib.benchmarkHelper;
+
+/**
+ * Benchmark de una operación del compilador sobre un archivo fuente.<br/>
+ *
+ * Antes de cada invocación se llama a {@link #prepare(String)} (no se mide) y
+ * luego a {@link #run()} (se mide el tiempo y los bytes reservados).
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public abstract class Benchmark {
+    private final String name;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param name Nombre del benchmark
+     */
+    protected Benchmark (String name) {
+        this.name = name;
+    }
+
+    /**
+     * Obtiene el nombre del benchmark.
+     *
+     * @return String
+     */
+    public String getName () {
+        return name;
+    }
+
+    /**
+     * Prepara el estado necesario para una invocación (No se mide).
+     *
+     * @param path Ubicación del código fuente
+     */
+    public abstract void prepare (String path);
+
+    /**
+     * Ejecuta la operación medida.
+     *
+     * @return Valor derivado del resultado, para que la JVM no elimine la operación
+     */
+    public abstract long run ();
+}
@@ -0,0 +1,94 @@
+package src.lib.benchmarkHelper;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Ejecuta benchmarks dentro de una misma JVM, con iteraciones de
+ * calentamiento y de medición de duración fija (Al estilo de JMH).<br/>
+ *
+ * Solo se mide la llamada a {@link Benchmark#run()}: la preparación de cada
+ * invocación queda fuera del tiempo y de los bytes reservados.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class BenchmarkHarness {
+    private final int warmupIterations, measurementIterations;
+    private final long iterationNanos;
+    private final com.sun.management.ThreadMXBean threadBean;
+    /** Evita que la JVM elimine las operaciones cuyo resultado no se usa */
+    private static volatile long sink;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param warmupIterations Iteraciones de calentamiento
+     * @param measurementIterations Iteraciones medidas
+     * @param iterationMillis Duración de cada iteración en milisegundos
+     */
+    public BenchmarkHarness (int warmupIterations, int measurementIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1000000L;
+
+        //Solo la JVM de HotSpot expone los bytes reservados por hilo
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).isThreadAllocatedMemorySupported()) {
+            threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            threadBean = null;
+        }
+    }
+
+    /**
+     * Ejecuta un benchmark sobre un archivo fuente.
+     *
+     * @param benchmark Benchmark a ejecutar
+     * @param path Ubicación del código fuente
+     * @return Resultado de la medición
+     */
+    public BenchmarkResult measure (Benchmark benchmark, String path) {
+        double[] scores = new double[measurementIterations];
+        long ops = 0, allocated = 0;
+
+        for (int i = 0; i < warmupIterations; i++) {
+            iteration(benchmark, path);
+        }
+
+        for (int i = 0; i < measurementIterations; i++) {
+            long[] result = iteration(benchmark, path);
+            scores[i] = result[0] / (result[1] / 1e9);
+            ops += result[0];
+            allocated += result[2];
+        }
+
+        return new BenchmarkResult(benchmark.getName(), path, scores, ops > 0 ? (double) allocated / ops : 0);
+    }
+
+    /**
+     * Ejecuta invocaciones hasta cumplir la duración de la iteración.
+     *
+     * @return {operaciones, nanosegundos medidos, bytes reservados}
+     */
+    private long[] iteration (Benchmark benchmark, String path) {
+        long ops = 0, timed = 0, allocated = 0, end = System.nanoTime() + iterationNanos;
+
+        do {
+            benchmark.prepare(path);
+
+            long bytes = allocatedBytes(), start = System.nanoTime();
+            sink += benchmark.run();
+            timed += System.nanoTime() - start;
+            allocated += allocatedBytes() - bytes;
+            ops++;
+        } while (System.nanoTime() < end);
+
+        return new long[] {ops, timed, allocated};
+    }
+
+    private long allocatedBytes () {
+        return threadBean != null ? threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+    }
+}
@@ -0,0 +1,96 @@
+package src.lib.benchmarkHelper;
+
+/**
+ * Resultado de un benchmark sobre un archivo fuente.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class BenchmarkResult {
+    private final String benchmark, input;
+    private final double[] scores;
+    private final double allocatedPerOp;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param benchmark Nombre del benchmark
+     * @param input Archivo fuente utilizado
+     * @param scores Operaciones por segundo de cada iteración medida
+     * @param allocatedPerOp Bytes reservados por operación
+     */
+    public BenchmarkResult (String benchmark, String input, double[] scores, double allocatedPerOp) {
+        this.benchmark = benchmark;
+        this.input = input;
+        this.scores = scores;
+        this.allocatedPerOp = allocatedPerOp;
+    }
+
+    /**
+     * Obtiene el promedio de operaciones por segundo.
+     *
+     * @return ops/s
+     */
+    public double getScore () {
+        double sum = 0;
+        for (double score : scores) {
+            sum += score;
+        }
+        return scores.length > 0 ? sum / scores.length : 0;
+    }
+
+    /**
+     * Obtiene el desvío estándar de las operaciones por segundo.
+     *
+     * @return ops/s
+     */
+    public double getError () {
+        double mean = getScore(), sum = 0;
+
+        if (scores.length < 2) {
+            return 0;
+        }
+        for (double score : scores) {
+            sum += (score - mean) * (score - mean);
+        }
+        return Math.sqrt(sum / (scores.length - 1));
+    }
+
+    /**
+     * Obtiene los bytes reservados por operación (tasa de reserva normalizada).
+     *
+     * @return Bytes por operación
+     */
+    public double getAllocatedPerOp () {
+        return allocatedPerOp;
+    }
+
+    /**
+     * Genera una fila de la tabla de resultados.
+     *
+     * @return String
+     */
+    @Override
+    public String toString () {
+        return String.format("| %s | %s | %d | %.3f | %.3f | %.0f |",
+            benchmark, input, scores.length, getScore(), getError(), allocatedPerOp);
+    }
+
+    /**
+     * Convierte los datos en JSON.
+     *
+     * @param tabs Cantidad de separaciones
+     * @return String
+     */
+    public String toJSON (String tabs) {
+        return tabs + "{\n" +
+            tabs + "    \"benchmark\": \"" + benchmark + "\",\n" +
+            tabs + "    \"archivo\": \"" + input.replace("\\", "\\\\") + "\",\n" +
+            tabs + "    \"iteraciones\": " + scores.length + ",\n" +
+            tabs + "    \"opsPorSegundo\": " + getScore() + ",\n" +
+            tabs + "    \"desvio\": " + getError() + ",\n" +
+            tabs + "    \"bytesPorOperacion\": " + allocatedPerOp + "\n" +
+        tabs + "}";
+    }
+}
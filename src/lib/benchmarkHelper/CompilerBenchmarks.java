@@ -0,0 +1,201 @@
+package src.lib.benchmarkHelper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import src.lib.CompilerOptions;
+import src.lib.lexicalHelper.FileManager;
+import src.lib.semanticHelper.SemanticManager;
+import src.lib.statsHelper.CompilerStats;
+import src.lib.tokenHelper.IDToken;
+import src.lib.tokenHelper.Token;
+import src.main.LexicalAnalyzer;
+import src.main.SyntacticAnalyzer;
+
+/**
+ * Benchmarks de cada fase del compilador.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class CompilerBenchmarks {
+    private CompilerBenchmarks () {}
+
+    /**
+     * Genera la lista de benchmarks disponibles.
+     *
+     * @return Benchmarks en orden de ejecución
+     */
+    public static ArrayList<Benchmark> getAll () {
+        ArrayList<Benchmark> benchmarks = new ArrayList<Benchmark>();
+        benchmarks.add(new Lexer());
+        benchmarks.add(new Parser());
+        benchmarks.add(new Consolidate());
+        benchmarks.add(new Generate());
+        benchmarks.add(new Json());
+        return benchmarks;
+    }
+
+    /**
+     * Benchmark que analiza el código fuente desde memoria, para que la
+     * lectura del disco no forme parte de la medición. El archivo se lee una
+     * única vez (El lexer lo lee con el charset por defecto).
+     */
+    abstract static class InMemory extends Benchmark {
+        private String source, lastPath;
+
+        InMemory (String name) {
+            super(name);
+        }
+
+        /**
+         * Genera un analizador léxico que lee el código fuente desde memoria.
+         *
+         * @param path Ubicación del código fuente
+         * @return LexicalAnalyzer
+         */
+        protected LexicalAnalyzer lexer (String path) {
+            if (!path.equals(lastPath)) {
+                try {
+                    source = new String(Files.readAllBytes(Paths.get(path)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                lastPath = path;
+            }
+            return new LexicalAnalyzer(new FileManager(new BufferedReader(new StringReader(source))));
+        }
+    }
+
+    /**
+     * Obtiene todos los tokens de un archivo con LexicalAnalyzer.nextToken.
+     */
+    static class Lexer extends InMemory {
+        private LexicalAnalyzer lexicalAnalyzer;
+
+        Lexer () {
+            super("lexico");
+        }
+
+        @Override
+        public void prepare (String path) {
+            lexicalAnalyzer = lexer(path);
+        }
+
+        @Override
+        public long run () {
+            long count = 0;
+            Token token = lexicalAnalyzer.nextToken();
+
+            while (!token.getIDToken().equals(IDToken.EOF)) {
+                count++;
+                token = lexicalAnalyzer.nextToken();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Ejecuta SyntacticAnalyzer.run (análisis, consolidación y generación de código).
+     */
+    static class Parser extends InMemory {
+        private SyntacticAnalyzer syntacticAnalyzer;
+
+        Parser () {
+            super("sintactico");
+        }
+
+        @Override
+        public void prepare (String path) {
+            syntacticAnalyzer = new SyntacticAnalyzer(lexer(path), null, new CompilerOptions(), new CompilerStats(false));
+        }
+
+        @Override
+        public long run () {
+            return syntacticAnalyzer.run().length();
+        }
+    }
+
+    /**
+     * Ejecuta SemanticManager.consolidate sobre un programa ya analizado.
+     */
+    static class Consolidate extends Benchmark {
+        private SemanticManager semanticManager;
+
+        Consolidate () {
+            super("consolidacion");
+        }
+
+        @Override
+        public void prepare (String path) {
+            SyntacticAnalyzer syntacticAnalyzer = new SyntacticAnalyzer(path, new CompilerOptions());
+            syntacticAnalyzer.analyze();
+            semanticManager = syntacticAnalyzer.getSemanticManager();
+        }
+
+        @Override
+        public long run () {
+            semanticManager.consolidate();
+            return semanticManager.getSymbolTable().getStructs().size();
+        }
+    }
+
+    /**
+     * Ejecuta SemanticManager.generateCode sobre un programa ya consolidado.
+     */
+    static class Generate extends Benchmark {
+        private SemanticManager semanticManager;
+
+        Generate () {
+            super("generacion");
+        }
+
+        @Override
+        public void prepare (String path) {
+            SyntacticAnalyzer syntacticAnalyzer = new SyntacticAnalyzer(path, new CompilerOptions());
+            syntacticAnalyzer.analyze();
+            semanticManager = syntacticAnalyzer.getSemanticManager();
+            semanticManager.consolidate();
+        }
+
+        @Override
+        public long run () {
+            return semanticManager.generateCode().length();
+        }
+    }
+
+    /**
+     * Genera el JSON de la tabla de símbolos y del ast de un programa ya compilado.
+     */
+    static class Json extends Benchmark {
+        private SemanticManager semanticManager;
+        private String lastPath;
+
+        Json () {
+            super("json");
+        }
+
+        @Override
+        public void prepare (String path) {
+            //Solo se prepara una vez por archivo, toJSON no modifica el estado
+            if (semanticManager == null || !path.equals(lastPath)) {
+                SyntacticAnalyzer syntacticAnalyzer = new SyntacticAnalyzer(path, new CompilerOptions());
+                syntacticAnalyzer.run();
+                semanticManager = syntacticAnalyzer.getSemanticManager();
+                lastPath = path;
+            }
+        }
+
+        @Override
+        public long run () {
+            ArrayList<String> json = semanticManager.toJSON();
+            return json.get(0).length() + json.get(1).length();
+        }
+    }
+}
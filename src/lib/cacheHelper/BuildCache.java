@@ -0,0 +1,248 @@
+package src.lib.cacheHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import src.lib.CompilerOptions;
+import src.lib.Const;
+import src.main.CodeGenerator;
+
+/**
+ * Caché en disco de los archivos generados por el compilador.<br/>
+ *
+ * Cada entrada es una carpeta cuyo nombre es el hash SHA-256 del código
+ * fuente, la versión del compilador y las opciones que modifican el código
+ * generado, y contiene una copia de los archivos .asm, .ts.json y .ast.json.
+ * La fecha de modificación de la carpeta registra el último uso, y cuando el
+ * tamaño total supera el límite se eliminan las entradas usadas hace más
+ * tiempo (LRU).<br/>
+ *
+ * Los archivos se copian (no se enlazan) porque el compilador sobreescribe
+ * los resultados en el lugar, lo que modificaría la entrada de la caché.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class BuildCache {
+    /** Extensiones de los archivos generados que se guardan en la caché */
+    public static final String[] OUTPUTS = {".asm", ".ts.json", ".ast.json"};
+
+    /** Archivo de la carpeta de la caché que se bloquea al eliminar entradas */
+    private static final String LOCK_FILE = "evict.lock";
+
+    /** Bloqueo entre los hilos del proceso (El bloqueo del archivo es por proceso) */
+    private static final Object EVICT_LOCK = new Object();
+
+    /** Versión del compilador (Se combina con la huella de las clases compiladas) */
+    private static String compilerVersion;
+
+    private final Path directory;
+    private final long maxBytes;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param directory Carpeta de la caché
+     * @param maxBytes Tamaño máximo de la caché en bytes
+     */
+    public BuildCache (String directory, long maxBytes) {
+        this.directory = Paths.get(directory);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Calcula la clave de un código fuente.
+     *
+     * @param source Contenido del código fuente
+     * @param options Opciones del compilador
+     * @return Hash en hexadecimal
+     */
+    public String key (byte[] source, CompilerOptions options) {
+        MessageDigest digest = sha256();
+
+        digest.update((getCompilerVersion() + "\n" + options.getFingerprint() + "\n").getBytes(StandardCharsets.UTF_8));
+        digest.update(source);
+        return hex(digest.digest());
+    }
+
+    /**
+     * Copia los archivos de una entrada a su destino y la marca como usada.
+     *
+     * @param key Clave del código fuente
+     * @param resultPath Ubicación (sin extensión) de los archivos resultantes
+     * @return true si la entrada existía y se copió completa
+     */
+    public boolean restore (String key, String resultPath) {
+        Path entry = directory.resolve(key);
+
+        if (!Files.isDirectory(entry)) {
+            return false;
+        }
+        try {
+            for (String extension : OUTPUTS) {
+                Files.copy(entry.resolve("result" + extension), Paths.get(resultPath + extension), StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (IOException e) {
+            //Entrada incompleta o eliminada por otro proceso, se vuelve a compilar
+            return false;
+        }
+    }
+
+    /**
+     * Guarda los archivos generados en una entrada y aplica el límite de tamaño.<br/>
+     *
+     * La entrada se escribe en una carpeta temporal y luego se renombra, para
+     * que las compilaciones en paralelo nunca vean una entrada incompleta.
+     *
+     * @param key Clave del código fuente
+     * @param resultPath Ubicación (sin extensión) de los archivos resultantes
+     */
+    public void store (String key, String resultPath) {
+        Path entry = directory.resolve(key), temp = null;
+
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempDirectory(directory, key + ".tmp");
+            for (String extension : OUTPUTS) {
+                Files.copy(Paths.get(resultPath + extension), temp.resolve("result" + extension), StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            evict();
+        } catch (IOException e) {
+            //La caché es opcional, un error no afecta la compilación
+        } finally {
+            if (temp != null) {
+                delete(temp);
+            }
+        }
+    }
+
+    /**
+     * Elimina las entradas usadas hace más tiempo hasta respetar el tamaño máximo.<br/>
+     *
+     * Cada compilación usa su propia instancia, por lo que el bloqueo es de la
+     * clase (entre hilos) y de un archivo de la carpeta (entre procesos).
+     */
+    private void evict () throws IOException {
+        synchronized (EVICT_LOCK) {
+            try (FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+
+                try {
+                    ArrayList<Path> entries = new ArrayList<Path>();
+                    long total = 0;
+
+                    try (Stream<Path> stream = Files.list(directory)) {
+                        stream.filter(path -> Files.isDirectory(path) && !path.getFileName().toString().contains(".tmp")).forEach(entries::add);
+                    }
+                    for (Path entry : entries) {
+                        total += size(entry);
+                    }
+                    if (total <= maxBytes) {
+                        return;
+                    }
+
+                    entries.sort(Comparator.comparingLong(BuildCache::lastUse));
+                    for (Path entry : entries) {
+                        if (total <= maxBytes) {
+                            break;
+                        }
+                        total -= size(entry);
+                        delete(entry);
+                    }
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtiene la versión del compilador: el número de versión y una huella de
+     * las clases compiladas (nombre y contenido), para que una caché no se
+     * reutilice con otra compilación del compilador. No se usa la fecha de
+     * los archivos, que cambia al recompilar o copiar las mismas clases.
+     *
+     * @return String
+     */
+    public static synchronized String getCompilerVersion () {
+        if (compilerVersion == null) {
+            MessageDigest digest = sha256();
+
+            try {
+                Path location = Paths.get(CodeGenerator.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+                try (Stream<Path> stream = Files.walk(location)) {
+                    for (Path path : (Iterable<Path>) stream.filter(Files::isRegularFile).sorted()::iterator) {
+                        byte[] content = Files.readAllBytes(path);
+                        digest.update((location.relativize(path) + ":" + content.length + "\n").getBytes(StandardCharsets.UTF_8));
+                        digest.update(content);
+                    }
+                }
+            } catch (IOException | URISyntaxException | SecurityException | NullPointerException e) {
+                //Sin acceso a las clases, se usa solo el número de versión
+            }
+            compilerVersion = Const.COMPILER_VERSION + "-" + hex(digest.digest());
+        }
+        return compilerVersion;
+    }
+
+    private static long lastUse (Path entry) {
+        return entry.toFile().lastModified();
+    }
+
+    private static long size (Path entry) {
+        long size = 0;
+        File[] files = entry.toFile().listFiles();
+
+        for (File file : files != null ? files : new File[0]) {
+            size += file.length();
+        }
+        return size;
+    }
+
+    private static void delete (Path entry) {
+        File[] files = entry.toFile().listFiles();
+
+        for (File file : files != null ? files : new File[0]) {
+            file.delete();
+        }
+        entry.toFile().delete();
+    }
+
+    private static MessageDigest sha256 () {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            //Todas las JVM deben implementar SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex (byte[] bytes) {
+        StringBuilder builder = new StringBuilder();
+
+        for (byte b : bytes) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+}
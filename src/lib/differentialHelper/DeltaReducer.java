@@ -0,0 +1,191 @@
+package src.lib.differentialHelper;
+
+import java.util.ArrayList;
+import java.util.function.Predicate;
+
+/**
+ * Reduce un programa que produce un fallo a un programa mínimo que lo sigue
+ * produciendo (Delta debugging jerárquico).<br/>
+ *
+ * El programa se divide en unidades a nivel de texto, sin usar el analizador
+ * sintáctico: una unidad termina en ';' o en la llave que cierra su bloque, y
+ * las llaves anidadas forman los niveles (un if con su else es una única
+ * unidad). Es una aproximación de las declaraciones de primer nivel, los
+ * miembros y las sentencias: por ejemplo, la condición de un while o la lista
+ * de parámetros de un método no se dividen, y un candidato puede no compilar
+ * (el oráculo lo descarta). Se intenta eliminar grupos de unidades de cada
+ * nivel, desde el más externo, y se acepta la eliminación si el oráculo sigue
+ * indicando el fallo.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class DeltaReducer {
+    private int tests;
+
+    /**
+     * Unidad de texto: posición en el código y las unidades de sus bloques.
+     */
+    private static class Unit {
+        int start, end;
+        ArrayList<ArrayList<Unit>> blocks = new ArrayList<ArrayList<Unit>>();
+    }
+
+    /**
+     * Obtiene la cantidad de veces que se consultó al oráculo en la última reducción.
+     *
+     * @return Cantidad
+     */
+    public int getTests () {
+        return tests;
+    }
+
+    /**
+     * Reduce el programa.
+     *
+     * @param source Código fuente que produce el fallo
+     * @param oracle Retorna true si un código fuente sigue produciendo el fallo
+     * @return Código fuente mínimo
+     */
+    public String reduce (String source, Predicate<String> oracle) {
+        boolean changed = true;
+        tests = 0;
+
+        while (changed) {
+            changed = false;
+            ArrayList<ArrayList<Unit>> lists = new ArrayList<ArrayList<Unit>>();
+            collect(parse(source), lists);
+
+            search:
+            for (ArrayList<Unit> list : lists) {
+                //Intenta eliminar grupos cada vez más chicos (superpuestos, para no depender de la alineación)
+                for (int size = list.size(); size >= 1; size = size > 1 ? (size + 1) / 2 : 0) {
+                    for (int i = 0; i + size <= list.size(); i += Math.max(1, size / 2)) {
+                        String candidate = source.substring(0, list.get(i).start) + source.substring(list.get(i + size - 1).end);
+
+                        tests++;
+                        if (oracle.test(candidate)) {
+                            source = candidate;
+                            changed = true;
+                            break search;
+                        }
+                    }
+                }
+            }
+        }
+
+        //Quita las líneas vacías que dejaron las eliminaciones
+        String compact = source.replaceAll("\n[ \t\r]*(?=\n)", "");
+        tests++;
+        return !compact.equals(source) && oracle.test(compact) ? compact : source;
+    }
+
+    /**
+     * Agrega las listas de unidades en preorden (primero los niveles externos).
+     */
+    private static void collect (ArrayList<Unit> units, ArrayList<ArrayList<Unit>> lists) {
+        lists.add(units);
+        for (Unit unit : units) {
+            for (ArrayList<Unit> block : unit.blocks) {
+                collect(block, lists);
+            }
+        }
+    }
+
+    /**
+     * Divide el código fuente en unidades (Solo considera ';', llaves,
+     * comentarios y literales).
+     */
+    private static ArrayList<Unit> parse (String source) {
+        int[] position = {0};
+        return parseUnits(source, position);
+    }
+
+    /**
+     * Obtiene las unidades hasta el cierre del bloque actual (o el fin del código).
+     */
+    private static ArrayList<Unit> parseUnits (String source, int[] position) {
+        ArrayList<Unit> units = new ArrayList<Unit>();
+        Unit unit = null;
+
+        while (position[0] < source.length()) {
+            int i = skip(source, position[0]);
+            position[0] = i;
+            if (i >= source.length()) {
+                break;
+            }
+
+            char c = source.charAt(i);
+            if (c == '}') {
+                break;
+            }
+            if (unit == null) {
+                unit = new Unit();
+                unit.start = i;
+            }
+
+            if (c == ';') {
+                position[0] = i + 1;
+                unit.end = position[0];
+                units.add(unit);
+                unit = null;
+            } else if (c == '{') {
+                position[0] = i + 1;
+                unit.blocks.add(parseUnits(source, position));
+                //Consume el cierre del bloque
+                position[0] = Math.min(source.length(), skip(source, position[0]) + 1);
+
+                //Un if con else forma una única unidad
+                int next = skip(source, position[0]);
+                if (!source.startsWith("else", next)) {
+                    unit.end = position[0];
+                    units.add(unit);
+                    unit = null;
+                }
+            } else if (c == '"' || c == '\'') {
+                position[0] = skipLiteral(source, i);
+            } else {
+                position[0] = i + 1;
+            }
+        }
+
+        //Unidad sin terminar (código inválido)
+        if (unit != null) {
+            unit.end = position[0];
+            units.add(unit);
+        }
+        return units;
+    }
+
+    /**
+     * Saltea espacios y comentarios.
+     */
+    private static int skip (String source, int i) {
+        while (i < source.length()) {
+            if (Character.isWhitespace(source.charAt(i))) {
+                i++;
+            } else if (source.startsWith("/?", i)) {
+                int end = source.indexOf('\n', i);
+                i = end < 0 ? source.length() : end + 1;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Saltea un literal string o char (respetando los escapes).
+     */
+    private static int skipLiteral (String source, int i) {
+        char quote = source.charAt(i);
+
+        for (i++; i < source.length() && source.charAt(i) != quote && source.charAt(i) != '\n'; i++) {
+            if (source.charAt(i) == '\\') {
+                i++;
+            }
+        }
+        return Math.min(source.length(), i + 1);
+    }
+}
@@ -0,0 +1,171 @@
+package src.lib.differentialHelper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import src.lib.CompilerOptions;
+import src.lib.mipsHelper.Assembler;
+import src.lib.mipsHelper.MipsException;
+import src.lib.mipsHelper.Simulator;
+import src.main.SyntacticAnalyzer;
+
+/**
+ * Compila un programa con varias variantes del compilador (niveles de
+ * optimización, runtime, etc.), ejecuta cada resultado en el simulador MIPS y
+ * compara la salida y el estado contra la variante base.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class DifferentialTester {
+    private final ArrayList<String> names;
+    private final ArrayList<String[]> variants;
+    private final String input;
+    private final long stepLimit;
+    private final File workDir;
+    private int tempCount;
+
+    /**
+     * Constructor de la clase. La variante base compila con las opciones por defecto.
+     *
+     * @param input Entrada estándar de los programas
+     * @param stepLimit Límite de instrucciones de cada ejecución
+     * @param workDir Carpeta para los archivos temporales
+     */
+    public DifferentialTester (String input, long stepLimit, File workDir) {
+        this.names = new ArrayList<String>();
+        this.variants = new ArrayList<String[]>();
+        this.input = input;
+        this.stepLimit = stepLimit;
+        this.workDir = workDir;
+        this.tempCount = 0;
+        addVariant("base", new String[0]);
+    }
+
+    /**
+     * Agrega una variante a comparar contra la base.
+     *
+     * @param name Nombre de la variante
+     * @param args Opciones del compilador (como en la línea de comandos)
+     */
+    public void addVariant (String name, String[] args) {
+        names.add(name);
+        variants.add(args);
+    }
+
+    /**
+     * Obtiene los nombres de las variantes (La primera es la base).
+     *
+     * @return Lista de nombres
+     */
+    public ArrayList<String> getVariantNames () {
+        return names;
+    }
+
+    /**
+     * Compila y ejecuta un programa con una variante.
+     *
+     * @param path Ubicación del código fuente
+     * @param args Opciones del compilador
+     * @return Resultado de la ejecución
+     */
+    public ExecutionResult execute (String path, String[] args) {
+        String[] options = Arrays.copyOf(args, args.length + 1);
+        String code;
+
+        options[args.length] = path;
+        try {
+            code = new SyntacticAnalyzer(path, CompilerOptions.parse(options)).run();
+        } catch (Exception e) {
+            return new ExecutionResult(String.valueOf(e.getMessage()), "", 0, 0);
+        }
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            Simulator simulator = new Simulator(
+                new Assembler().assemble(code),
+                new BufferedReader(new StringReader(input)),
+                new PrintStream(output, true, StandardCharsets.UTF_8)
+            );
+            int status = simulator.run(stepLimit);
+
+            return new ExecutionResult(null, output.toString(StandardCharsets.UTF_8), status, simulator.getInstructions());
+        }
+        //El código generado no se pudo ensamblar
+        catch (MipsException e) {
+            return new ExecutionResult(null, String.valueOf(e.getMessage()), "", Simulator.EXIT_RUNTIME_ERROR, 0);
+        }
+    }
+
+    /**
+     * Compila y ejecuta un programa con todas las variantes.
+     *
+     * @param path Ubicación del código fuente
+     * @return Resultados en el orden de las variantes
+     */
+    public ArrayList<ExecutionResult> executeAll (String path) {
+        ArrayList<ExecutionResult> results = new ArrayList<ExecutionResult>();
+
+        for (String[] args : variants) {
+            results.add(execute(path, args));
+        }
+        return results;
+    }
+
+    /**
+     * Busca la primer variante cuyo resultado difiere de la base.<br/>
+     *
+     * Si la base no compila, alguna variante no se puede ensamblar o alguna
+     * ejecución alcanza el límite de instrucciones, el resultado no es
+     * comparable y no se considera divergente.
+     *
+     * @param results Resultados obtenidos con {@link #executeAll(String)}
+     * @return Índice de la variante divergente o -1
+     */
+    public static int findDivergence (ArrayList<ExecutionResult> results) {
+        ExecutionResult base = results.get(0);
+
+        if (base.getCompileError() != null) {
+            return -1;
+        }
+        for (ExecutionResult result : results) {
+            if (result.getAssembleError() != null || result.isInconclusive()) {
+                return -1;
+            }
+        }
+        for (int i = 1; i < results.size(); i++) {
+            if (!base.isEquivalent(results.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Avisa si un código fuente genera resultados divergentes (Oráculo de la reducción).
+     *
+     * @param source Código fuente
+     * @return Booleano
+     */
+    public boolean diverges (String source) {
+        File file = new File(workDir, "candidate" + (tempCount++) + ".ru");
+
+        try {
+            Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+            return findDivergence(executeAll(file.getPath())) >= 0;
+        } catch (IOException e) {
+            return false;
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package src.lib.differentialHelper;
+
+import src.lib.mipsHelper.Simulator;
+
+/**
+ * Resultado de compilar y ejecutar un programa con una variante del compilador.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class ExecutionResult {
+    private final String compileError, assembleError, output;
+    private final int status;
+    private final long instructions;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param compileError Error de compilación (null si compiló correctamente)
+     * @param output Salida estándar del programa
+     * @param status Estado de salida del simulador
+     * @param instructions Instrucciones ejecutadas
+     */
+    public ExecutionResult (String compileError, String output, int status, long instructions) {
+        this(compileError, null, output, status, instructions);
+    }
+
+    /**
+     * Constructor de la clase con el error del ensamblador.
+     *
+     * @param compileError Error de compilación (null si compiló correctamente)
+     * @param assembleError Error al ensamblar el código generado (null si se ensambló)
+     * @param output Salida estándar del programa
+     * @param status Estado de salida del simulador
+     * @param instructions Instrucciones ejecutadas
+     */
+    public ExecutionResult (String compileError, String assembleError, String output, int status, long instructions) {
+        this.compileError = compileError;
+        this.assembleError = assembleError;
+        this.output = output;
+        this.status = status;
+        this.instructions = instructions;
+    }
+
+    /**
+     * Obtiene el error de compilación.
+     *
+     * @return Mensaje o null si compiló correctamente
+     */
+    public String getCompileError () {
+        return compileError;
+    }
+
+    /**
+     * Obtiene el error al ensamblar el código generado. El programa no se
+     * ejecutó, por lo que el resultado no es comparable.
+     *
+     * @return Mensaje o null si se ensambló correctamente
+     */
+    public String getAssembleError () {
+        return assembleError;
+    }
+
+    /**
+     * Obtiene la salida estándar del programa.
+     *
+     * @return String
+     */
+    public String getOutput () {
+        return output;
+    }
+
+    /**
+     * Obtiene el estado de salida del simulador.
+     *
+     * @return Estado
+     */
+    public int getStatus () {
+        return status;
+    }
+
+    /**
+     * Obtiene la cantidad de instrucciones ejecutadas.
+     *
+     * @return Cantidad
+     */
+    public long getInstructions () {
+        return instructions;
+    }
+
+    /**
+     * Avisa si la ejecución no terminó por alcanzar el límite de instrucciones.
+     * En ese caso la salida no es comparable.
+     *
+     * @return Booleano
+     */
+    public boolean isInconclusive () {
+        return compileError == null && status == Simulator.EXIT_STEP_LIMIT;
+    }
+
+    /**
+     * Compara el resultado observable (error de compilación, salida y estado).
+     *
+     * @param other Resultado a comparar
+     * @return True si son equivalentes
+     */
+    public boolean isEquivalent (ExecutionResult other) {
+        if (compileError != null || other.compileError != null) {
+            return (compileError == null) == (other.compileError == null);
+        }
+        return status == other.status && output.equals(other.output);
+    }
+
+    /**
+     * Genera una descripción breve del resultado.
+     *
+     * @return String
+     */
+    @Override
+    public String toString () {
+        if (compileError != null) {
+            return "error de compilacion: " + compileError;
+        }
+        if (assembleError != null) {
+            return "error de ensamblado: " + assembleError;
+        }
+        return "estado " + status + ", " + instructions + " instrucciones, salida \"" +
+            (output.length() > 200 ? output.substring(0, 200) + "..." : output) + "\"";
+    }
+}
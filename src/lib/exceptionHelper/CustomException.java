@@ -1,14 +1,27 @@
 package src.lib.exceptionHelper;
 
+import java.util.List;
+
 /**
  * Clase abstracta que se utilizara para aceptar errores del tipo indicado
- * y para generar el string de error a escribir o mostrar en consola
+ * y para generar el string de error a escribir o mostrar en consola.<br/>
+ * 
+ * Las excepciones no guardan la pila de llamadas (Se usan para informar
+ * errores del código fuente, no del compilador) y el mensaje se genera
+ * recién cuando se solicita.
  * 
  * @author Cristian Serrano
  * @author Federico Gimenez
  * @since 12/03/2024
  */
 public abstract class CustomException extends RuntimeException {
+    private final String type;
+    private final int line;
+    private final int column;
+    private final String description;
+    private final List<? extends CustomException> errors;
+    private String message;
+
     /**
      * Constructor de la clase.
      * 
@@ -19,11 +32,105 @@ public abstract class CustomException extends RuntimeException {
      * @param description Descripción de la excepción.
      */
     public CustomException (String type, int line, int column, String description) {
-        super(
-            type +
-            "\n| LINEA " + Integer.toString(line) +
-            " | COLUMNA " + Integer.toString(column) +
-            " | " + description + " |"
-        );
-    }
-}
\ No newline at end of file
+        super(null, null, false, false);
+        this.type = type;
+        this.line = line;
+        this.column = column;
+        this.description = description;
+        this.errors = null;
+    }
+
+    /**
+     * Constructor de la clase con varios errores. Los datos de la excepción
+     * son los del primer error.
+     * 
+     * @param errors Errores en el orden en que se encontraron
+     */
+    protected CustomException (List<? extends CustomException> errors) {
+        super(null, null, false, false);
+        this.type = errors.get(0).getType();
+        this.line = errors.get(0).getLine();
+        this.column = errors.get(0).getColumn();
+        this.description = null;
+        this.errors = errors;
+    }
+
+    /**
+     * Obtiene el tipo de excepción (Encabezado del mensaje).
+     * 
+     * @return String
+     */
+    public String getType () {
+        return type;
+    }
+
+    /**
+     * Obtiene la línea en la que se encuentra la excepción.
+     * 
+     * @return Entero
+     */
+    public int getLine () {
+        return line;
+    }
+
+    /**
+     * Obtiene la columna en la que se encuentra la excepción.
+     * 
+     * @return Entero
+     */
+    public int getColumn () {
+        return column;
+    }
+
+    /**
+     * Obtiene la descripción de la excepción.
+     * 
+     * @return String
+     */
+    public String getDescription () {
+        return description;
+    }
+
+    /**
+     * Genera el mensaje de la excepción la primera vez que se solicita.
+     * 
+     * @return Mensaje completo
+     */
+    @Override
+    public String getMessage () {
+        if (message == null) {
+            message = errors != null
+                ? join(errors)
+                : type +
+                    "\n| LINEA " + Integer.toString(line) +
+                    " | COLUMNA " + Integer.toString(column) +
+                    " | " + getDescription() + " |";
+        }
+        return message;
+    }
+
+    /**
+     * Une los mensajes de varios errores. Los errores consecutivos con el
+     * mismo encabezado se muestran como filas de una única tabla.
+     * 
+     * @param errors Errores en el orden en que se encontraron
+     * @return Mensaje con todos los errores
+     */
+    private static String join (List<? extends CustomException> errors) {
+        String message = "", previousHeader = null;
+
+        for (CustomException error : errors) {
+            String text = error.getMessage();
+            int index = text.indexOf("\n| LINEA ");
+            String header = index >= 0 ? text.substring(0, index) : text;
+
+            if (header.equals(previousHeader)) {
+                message += text.substring(index);
+            } else {
+                message += (message.isEmpty() ? "" : "\n") + text;
+            }
+            previousHeader = header;
+        }
+        return message;
+    }
+}
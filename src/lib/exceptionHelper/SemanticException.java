@@ -1,5 +1,7 @@
 package src.lib.exceptionHelper;
 
+import java.util.List;
+
 import src.lib.Const;
 import src.lib.tokenHelper.Token;
 
@@ -30,4 +32,13 @@ public class SemanticException extends CustomException{
     public SemanticException(Token token, String description, boolean isSentence){
         super(Const.ERROR_SEMANTIC_SENT_HEADER, token.getLine(), token.getColumn(), description);
     }
+
+    /**
+     * Constructor de la clase con varios errores semánticos.
+     * 
+     * @param errors Errores en el orden en que se encontraron
+     */
+    public SemanticException(List<SemanticException> errors){
+        super(errors);
+    }
 }
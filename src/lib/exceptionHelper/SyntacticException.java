@@ -1,6 +1,11 @@
 package src.lib.exceptionHelper;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import src.lib.Const;
+import src.lib.tokenHelper.IDToken;
 import src.lib.tokenHelper.Token;
 
 /**
@@ -11,6 +16,10 @@ import src.lib.tokenHelper.Token;
  * @since 06/04/2024
  */
 public class SyntacticException extends CustomException {
+    private final String expected;
+    private final Collection<IDToken> expectedTokens;
+    private final IDToken found;
+
     /**
      * Constructor de la clase.
      * 
@@ -19,6 +28,55 @@ public class SyntacticException extends CustomException {
      * @param expected string que representa el token que se esperaba
      */
     public SyntacticException(Token token, String expected){
-        super(Const.ERROR_SYNTACTIC_HEADER, token.getLine(), token.getColumn(), "SE ESPERABA: " + expected + " Y SE ENCONTRO: " + token.getIDToken().toString());
+        super(Const.ERROR_SYNTACTIC_HEADER, token.getLine(), token.getColumn(), null);
+        this.expected = expected;
+        this.expectedTokens = null;
+        this.found = token.getIDToken();
+    }
+
+    /**
+     * Constructor de la clase con los tokens esperados. La lista de tokens
+     * se convierte a texto recién cuando se genera el mensaje, ordenada según
+     * la declaración de IDToken (El orden de un HashSet de enums cambia entre ejecuciones).
+     * 
+     * @param token token que genera la excepción
+     * @param expected tokens que se esperaban (No se deben modificar luego)
+     */
+    public SyntacticException(Token token, Collection<IDToken> expected){
+        super(Const.ERROR_SYNTACTIC_HEADER, token.getLine(), token.getColumn(), null);
+        this.expected = null;
+        this.expectedTokens = expected;
+        this.found = token.getIDToken();
+    }
+
+    /**
+     * Constructor de la clase con varios errores sintácticos.
+     * 
+     * @param errors Errores en el orden en que se encontraron
+     */
+    public SyntacticException(List<SyntacticException> errors){
+        super(errors);
+        this.expected = null;
+        this.expectedTokens = null;
+        this.found = null;
+    }
+
+    /**
+     * Obtiene la descripción del error con los tokens esperados y el encontrado
+     * (Con varios errores no hay un token encontrado y se usa la descripción de CustomException).
+     * 
+     * @return String
+     */
+    @Override
+    public String getDescription () {
+        if (found == null) {
+            return super.getDescription();
+        }
+
+        String text = expectedTokens == null
+            ? expected
+            : expectedTokens.stream().sorted().map(Object::toString).collect(Collectors.joining(", "));
+
+        return "SE ESPERABA: " + text + " Y SE ENCONTRO: " + found.toString();
     }
 }
@@ -0,0 +1,321 @@
+package src.lib.generatorHelper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Genera programas .ru sintéticos y válidos para pruebas de escala.<br/>
+ *
+ * La salida es determinística: con los mismos parámetros y la misma semilla
+ * se genera siempre el mismo programa. Se escribe directamente sobre un
+ * Writer para poder generar archivos de cientos de megabytes.<br/>
+ *
+ * Con herencia (depth mayor a 1, el valor por defecto es 3) los programas
+ * solo sirven para medir el análisis y la consolidación: el código generado
+ * no se puede ensamblar, porque las vtables de las estructuras hijas
+ * referencian etiquetas de métodos heredados que no se generan. Para
+ * ejecutar los programas (por ejemplo en las pruebas diferenciales) se debe
+ * usar depth 1.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class ProgramGenerator {
+    private int structs, depth, methods, statements, nesting;
+    private boolean useStrings, useArrays;
+    private long seed;
+    private Random random;
+
+    /**
+     * Constructor de la clase. Genera la configuración por defecto.
+     */
+    public ProgramGenerator () {
+        structs = 10;
+        depth = 3;
+        methods = 5;
+        statements = 10;
+        nesting = 3;
+        useStrings = true;
+        useArrays = true;
+        seed = 2024;
+    }
+
+    /**
+     * Establece la cantidad de estructuras.
+     *
+     * @param structs Cantidad (Mayor a 0)
+     */
+    public void setStructs (int structs) {
+        this.structs = Math.max(1, structs);
+    }
+
+    /**
+     * Establece la profundidad máxima de las cadenas de herencia.
+     *
+     * @param depth Profundidad (1 = sin herencia, único valor con el que el programa se puede ensamblar)
+     */
+    public void setDepth (int depth) {
+        this.depth = Math.max(1, depth);
+    }
+
+    /**
+     * Establece la cantidad de métodos de cada estructura (sin contar el constructor).
+     *
+     * @param methods Cantidad (Mayor a 0)
+     */
+    public void setMethods (int methods) {
+        this.methods = Math.max(1, methods);
+    }
+
+    /**
+     * Establece la cantidad de sentencias de cada método.
+     *
+     * @param statements Cantidad
+     */
+    public void setStatements (int statements) {
+        this.statements = Math.max(0, statements);
+    }
+
+    /**
+     * Establece la profundidad de anidamiento de las expresiones.
+     *
+     * @param nesting Profundidad (1 = expresiones simples)
+     */
+    public void setNesting (int nesting) {
+        this.nesting = Math.max(1, nesting);
+    }
+
+    /**
+     * Indica si se deben generar sentencias con strings.
+     *
+     * @param useStrings Booleano
+     */
+    public void setUseStrings (boolean useStrings) {
+        this.useStrings = useStrings;
+    }
+
+    /**
+     * Indica si se deben generar sentencias con arrays.
+     *
+     * @param useArrays Booleano
+     */
+    public void setUseArrays (boolean useArrays) {
+        this.useArrays = useArrays;
+    }
+
+    /**
+     * Establece la semilla del generador.
+     *
+     * @param seed Semilla
+     */
+    public void setSeed (long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Ajusta la cantidad de estructuras para que el programa tenga
+     * aproximadamente el tamaño indicado.<br/>
+     *
+     * Mide el tamaño promedio de una estructura generando una muestra con la
+     * configuración actual.
+     *
+     * @param bytes Tamaño deseado
+     */
+    public void setTargetSize (long bytes) {
+        int sample = Math.max(depth, 8);
+        StringWriter writer = new StringWriter();
+        int structs = this.structs;
+
+        try {
+            this.structs = sample;
+            generate(writer);
+        } catch (IOException e) {
+            //StringWriter no genera errores de escritura
+        }
+
+        long structSize = Math.max(1, writer.getBuffer().length() / sample);
+        this.structs = structs;
+        setStructs((int) Math.min(Integer.MAX_VALUE, bytes / structSize));
+    }
+
+    /**
+     * Escribe el programa completo.
+     *
+     * @param out Destino
+     * @throws IOException Si no se puede escribir
+     */
+    public void generate (Writer out) throws IOException {
+        random = new Random(seed);
+
+        out.write("/? Programa sintetico: " + structs + " estructuras, herencia " + depth +
+            ", " + methods + " metodos, " + statements + " sentencias, anidamiento " + nesting + "\n\n");
+
+        for (int i = 0; i < structs; i++) {
+            generateStruct(out, i);
+            generateImpl(out, i);
+        }
+        generateStart(out);
+        out.flush();
+    }
+
+    /**
+     * Los identificadores de struct deben terminar en letra, el índice se
+     * codifica en base 26 (S0 = Sa, S1 = Sb, ..., S26 = Sba).
+     */
+    private static String structName (int index) {
+        String name = "";
+
+        do {
+            name = (char) ('a' + index % 26) + name;
+            index /= 26;
+        } while (index > 0);
+        return "S" + name;
+    }
+
+    /**
+     * Las estructuras se agrupan en cadenas de herencia de largo depth.
+     */
+    private boolean hasParent (int index) {
+        return index % depth != 0;
+    }
+
+    private void generateStruct (Writer out, int index) throws IOException {
+        out.write("struct " + structName(index) + (hasParent(index) ? " : " + structName(index - 1) : "") + " {\n");
+        out.write("    Int a" + index + ", b" + index + ";\n");
+        if (useStrings) {
+            out.write("    Str s" + index + ";\n");
+        }
+        if (useArrays) {
+            out.write("    Array Int arr" + index + ";\n");
+        }
+        out.write("}\n");
+    }
+
+    private void generateImpl (Writer out, int index) throws IOException {
+        out.write("impl " + structName(index) + " {\n");
+
+        //Constructor
+        out.write("    .(){\n");
+        out.write("        a" + index + " = " + random.nextInt(100) + ";\n");
+        out.write("        b" + index + " = " + random.nextInt(100) + ";\n");
+        if (useArrays) {
+            out.write("        arr" + index + " = new Int[" + (1 + random.nextInt(16)) + "];\n");
+        }
+        out.write("    }\n");
+
+        for (int j = 0; j < methods; j++) {
+            generateMethod(out, index, j);
+        }
+        out.write("}\n\n");
+    }
+
+    private void generateMethod (Writer out, int index, int method) throws IOException {
+        out.write("    fn m" + index + "_" + method + "(Int p, Int q)->Int{\n");
+        out.write("        Int v0, v1, v2;\n");
+        if (useStrings) {
+            out.write("        Str t;\n");
+        }
+        if (useArrays) {
+            out.write("        Array Int w;\n");
+            out.write("        w = new Int[8];\n");
+        }
+        out.write("        v0 = p;\n        v1 = q;\n        v2 = a" + index + ";\n");
+
+        for (int k = 0; k < statements; k++) {
+            generateStatement(out, index, method, "        ");
+        }
+
+        out.write("        ret v0;\n");
+        out.write("    }\n");
+    }
+
+    private void generateStatement (Writer out, int index, int method, String tabs) throws IOException {
+        switch (random.nextInt(7)) {
+            case 0:
+                out.write(tabs + "if (" + expression(index, 1) + " < " + expression(index, nesting) + ") {\n");
+                out.write(tabs + "    v1 = " + expression(index, nesting) + ";\n");
+                out.write(tabs + "} else {\n");
+                out.write(tabs + "    v2 = " + expression(index, nesting) + ";\n");
+                out.write(tabs + "}\n");
+                break;
+            case 1:
+                //Parte de 0 para que el ciclo itere como máximo 9 veces
+                out.write(tabs + "v2 = 0;\n");
+                out.write(tabs + "while (v2 < " + random.nextInt(10) + ") {\n");
+                out.write(tabs + "    v2 = v2 + 1;\n");
+                out.write(tabs + "}\n");
+                break;
+            case 2:
+                //Solo se llaman métodos previos para evitar recursión infinita
+                if (method > 0) {
+                    out.write(tabs + "v1 = m" + index + "_" + random.nextInt(method) + "(" +
+                        expression(index, nesting) + ", " + expression(index, 1) + ");\n");
+                } else {
+                    out.write(tabs + "b" + index + " = " + expression(index, nesting) + ";\n");
+                }
+                break;
+            case 5:
+                if (useStrings) {
+                    out.write(tabs + "t = \"str" + random.nextInt(1000) + "\";\n");
+                    out.write(tabs + "(IO.out_str(t));\n");
+                } else {
+                    generateAssignation(out, index, tabs);
+                }
+                break;
+            case 6:
+                if (useArrays) {
+                    out.write(tabs + "w[" + random.nextInt(8) + "] = " + expression(index, nesting) + ";\n");
+                    out.write(tabs + "v1 = w[" + random.nextInt(8) + "] + w.length();\n");
+                } else {
+                    generateAssignation(out, index, tabs);
+                }
+                break;
+            default:
+                generateAssignation(out, index, tabs);
+                break;
+        }
+    }
+
+    /**
+     * Genera la sentencia por defecto: la asignación de una expresión a una variable local.
+     */
+    private void generateAssignation (Writer out, int index, String tabs) throws IOException {
+        out.write(tabs + "v" + random.nextInt(3) + " = " + expression(index, nesting) + ";\n");
+    }
+
+    /**
+     * Genera una expresión entera con la profundidad de anidamiento indicada.
+     */
+    private String expression (int index, int level) {
+        if (level <= 1) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    return String.valueOf(random.nextInt(100));
+                case 1:
+                    return "a" + index;
+                default:
+                    return "v" + random.nextInt(3);
+            }
+        }
+        String operator = random.nextBoolean() ? " + " : (random.nextBoolean() ? " - " : " * ");
+        return "(" + expression(index, level - 1) + operator + expression(index, level - 1) + ")";
+    }
+
+    private void generateStart (Writer out) throws IOException {
+        out.write("start{\n");
+        out.write("    Int total;\n");
+        for (int i = 0; i < structs; i++) {
+            out.write("    " + structName(i) + " o" + i + ";\n");
+        }
+        out.write("    total = 0;\n");
+        for (int i = 0; i < structs; i++) {
+            out.write("    o" + i + " = new " + structName(i) + "();\n");
+            out.write("    total = total + o" + i + ".m" + i + "_0(" + i + ", 1);\n");
+        }
+        out.write("    (IO.out_int(total));\n");
+        out.write("}\n");
+    }
+}
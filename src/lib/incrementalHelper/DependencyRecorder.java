@@ -0,0 +1,86 @@
+package src.lib.incrementalHelper;
+
+import java.util.LinkedHashSet;
+
+/**
+ * Registra las estructuras que consulta un bloque de sentencias mientras se
+ * consolida o genera su código (Sus dependencias en la compilación
+ * incremental).<br/>
+ *
+ * El registro es por hilo, por lo que funciona con la consolidación y la
+ * generación en paralelo. Fuera de la compilación incremental no hay un
+ * registro activo y las consultas no tienen efecto.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class DependencyRecorder {
+    private static final ThreadLocal<DependencyRecorder> current = new ThreadLocal<DependencyRecorder>();
+
+    private final LinkedHashSet<String> uses, creates;
+    private final DependencyRecorder previous;
+
+    private DependencyRecorder (DependencyRecorder previous) {
+        this.uses = new LinkedHashSet<String>();
+        this.creates = new LinkedHashSet<String>();
+        this.previous = previous;
+    }
+
+    /**
+     * Comienza un registro en el hilo actual.
+     *
+     * @return Registro
+     */
+    public static DependencyRecorder start () {
+        DependencyRecorder recorder = new DependencyRecorder(current.get());
+        current.set(recorder);
+        return recorder;
+    }
+
+    /**
+     * Finaliza el registro, restaurando el anterior del hilo actual.
+     */
+    public void stop () {
+        if (previous != null) {
+            current.set(previous);
+        } else {
+            current.remove();
+        }
+    }
+
+    /**
+     * Registra la consulta de una estructura.
+     *
+     * @param name Nombre de la estructura
+     */
+    public static void use (String name) {
+        DependencyRecorder recorder = current.get();
+
+        if (recorder != null && name != null) {
+            recorder.uses.add(name);
+        }
+    }
+
+    /**
+     * Registra que se crea una instancia de una estructura (Para reservar
+     * memoria para sus atributos aunque no se vuelva a generar el código).
+     *
+     * @param name Nombre de la estructura
+     */
+    public static void create (String name) {
+        DependencyRecorder recorder = current.get();
+
+        if (recorder != null && name != null) {
+            recorder.creates.add(name);
+        }
+    }
+
+    public LinkedHashSet<String> getUses () {
+        return uses;
+    }
+
+    public LinkedHashSet<String> getCreates () {
+        return creates;
+    }
+}
@@ -0,0 +1,335 @@
+package src.lib.incrementalHelper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import src.lib.CompilerOptions;
+import src.lib.Const;
+import src.lib.exceptionHelper.LexicalException;
+import src.lib.exceptionHelper.SemanticException;
+import src.lib.exceptionHelper.SyntacticException;
+import src.lib.lexicalHelper.FileManager;
+import src.lib.optimizationHelper.PassManager;
+import src.lib.semanticHelper.SemanticManager;
+import src.lib.semanticHelper.SymbolTable;
+import src.lib.semanticHelper.symbolTableHelper.Method;
+import src.lib.semanticHelper.symbolTableHelper.Struct;
+import src.lib.semanticHelper.symbolTableHelper.Variable;
+import src.lib.statsHelper.CompilerStats;
+import src.main.LexicalAnalyzer;
+import src.main.SyntacticAnalyzer;
+
+/**
+ * Compilador incremental de un archivo fuente. Conserva en memoria el estado
+ * de la última compilación correcta y, en la siguiente, solo vuelve a
+ * analizar y generar los bloques que cambiaron y los que dependen de ellos.<br/>
+ *
+ * <br/>Cada bloque de primer nivel (struct, impl, start) es una unidad:<br/>
+ * - Si su texto no cambió, se repiten sus acciones semánticas sin analizarlo.<br/>
+ * - Si cambió, se analiza solo su texto (conservando líneas y columnas).<br/>
+ * - La tabla de símbolos se reconstruye y consolida completa, ya que es
+ * pequeña frente al código de los métodos.<br/>
+ * - Cada estructura tiene una huella con sus miembros propios y la huella de
+ * su padre. Un bloque de sentencias reutiliza su código mientras no cambie la
+ * huella de las estructuras que consultó; si cambió, su unidad se vuelve a
+ * analizar, ya que la consolidación modifica el ast del bloque.<br/>
+ *
+ * <br/>Ante cualquier error compila el archivo completo, para informarlo igual
+ * que la compilación normal, y conserva el estado anterior.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class IncrementalCompiler {
+    /** Compiladores por archivo (Se descartan los usados hace más tiempo) */
+    private static final LinkedHashMap<String, IncrementalCompiler> compilers =
+        new LinkedHashMap<String, IncrementalCompiler>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry (Map.Entry<String, IncrementalCompiler> eldest) {
+                return size() > Const.INCREMENTAL_MAX_FILES;
+            }
+        };
+
+    /**
+     * Unidad de compilación: un bloque de primer nivel con sus acciones
+     * semánticas y sus bloques de sentencias.
+     */
+    private static class Unit {
+        SourceBlock block;
+        ArrayList<Consumer<SemanticManager>> journal = new ArrayList<Consumer<SemanticManager>>();
+        ArrayList<TrackedBlock> blocks = new ArrayList<TrackedBlock>();
+
+        /** Avisa si algún bloque de sentencias confirmado depende de una estructura que cambió */
+        boolean isStale (Map<String, String> fingerprints) {
+            for (TrackedBlock tracked : blocks) {
+                if (tracked.isCompiled() && tracked.isStale(fingerprints)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final String path;
+    private ArrayList<Unit> units;
+    private String optionsFingerprint;
+    private SemanticManager semanticManager;
+
+    private IncrementalCompiler (String path) {
+        this.path = path;
+        this.units = new ArrayList<Unit>();
+    }
+
+    /**
+     * Obtiene el compilador incremental de un archivo (Lo genera si no existe).
+     *
+     * @param path Ubicación del código fuente
+     * @return Compilador incremental
+     */
+    public static synchronized IncrementalCompiler get (String path) {
+        return compilers.computeIfAbsent(
+            Paths.get(path).toAbsolutePath().normalize().toString(),
+            IncrementalCompiler::new
+        );
+    }
+
+    /**
+     * Compila el archivo reutilizando los resultados de la compilación anterior.
+     *
+     * @param options Opciones del compilador
+     * @param stats Métricas de la compilación
+     * @return Código MIPS
+     * @throws LexicalException Error léxico
+     * @throws SyntacticException Error sintáctico
+     * @throws SemanticException Error semántico
+     */
+    public synchronized String run (CompilerOptions options, CompilerStats stats) throws LexicalException, SyntacticException, SemanticException {
+        ArrayList<SourceBlock> blocks;
+
+        //Divide el código fuente en bloques (El lexer lee el archivo con el charset por defecto)
+        try {
+            blocks = SourceBlock.split(new String(Files.readAllBytes(Paths.get(path))));
+        } catch (IOException e) {
+            blocks = null;
+        }
+        if (blocks == null) {
+            return compileAll(options, stats);
+        }
+
+        //Los bloques compilados con otras opciones no se reutilizan
+        if (!options.getFingerprint().equals(optionsFingerprint)) {
+            units.clear();
+        }
+
+        try {
+            return compile(blocks, options, stats);
+        } catch (RuntimeException e) {
+            return compileAll(options, stats);
+        }
+    }
+
+    /**
+     * Obtiene el JSON de la tabla de símbolos y del ast de la última compilación.
+     *
+     * @return Tabla de símbolos (posicion 0) y ast (posicion 1) en formato json
+     */
+    public synchronized ArrayList<String> toJSON () {
+        return semanticManager.toJSON();
+    }
+
+    /**
+     * Obtiene el administrador semántico de la última compilación.
+     *
+     * @return SemanticManager
+     */
+    public synchronized SemanticManager getSemanticManager () {
+        return semanticManager;
+    }
+
+    /**
+     * Compila los bloques, reutilizando las unidades cuyo texto no cambió.
+     */
+    private String compile (ArrayList<SourceBlock> blocks, CompilerOptions options, CompilerStats stats) {
+        ArrayList<Unit> previous = new ArrayList<Unit>(blocks.size()), current;
+        HashMap<String, ArrayDeque<Unit>> available = new HashMap<String, ArrayDeque<Unit>>();
+        IncrementalSemanticManager manager;
+        Map<String, String> fingerprints;
+        int reused = 0;
+
+        //Busca la unidad anterior de cada bloque (Los bloques repetidos se asignan en orden)
+        for (Unit unit : units) {
+            available.computeIfAbsent(unit.block.getKey(), (String key) -> new ArrayDeque<Unit>()).add(unit);
+        }
+        for (SourceBlock block : blocks) {
+            ArrayDeque<Unit> candidates = available.get(block.getKey());
+            previous.add(candidates != null ? candidates.poll() : null);
+        }
+
+        while (true) {
+            manager = new IncrementalSemanticManager(options);
+            current = new ArrayList<Unit>(blocks.size());
+            reused = 0;
+
+            for (int i = 0; i < blocks.size(); i++) {
+                Unit unit = previous.get(i);
+
+                if (unit != null) {
+                    manager.replay(unit.journal);
+                    reused++;
+                } else {
+                    unit = parse(blocks.get(i), manager, options, stats);
+                    previous.set(i, unit);
+                }
+                current.add(unit);
+            }
+
+            long[] mark = stats.start();
+            manager.getSymbolTable().consolidate();
+            stats.end("consolidacion", mark);
+            fingerprints = fingerprint(manager.getSymbolTable());
+
+            //Vuelve a analizar las unidades con bloques que dependen de estructuras modificadas
+            boolean changed = false;
+            for (int i = 0; i < current.size(); i++) {
+                if (current.get(i).isStale(fingerprints)) {
+                    previous.set(i, null);
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                break;
+            }
+        }
+
+        long[] mark = stats.start();
+        manager.getAST().consolidate(manager.getSymbolTable());
+        stats.end("consolidacion", mark);
+
+        mark = stats.start();
+        String code = manager.generateCode();
+        stats.end("generacion", mark);
+
+        //Aplica los pases de optimización del nivel indicado
+        code = new PassManager(options, stats).run(code);
+
+        if (stats.isEnabled()) {
+            stats.count("instrucciones", CompilerStats.countInstructions(code));
+            stats.count("unidades reutilizadas", reused);
+            stats.count("unidades analizadas", blocks.size() - reused);
+        }
+
+        //Confirma el estado de la compilación
+        for (Unit unit : current) {
+            for (TrackedBlock tracked : unit.blocks) {
+                tracked.commit(fingerprints);
+            }
+        }
+        units = current;
+        optionsFingerprint = options.getFingerprint();
+        semanticManager = manager;
+        return code;
+    }
+
+    /**
+     * Analiza el texto de un bloque, registrando sus acciones semánticas.
+     */
+    private static Unit parse (SourceBlock block, IncrementalSemanticManager manager, CompilerOptions options, CompilerStats stats) {
+        Unit unit = new Unit();
+        LexicalAnalyzer lexicalAnalyzer = new LexicalAnalyzer(
+            new FileManager(new BufferedReader(new StringReader(block.toSource())))
+        );
+
+        unit.block = block;
+        manager.record(unit.journal, unit.blocks);
+        new SyntacticAnalyzer(lexicalAnalyzer, manager, options, stats).analyze();
+        manager.record(null, null);
+        return unit;
+    }
+
+    /**
+     * Compila el archivo completo (No modifica las unidades de la compilación anterior).
+     */
+    private String compileAll (CompilerOptions options, CompilerStats stats) {
+        SyntacticAnalyzer syntacticAnalyzer = new SyntacticAnalyzer(path, options, stats);
+        String code = syntacticAnalyzer.run();
+
+        semanticManager = syntacticAnalyzer.getSemanticManager();
+        return code;
+    }
+
+    /**
+     * Genera la huella de cada estructura a partir de sus miembros propios y
+     * la huella de su padre (Recorre la herencia sin recursión).
+     *
+     * @param st Tabla de símbolos consolidada
+     * @return Huella de cada estructura
+     */
+    private static Map<String, String> fingerprint (SymbolTable st) {
+        HashMap<String, String> fingerprints = new HashMap<String, String>();
+        HashMap<String, Struct> structs = st.getStructs();
+
+        for (String name : structs.keySet()) {
+            ArrayDeque<Struct> chain = new ArrayDeque<Struct>();
+            Struct struct = structs.get(name);
+
+            //Apila los ancestros que aún no tienen huella
+            while (struct != null && !fingerprints.containsKey(struct.getName())) {
+                chain.push(struct);
+                struct = struct.getName().equals("Object") ? null : structs.get(struct.getParent());
+            }
+
+            while (!chain.isEmpty()) {
+                struct = chain.pop();
+                StringBuilder description = new StringBuilder(struct.getName()).append('\n');
+
+                if (!struct.getName().equals("Object")) {
+                    description.append(fingerprints.get(struct.getParent())).append('\n');
+                }
+                for (Variable variable : struct.getVariables().values()) {
+                    description.append(variable.getName()).append(':').append(variable.getType()).append(':')
+                        .append(variable.isPrivate()).append(':').append(variable.getPosition()).append('\n');
+                }
+                for (Method method : struct.getMethods().values()) {
+                    description.append(method.getSignature()).append(':').append(method.getPosition()).append('\n');
+                }
+                Method constructor = struct.getMethod("Constructor");
+                if (constructor != null) {
+                    description.append(constructor.getSignature()).append('\n');
+                }
+
+                fingerprints.put(struct.getName(), digest(description.toString()));
+            }
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Obtiene el hash SHA-256 (hexadecimal) de un texto.
+     */
+    private static String digest (String text) {
+        try {
+            StringBuilder hex = new StringBuilder();
+
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            //Todas las implementaciones de Java incluyen SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package src.lib.incrementalHelper;
+
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+import src.lib.CompilerOptions;
+import src.lib.semanticHelper.SemanticManager;
+import src.lib.semanticHelper.astHelper.SentenceBlock;
+import src.lib.semanticHelper.symbolTableHelper.Param;
+import src.lib.tokenHelper.Token;
+
+/**
+ * Administrador semántico que registra las acciones semánticas de cada
+ * bloque del código fuente, para volver a ejecutarlas en la siguiente
+ * compilación sin analizar su texto.<br/>
+ *
+ * Los bloques de sentencias se agregan envueltos en un {@link TrackedBlock},
+ * por lo que al repetir las acciones se reutiliza su consolidación y su código.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+class IncrementalSemanticManager extends SemanticManager {
+    private ArrayList<Consumer<SemanticManager>> journal;
+    private ArrayList<TrackedBlock> blocks;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param options Opciones del compilador
+     */
+    IncrementalSemanticManager (CompilerOptions options) {
+        super(options);
+    }
+
+    /**
+     * Comienza a registrar las acciones semánticas (null para dejar de registrarlas).
+     *
+     * @param journal Lista en la que se agregan las acciones
+     * @param blocks Lista en la que se agregan los bloques de sentencias
+     */
+    void record (ArrayList<Consumer<SemanticManager>> journal, ArrayList<TrackedBlock> blocks) {
+        this.journal = journal;
+        this.blocks = blocks;
+    }
+
+    /**
+     * Ejecuta las acciones semánticas registradas en una compilación anterior.
+     *
+     * @param actions Acciones registradas
+     */
+    void replay (ArrayList<Consumer<SemanticManager>> actions) {
+        record(null, null);
+        for (Consumer<SemanticManager> action : actions) {
+            action.accept(this);
+        }
+    }
+
+    @Override
+    public void addStruct (Token token, Token parent, boolean isFromStruct) {
+        if (journal != null) {
+            journal.add((SemanticManager manager) -> manager.addStruct(token, parent, isFromStruct));
+        }
+        super.addStruct(token, parent, isFromStruct);
+    }
+
+    @Override
+    public void addVar (Token token, Token type, boolean isPrivate, boolean isAtribute) {
+        if (journal != null) {
+            journal.add((SemanticManager manager) -> manager.addVar(token, type, isPrivate, isAtribute));
+        }
+        super.addVar(token, type, isPrivate, isAtribute);
+    }
+
+    @Override
+    public void addMethod (Token token, ArrayList<Param> params, boolean isStatic, Token returnTypeToken, Boolean fromStruct) {
+        if (journal != null) {
+            journal.add((SemanticManager manager) -> manager.addMethod(token, params, isStatic, returnTypeToken, fromStruct));
+        }
+        super.addMethod(token, params, isStatic, returnTypeToken, fromStruct);
+    }
+
+    @Override
+    public void addBlock (SentenceBlock block, Boolean fromStruct) {
+        if (journal != null) {
+            TrackedBlock tracked = new TrackedBlock(block);
+
+            blocks.add(tracked);
+            journal.add((SemanticManager manager) -> manager.addBlock(tracked, fromStruct));
+            block = tracked;
+        }
+        super.addBlock(block, fromStruct);
+    }
+}
@@ -0,0 +1,181 @@
+package src.lib.incrementalHelper;
+
+import java.util.ArrayList;
+
+/**
+ * Bloque de primer nivel del código fuente (struct, impl o start) con su
+ * texto y su posición, que se utiliza como unidad de la compilación
+ * incremental.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class SourceBlock {
+    private final String kind, name, text;
+    private final int line, column;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param kind Tipo de bloque (struct, impl o start)
+     * @param name Nombre de la estructura (start para el bloque start)
+     * @param text Código fuente del bloque
+     * @param line Línea en la que comienza (Desde 1)
+     * @param column Columna en la que comienza (Desde 0)
+     */
+    public SourceBlock (String kind, String name, String text, int line, int column) {
+        this.kind = kind;
+        this.name = name;
+        this.text = text;
+        this.line = line;
+        this.column = column;
+    }
+
+    public String getKind () {
+        return kind;
+    }
+
+    public String getName () {
+        return name;
+    }
+
+    public String getText () {
+        return text;
+    }
+
+    /**
+     * Obtiene la clave del bloque: su tipo y su código fuente (No depende de la
+     * posición, por lo que mover un bloque sin modificarlo no lo invalida).
+     *
+     * @return String
+     */
+    public String getKey () {
+        return kind + "\n" + text;
+    }
+
+    /**
+     * Genera el código fuente a analizar para el bloque: su texto precedido por
+     * líneas vacías y espacios, para que los tokens conserven la línea y
+     * columna que tienen en el archivo.
+     *
+     * @return Código fuente del bloque
+     */
+    public String toSource () {
+        return "\n".repeat(line - 1) + " ".repeat(column) + text;
+    }
+
+    /**
+     * Divide un código fuente en sus bloques de primer nivel.<br/>
+     *
+     * Fuera de los bloques solo se admiten espacios y comentarios, y el bloque
+     * start debe ser único y el último. Si el código no respeta esa forma
+     * retorna null, y se debe compilar el archivo completo para informar los
+     * errores con las mismas posiciones y recuperación que el análisis normal.
+     *
+     * @param source Código fuente
+     * @return Bloques en orden o null
+     */
+    public static ArrayList<SourceBlock> split (String source) {
+        ArrayList<SourceBlock> blocks = new ArrayList<SourceBlock>();
+        int i = 0, line = 1, lineStart = 0;
+
+        while (true) {
+            //Saltea espacios y comentarios, contando las líneas
+            while (i < source.length()) {
+                char c = source.charAt(i);
+                if (c == '\n') {
+                    line++;
+                    lineStart = i + 1;
+                    i++;
+                } else if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (source.startsWith("/?", i)) {
+                    int end = source.indexOf('\n', i);
+                    i = end < 0 ? source.length() : end;
+                } else {
+                    break;
+                }
+            }
+            if (i >= source.length()) {
+                break;
+            }
+
+            //Un bloque luego de start es un error sintáctico
+            if (!blocks.isEmpty() && blocks.get(blocks.size() - 1).kind.equals("start")) {
+                return null;
+            }
+
+            int start = i, startLine = line, startColumn = i - lineStart;
+            String kind = word(source, i), name = "start";
+            i += kind.length();
+            if (kind.equals("struct") || kind.equals("impl")) {
+                while (i < source.length() && (source.charAt(i) == ' ' || source.charAt(i) == '\t')) {
+                    i++;
+                }
+                name = word(source, i);
+                if (name.isEmpty()) {
+                    return null;
+                }
+            } else if (!kind.equals("start")) {
+                return null;
+            }
+
+            //Busca la llave que cierra el bloque
+            int depth = 0;
+            boolean opened = false;
+            while (i < source.length() && !(opened && depth == 0)) {
+                char c = source.charAt(i);
+                if (c == '\n') {
+                    line++;
+                    lineStart = i + 1;
+                    i++;
+                } else if (c == '"' || c == '\'') {
+                    //Los literales no pueden ocupar más de una línea
+                    for (i++; i < source.length() && source.charAt(i) != c && source.charAt(i) != '\n'; i++) {
+                        if (source.charAt(i) == '\\') {
+                            i++;
+                        }
+                    }
+                    if (i < source.length() && source.charAt(i) == c) {
+                        i++;
+                    }
+                } else if (source.startsWith("/?", i)) {
+                    int end = source.indexOf('\n', i);
+                    i = end < 0 ? source.length() : end;
+                } else {
+                    if (c == '{') {
+                        depth++;
+                        opened = true;
+                    } else if (c == '}' && --depth < 0) {
+                        return null;
+                    }
+                    i++;
+                }
+            }
+            if (!opened || depth != 0) {
+                return null;
+            }
+
+            blocks.add(new SourceBlock(kind, name, source.substring(start, i), startLine, startColumn));
+        }
+
+        //El programa debe finalizar con el bloque start
+        if (blocks.isEmpty() || !blocks.get(blocks.size() - 1).kind.equals("start")) {
+            return null;
+        }
+        return blocks;
+    }
+
+    /**
+     * Obtiene la palabra (letras, dígitos y guiones bajos) que comienza en la posición indicada.
+     */
+    private static String word (String source, int i) {
+        int end = i;
+
+        while (end < source.length() && (Character.isLetterOrDigit(source.charAt(end)) || source.charAt(end) == '_')) {
+            end++;
+        }
+        return source.substring(i, end);
+    }
+}
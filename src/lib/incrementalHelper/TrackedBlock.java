@@ -0,0 +1,172 @@
+package src.lib.incrementalHelper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+
+import src.lib.semanticHelper.SymbolTable;
+import src.lib.semanticHelper.astHelper.SentenceBlock;
+import src.lib.semanticHelper.astHelper.sentences.Sentence;
+import src.lib.semanticHelper.symbolTableHelper.Method;
+import src.lib.semanticHelper.symbolTableHelper.Struct;
+
+/**
+ * Bloque de sentencias que conserva su consolidación y su código entre
+ * compilaciones incrementales.<br/>
+ *
+ * La primera vez consolida y genera el código del bloque original,
+ * registrando las estructuras de las que depende. Una vez confirmado, mientras
+ * esas estructuras no cambien, se reutiliza el código generado sin volver a
+ * consolidarlo.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class TrackedBlock extends SentenceBlock {
+    private final SentenceBlock block;
+    private final LinkedHashSet<String> uses, creates;
+    private final HashMap<String, String> json;
+    private LinkedHashMap<String, String> dependencies;
+    private SymbolTable symbolTable;
+    private String code;
+    private boolean compiled;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param block Bloque de sentencias generado por el analizador sintáctico
+     */
+    public TrackedBlock (SentenceBlock block) {
+        super(null, new ArrayList<Sentence>());
+        this.block = block;
+        this.uses = new LinkedHashSet<String>();
+        this.creates = new LinkedHashSet<String>();
+        this.json = new HashMap<String, String>();
+        this.compiled = false;
+    }
+
+    @Override
+    public String getIDBlock () {
+        return block.getIDBlock();
+    }
+
+    /**
+     * Consolida el bloque original registrando sus dependencias (Si ya se
+     * confirmó, no vuelve a consolidarlo).
+     *
+     * @param st Tabla de símbolos
+     * @param struct Estructura actual
+     * @param method Método actual
+     */
+    @Override
+    public void consolidate (SymbolTable st, Struct struct, Method method) {
+        symbolTable = st;
+        if (compiled) {
+            return;
+        }
+
+        DependencyRecorder recorder = DependencyRecorder.start();
+        try {
+            block.consolidate(st, struct, method);
+        } finally {
+            recorder.stop();
+        }
+        if (struct != null) {
+            uses.add(struct.getName());
+        }
+        uses.addAll(recorder.getUses());
+    }
+
+    /**
+     * Genera el código del bloque original, o retorna el de la compilación
+     * anterior marcando las estructuras que instancia.
+     *
+     * @param sStruct
+     * @param sMethod
+     * @return String
+     */
+    @Override
+    public String generateCode (String sStruct, String sMethod) {
+        if (code == null) {
+            DependencyRecorder recorder = DependencyRecorder.start();
+            try {
+                code = block.generateCode(sStruct, sMethod);
+            } finally {
+                recorder.stop();
+            }
+            uses.addAll(recorder.getUses());
+            creates.addAll(recorder.getCreates());
+        } else {
+            for (String name : creates) {
+                symbolTable.getStruct(name).setHasCreate();
+            }
+        }
+        return code;
+    }
+
+    @Override
+    public String toJSON (String tabs) {
+        return json.computeIfAbsent(tabs, block::toJSON);
+    }
+
+    @Override
+    public int countNodes () {
+        return block.countNodes();
+    }
+
+    /**
+     * Obtiene las estructuras de las que depende el bloque.
+     *
+     * @return Nombres de las estructuras
+     */
+    public LinkedHashSet<String> getUses () {
+        return uses;
+    }
+
+    /**
+     * Confirma la compilación del bloque, guardando la huella de cada
+     * estructura de la que depende.
+     *
+     * @param fingerprints Huella de cada estructura de la tabla de símbolos
+     */
+    public void commit (Map<String, String> fingerprints) {
+        if (compiled) {
+            return;
+        }
+
+        dependencies = new LinkedHashMap<String, String>();
+        for (String name : uses) {
+            dependencies.put(name, fingerprints.get(name));
+        }
+        compiled = true;
+    }
+
+    /**
+     * Avisa si el bloque está confirmado.
+     *
+     * @return Booleano
+     */
+    public boolean isCompiled () {
+        return compiled;
+    }
+
+    /**
+     * Avisa si cambió alguna de las estructuras de las que depende el bloque
+     * confirmado (Incluso si dejó de existir).
+     *
+     * @param fingerprints Huella de cada estructura de la tabla de símbolos
+     * @return Booleano
+     */
+    public boolean isStale (Map<String, String> fingerprints) {
+        for (Map.Entry<String, String> dependency : dependencies.entrySet()) {
+            if (!Objects.equals(dependency.getValue(), fingerprints.get(dependency.getKey()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -52,11 +52,21 @@ public class FileManager {
             }
         }
         else{
-            System.out.println("ERROR: El archivo fuente es invalido, no tiene extension .ru");
+            System.out.println(Const.ERROR_INVALID_EXTENSION);
             System.exit(0);
         }
     }
 
+    /**
+     * Constructor de la clase a partir de un lector ya abierto (Código fuente
+     * que no proviene de un archivo, como los bloques de la compilación incremental).
+     * 
+     * @param reader Lector del código fuente
+     */
+    public FileManager(BufferedReader reader){
+        bufferedReader = reader;
+    }
+
     /**
      * Método que lee y retorna la siguiente línea del documento.
      * 
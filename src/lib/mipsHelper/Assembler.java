@@ -0,0 +1,678 @@
+package src.lib.mipsHelper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import src.lib.mipsHelper.Instruction.Operation;
+
+/**
+ * Ensamblador del simulador MIPS.<br/>
+ *
+ * Traduce el código generado por el compilador (el mismo que se ejecuta en
+ * MARS 4.5) a un arreglo de instrucciones y una imagen del segmento de datos.
+ * Soporta las directivas .data, .text, .globl, .word, .half, .byte, .ascii,
+ * .asciiz, .space y .align.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class Assembler {
+    /** Dirección base del segmento de texto */
+    public static final int TEXT_BASE = 0x00400000;
+    /** Dirección base del segmento de datos */
+    public static final int DATA_BASE = 0x10010000;
+
+    private static final HashMap<String, Integer> REGISTERS = new HashMap<String, Integer>();
+    private static final HashMap<String, Operation> OPERATIONS = new HashMap<String, Operation>();
+
+    static {
+        String[] names = {
+            "zero", "at", "v0", "v1", "a0", "a1", "a2", "a3",
+            "t0", "t1", "t2", "t3", "t4", "t5", "t6", "t7",
+            "s0", "s1", "s2", "s3", "s4", "s5", "s6", "s7",
+            "t8", "t9", "k0", "k1", "gp", "sp", "fp", "ra"
+        };
+        for (int i = 0; i < names.length; i++) {
+            REGISTERS.put("$" + names[i], i);
+            REGISTERS.put("$" + i, i);
+        }
+        REGISTERS.put("$s8", 30);
+
+        for (Operation op : Operation.values()) {
+            OPERATIONS.put(op.toString().toLowerCase(), op);
+        }
+    }
+
+    private final ArrayList<Instruction> text;
+    private final HashMap<String, Integer> labels;
+    private final ArrayList<String> pendingLabels;
+    private final ArrayList<Object[]> wordFixups;
+    private final Memory memory;
+    private int dataPointer, currentLine;
+    private boolean inText;
+
+    /**
+     * Constructor de la clase.
+     */
+    public Assembler () {
+        text = new ArrayList<Instruction>();
+        labels = new HashMap<String, Integer>();
+        pendingLabels = new ArrayList<String>();
+        wordFixups = new ArrayList<Object[]>();
+        memory = new Memory();
+        dataPointer = DATA_BASE;
+        inText = true;
+    }
+
+    /**
+     * Ensambla el código fuente dado.
+     *
+     * @param source Código MIPS
+     * @return Programa listo para ejecutar
+     */
+    public MipsProgram assemble (String source) {
+        String[] lines = source.split("\n");
+
+        for (currentLine = 1; currentLine <= lines.length; currentLine++) {
+            parseLine(stripComment(lines[currentLine - 1]).trim());
+        }
+        bindPendingLabels();
+
+        //Resuelve las etiquetas de las instrucciones
+        for (Instruction instruction : text) {
+            if (instruction.label != null) {
+                Integer address = labels.get(instruction.label);
+                if (address == null) {
+                    throw new MipsException("Línea " + instruction.line + ": etiqueta no definida '" + instruction.label + "'.");
+                }
+                if (isJump(instruction.op)) {
+                    instruction.target = (address - TEXT_BASE) >> 2;
+                } else {
+                    instruction.imm += address;
+                }
+            }
+        }
+
+        //Resuelve las etiquetas utilizadas en .word
+        for (Object[] fixup : wordFixups) {
+            Integer address = labels.get((String) fixup[1]);
+            if (address == null) {
+                throw new MipsException("Línea " + fixup[2] + ": etiqueta no definida '" + fixup[1] + "'.");
+            }
+            memory.storeWord((Integer) fixup[0], address);
+        }
+
+        return new MipsProgram(text.toArray(new Instruction[0]), memory, labels, dataPointer);
+    }
+
+    /**
+     * Elimina los comentarios de una línea respetando strings y caracteres.
+     *
+     * @param line Línea de código
+     * @return Línea sin comentarios
+     */
+    private String stripComment (String line) {
+        char quote = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quote != 0) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '#') {
+                return line.substring(0, i);
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Procesa una línea sin comentarios.
+     *
+     * @param line Línea de código
+     */
+    private void parseLine (String line) {
+        int colon = labelEnd(line);
+
+        //Procesa las etiquetas al inicio de la línea
+        while (colon > 0) {
+            pendingLabels.add(line.substring(0, colon).trim());
+            line = line.substring(colon + 1).trim();
+            colon = labelEnd(line);
+        }
+
+        if (line.isEmpty()) {
+            return;
+        }
+
+        if (line.charAt(0) == '.') {
+            parseDirective(line);
+        } else {
+            if (!inText) {
+                throw error("instrucción fuera del segmento .text");
+            }
+            bindPendingLabels();
+            text.add(parseInstruction(line));
+        }
+    }
+
+    /**
+     * Obtiene la posición de los dos puntos de una etiqueta al inicio de la línea.
+     *
+     * @param line Línea de código
+     * @return Posición de ':' o -1 si no posee etiqueta
+     */
+    private int labelEnd (String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == ':') {
+                return i > 0 ? i : -1;
+            }
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '.' || c == '$')) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Asigna las etiquetas pendientes a la posición actual del segmento.
+     */
+    private void bindPendingLabels () {
+        int address = inText ? TEXT_BASE + (text.size() << 2) : dataPointer;
+        for (String label : pendingLabels) {
+            if (labels.containsKey(label)) {
+                throw error("etiqueta duplicada '" + label + "'");
+            }
+            labels.put(label, address);
+        }
+        pendingLabels.clear();
+    }
+
+    /**
+     * Procesa una directiva.
+     *
+     * @param line Línea con la directiva
+     */
+    private void parseDirective (String line) {
+        int space = indexOfSpace(line);
+        String directive = space == -1 ? line : line.substring(0, space);
+        String args = space == -1 ? "" : line.substring(space + 1).trim();
+
+        switch (directive) {
+            case ".data":
+                bindPendingLabels();
+                inText = false;
+                break;
+            case ".text":
+                bindPendingLabels();
+                inText = true;
+                break;
+            case ".globl":
+            case ".extern":
+                break;
+            case ".align":
+                align(1 << Integer.parseInt(args));
+                bindPendingLabels();
+                break;
+            case ".space":
+                checkData(directive);
+                bindPendingLabels();
+                dataPointer += parseNumber(args);
+                break;
+            case ".word":
+            case ".half":
+            case ".byte":
+                checkData(directive);
+                int size = directive.equals(".word") ? 4 : (directive.equals(".half") ? 2 : 1);
+                align(size);
+                bindPendingLabels();
+                for (String value : splitOperands(args)) {
+                    if (size == 4 && !isNumber(value)) {
+                        wordFixups.add(new Object[] {dataPointer, value, currentLine});
+                    } else if (size == 4) {
+                        memory.storeWord(dataPointer, parseNumber(value));
+                    } else if (size == 2) {
+                        memory.storeHalf(dataPointer, parseNumber(value));
+                    } else {
+                        memory.storeByte(dataPointer, parseNumber(value));
+                    }
+                    dataPointer += size;
+                }
+                break;
+            case ".ascii":
+            case ".asciiz":
+                checkData(directive);
+                bindPendingLabels();
+                for (char c : parseString(args).toCharArray()) {
+                    memory.storeByte(dataPointer++, c);
+                }
+                if (directive.equals(".asciiz")) {
+                    memory.storeByte(dataPointer++, 0);
+                }
+                break;
+            default:
+                throw error("directiva no soportada '" + directive + "'");
+        }
+    }
+
+    /**
+     * Valida que la directiva de datos se encuentre en el segmento .data
+     *
+     * @param directive Directiva
+     */
+    private void checkData (String directive) {
+        if (inText) {
+            throw error("directiva " + directive + " dentro del segmento .text");
+        }
+    }
+
+    /**
+     * Alinea el puntero de datos.
+     *
+     * @param size Alineación en bytes
+     */
+    private void align (int size) {
+        if (!inText) {
+            dataPointer = (dataPointer + size - 1) & -size;
+        }
+    }
+
+    /**
+     * Procesa una instrucción.
+     *
+     * @param line Línea con la instrucción
+     * @return Instrucción ensamblada
+     */
+    private Instruction parseInstruction (String line) {
+        int space = indexOfSpace(line);
+        String mnemonic = (space == -1 ? line : line.substring(0, space)).toLowerCase();
+        String[] ops = space == -1 ? new String[0] : splitOperands(line.substring(space + 1));
+        Operation op = OPERATIONS.get(mnemonic);
+        Instruction instruction;
+
+        //Pseudo-instrucciones cuyo nombre no coincide con la operación
+        if (mnemonic.equals("div") && ops.length == 3) {
+            op = Operation.DIV3;
+        } else if (mnemonic.equals("divu") && ops.length == 3) {
+            op = Operation.DIVU3;
+        } else if (op == null || op == Operation.DIV3 || op == Operation.DIVU3) {
+            throw error("instrucción no soportada '" + mnemonic + "'");
+        }
+
+        instruction = new Instruction(op, currentLine);
+
+        switch (op) {
+            case ADD: case ADDU: case SUB: case SUBU: case AND: case OR: case XOR: case NOR: case SLT: case SLTU:
+            case MUL: case SEQ: case SNE: case SLE: case SGT: case SGE: case SLEU: case SGTU: case SGEU:
+            case DIV3: case DIVU3: case REM: case REMU: case SLLV: case SRLV: case SRAV:
+                expect(ops, 3);
+                instruction.rd = register(ops[0]);
+                instruction.rs = register(ops[1]);
+                secondOperand(instruction, ops[2]);
+                break;
+            case ADDI: case ADDIU: case ANDI: case ORI: case XORI: case SLTI: case SLTIU: case SLL: case SRL: case SRA:
+                expect(ops, 3);
+                instruction.rd = register(ops[0]);
+                instruction.rs = register(ops[1]);
+                instruction.imm = parseNumber(ops[2]);
+                instruction.useImm = true;
+                break;
+            case LUI: case LI:
+                expect(ops, 2);
+                instruction.rd = register(ops[0]);
+                instruction.imm = parseNumber(ops[1]);
+                break;
+            case LA:
+                expect(ops, 2);
+                instruction.rd = register(ops[0]);
+                memoryOperand(instruction, ops[1]);
+                break;
+            case MOVE: case NEG: case NOT: case ABS:
+                expect(ops, 2);
+                instruction.rd = register(ops[0]);
+                instruction.rs = register(ops[1]);
+                break;
+            case MULT: case MULTU: case DIV: case DIVU:
+                expect(ops, 2);
+                instruction.rs = register(ops[0]);
+                instruction.rt = register(ops[1]);
+                break;
+            case MFHI: case MFLO:
+                expect(ops, 1);
+                instruction.rd = register(ops[0]);
+                break;
+            case MTHI: case MTLO: case JR:
+                expect(ops, 1);
+                instruction.rs = register(ops[0]);
+                break;
+            case JALR:
+                instruction.rd = ops.length == 2 ? register(ops[0]) : 31;
+                instruction.rs = register(ops[ops.length - 1]);
+                break;
+            case LW: case LB: case LBU: case LH: case LHU: case SW: case SB: case SH:
+                expect(ops, 2);
+                instruction.rt = register(ops[0]);
+                memoryOperand(instruction, ops[1]);
+                break;
+            case BEQ: case BNE: case BLT: case BGT: case BLE: case BGE: case BLTU: case BGTU: case BLEU: case BGEU:
+                expect(ops, 3);
+                instruction.rs = register(ops[0]);
+                secondOperand(instruction, ops[1]);
+                instruction.label = ops[2];
+                break;
+            case BEQZ: case BNEZ: case BGEZ: case BGTZ: case BLEZ: case BLTZ:
+                expect(ops, 2);
+                instruction.rs = register(ops[0]);
+                instruction.label = ops[1];
+                break;
+            case J: case JAL: case B:
+                expect(ops, 1);
+                instruction.label = ops[0];
+                break;
+            default:
+                //SYSCALL, NOP
+                break;
+        }
+
+        instruction.size = basicInstructions(instruction);
+        return instruction;
+    }
+
+    /**
+     * Obtiene la cantidad de instrucciones básicas en las que MARS expande una
+     * instrucción. Las etiquetas siempre se cargan con lui y ori (o lui y el
+     * acceso con $at), y los inmediatos que no entran en 16 bits con lui y ori.
+     *
+     * @param i Instrucción
+     * @return Cantidad de instrucciones básicas
+     */
+    private static int basicInstructions (Instruction i) {
+        //Instrucciones que cargan el inmediato en $at antes de operar con registros
+        int load = i.useImm ? loadImmediate(i.imm) : 0;
+
+        switch (i.op) {
+            case LI:
+                return loadImmediate(i.imm);
+            case LA:
+                //la: addi con el desplazamiento o lui + ori (+ add con el registro base)
+                if (i.label == null && isSigned16(i.imm)) {
+                    return 1;
+                }
+                return i.rs != 0 ? 3 : 2;
+            case LW: case LB: case LBU: case LH: case LHU: case SW: case SB: case SH:
+                //lui $at (+ addu con el registro base) y el acceso con $at
+                if (i.label == null && isSigned16(i.imm)) {
+                    return 1;
+                }
+                return i.rs != 0 ? 3 : 2;
+            case ADDI: case ADDIU: case SLTI: case SLTIU:
+                return isSigned16(i.imm) ? 1 : 3;
+            case ANDI: case ORI: case XORI:
+                return isUnsigned16(i.imm) ? 1 : 3;
+            case ADD: case ADDU: case SLT: case SLTU:
+                return i.useImm && isSigned16(i.imm) ? 1 : load + 1;
+            case AND: case OR: case XOR:
+                return i.useImm && isUnsigned16(i.imm) ? 1 : load + 1;
+            case SUB: case SUBU: case NOR: case MUL: case SGT: case SGTU: case SLLV: case SRLV: case SRAV:
+            case BEQ: case BNE:
+                return load + 1;
+            case SNE:
+                return load + 2;
+            case SEQ: case SLE: case SGE: case SLEU: case SGEU: case ABS:
+                return load + 3;
+            case DIV3: case DIVU3: case REM: case REMU:
+                //Controla la división por cero (bne + break) y obtiene el resultado con mflo o mfhi
+                return load + 4;
+            case BLT: case BGE: case BLTU: case BGEU:
+                //slti/sltiu + salto si el inmediato entra en 16 bits
+                return i.useImm && isSigned16(i.imm) ? 2 : load + 2;
+            case BGT: case BLE: case BGTU: case BLEU:
+                return load + 2;
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de instrucciones básicas que cargan un inmediato
+     * (addiu u ori si entra en 16 bits, lui y ori si no).
+     *
+     * @param value Inmediato
+     * @return Cantidad de instrucciones básicas
+     */
+    private static int loadImmediate (int value) {
+        return isSigned16(value) || isUnsigned16(value) ? 1 : 2;
+    }
+
+    private static boolean isSigned16 (int value) {
+        return value >= Short.MIN_VALUE && value <= Short.MAX_VALUE;
+    }
+
+    private static boolean isUnsigned16 (int value) {
+        return value >= 0 && value <= 0xffff;
+    }
+
+    /**
+     * Asigna el segundo operando fuente (registro o inmediato).
+     *
+     * @param instruction Instrucción
+     * @param operand Operando
+     */
+    private void secondOperand (Instruction instruction, String operand) {
+        if (operand.startsWith("$")) {
+            instruction.rt = register(operand);
+        } else {
+            instruction.imm = parseNumber(operand);
+            instruction.useImm = true;
+        }
+    }
+
+    /**
+     * Procesa un operando de memoria: off($r), ($r), etiqueta, etiqueta($r), etiqueta+off o dirección.
+     *
+     * @param instruction Instrucción
+     * @param operand Operando
+     */
+    private void memoryOperand (Instruction instruction, String operand) {
+        int open = operand.indexOf('(');
+        String address = operand;
+
+        if (open != -1) {
+            instruction.rs = register(operand.substring(open + 1, operand.indexOf(')')).trim());
+            address = operand.substring(0, open).trim();
+        }
+
+        if (address.isEmpty()) {
+            instruction.imm = 0;
+        } else if (isNumber(address)) {
+            instruction.imm = parseNumber(address);
+        } else {
+            int plus = address.indexOf('+');
+            if (plus != -1) {
+                instruction.imm = parseNumber(address.substring(plus + 1).trim());
+                address = address.substring(0, plus).trim();
+            }
+            instruction.label = address;
+        }
+    }
+
+    /**
+     * Obtiene el número de un registro.
+     *
+     * @param name Nombre del registro
+     * @return Número del registro
+     */
+    private int register (String name) {
+        Integer result = REGISTERS.get(name.trim());
+        if (result == null) {
+            throw error("registro inválido '" + name + "'");
+        }
+        return result;
+    }
+
+    /**
+     * Valida la cantidad de operandos.
+     *
+     * @param ops Operandos
+     * @param count Cantidad esperada
+     */
+    private void expect (String[] ops, int count) {
+        if (ops.length != count) {
+            throw error("se esperaban " + count + " operandos");
+        }
+    }
+
+    /**
+     * Avisa si la operación salta a una instrucción.
+     *
+     * @param op Operación
+     * @return Booleano
+     */
+    private boolean isJump (Operation op) {
+        switch (op) {
+            case BEQ: case BNE: case BLT: case BGT: case BLE: case BGE: case BLTU: case BGTU: case BLEU: case BGEU:
+            case BEQZ: case BNEZ: case BGEZ: case BGTZ: case BLEZ: case BLTZ: case J: case JAL: case B:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Separa operandos por comas (respetando strings y caracteres).
+     *
+     * @param args Operandos
+     * @return Arreglo de operandos
+     */
+    private String[] splitOperands (String args) {
+        ArrayList<String> result = new ArrayList<String>();
+        StringBuilder current = new StringBuilder();
+        char quote = 0;
+
+        for (int i = 0; i < args.length(); i++) {
+            char c = args.charAt(i);
+            if (quote != 0) {
+                current.append(c);
+                if (c == '\\' && i + 1 < args.length()) {
+                    current.append(args.charAt(++i));
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+                current.append(c);
+            } else if (c == ',') {
+                result.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (current.toString().trim().length() > 0) {
+            result.add(current.toString().trim());
+        }
+        return result.toArray(new String[0]);
+    }
+
+    /**
+     * Obtiene la posición del primer espacio o tab.
+     *
+     * @param line Línea
+     * @return Posición o -1
+     */
+    private int indexOfSpace (String line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (Character.isWhitespace(line.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Valida si un operando es numérico (decimal, hexadecimal o caracter).
+     *
+     * @param value Operando
+     * @return Booleano
+     */
+    private boolean isNumber (String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char c = value.charAt(0);
+        return Character.isDigit(c) || c == '-' || c == '+' || c == '\'';
+    }
+
+    /**
+     * Convierte un operando numérico.
+     *
+     * @param value Operando
+     * @return Valor
+     */
+    private int parseNumber (String value) {
+        value = value.trim();
+        try {
+            if (value.startsWith("'")) {
+                String content = parseString(value);
+                if (content.length() != 1) {
+                    throw error("caracter inválido " + value);
+                }
+                return content.charAt(0);
+            }
+            if (value.startsWith("0x") || value.startsWith("0X")) {
+                return (int) Long.parseLong(value.substring(2), 16);
+            }
+            if (value.startsWith("-0x")) {
+                return -(int) Long.parseLong(value.substring(3), 16);
+            }
+            return (int) Long.parseLong(value.startsWith("+") ? value.substring(1) : value);
+        } catch (NumberFormatException e) {
+            throw error("número inválido '" + value + "'");
+        }
+    }
+
+    /**
+     * Convierte un literal entre comillas (simples o dobles) procesando los escapes.
+     *
+     * @param literal Literal
+     * @return Contenido del literal
+     */
+    private String parseString (String literal) {
+        StringBuilder result = new StringBuilder();
+        literal = literal.trim();
+        if (literal.length() < 2 || literal.charAt(0) != literal.charAt(literal.length() - 1)) {
+            throw error("literal inválido " + literal);
+        }
+        for (int i = 1; i < literal.length() - 1; i++) {
+            char c = literal.charAt(i);
+            if (c == '\\' && i + 1 < literal.length() - 1) {
+                c = literal.charAt(++i);
+                switch (c) {
+                    case 'n': c = '\n'; break;
+                    case 't': c = '\t'; break;
+                    case 'r': c = '\r'; break;
+                    case '0': c = '\0'; break;
+                    default: break;
+                }
+            }
+            result.append(c);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Genera un error de ensamblado en la línea actual.
+     *
+     * @param description Descripción
+     * @return Excepción
+     */
+    private MipsException error (String description) {
+        return new MipsException("Línea " + currentLine + ": " + description + ".");
+    }
+}
@@ -0,0 +1,85 @@
+package src.lib.mipsHelper;
+
+/**
+ * Instrucción MIPS ya ensamblada. Las pseudo-instrucciones que utiliza el
+ * generador de código (li, la, move, mul, seq, etc.) se ejecutan como una
+ * única instrucción del simulador, pero se contabilizan como las
+ * instrucciones básicas en las que las expande MARS.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class Instruction {
+
+    /**
+     * Operaciones soportadas por el simulador.
+     */
+    public enum Operation {
+        /** Aritméticas con registros */ ADD, ADDU, SUB, SUBU, AND, OR, XOR, NOR, SLT, SLTU,
+        /** Pseudo aritméticas con registros */ MUL, SEQ, SNE, SLE, SGT, SGE, SLEU, SGTU, SGEU, DIV3, DIVU3, REM, REMU,
+        /** Aritméticas con inmediato */ ADDI, ADDIU, ANDI, ORI, XORI, SLTI, SLTIU, LUI, LI, LA,
+        /** Desplazamientos */ SLL, SRL, SRA, SLLV, SRLV, SRAV,
+        /** Unarias */ MOVE, NEG, NOT, ABS,
+        /** HI y LO */ MULT, MULTU, DIV, DIVU, MFHI, MFLO, MTHI, MTLO,
+        /** Memoria */ LW, LB, LBU, LH, LHU, SW, SB, SH,
+        /** Saltos condicionales */ BEQ, BNE, BLT, BGT, BLE, BGE, BLTU, BGTU, BLEU, BGEU, BEQZ, BNEZ, BGEZ, BGTZ, BLEZ, BLTZ,
+        /** Saltos incondicionales */ J, JAL, JR, JALR, B,
+        /** Otras */ SYSCALL, NOP
+    }
+
+    /** Operación */
+    public final Operation op;
+    /** Registro destino */
+    public int rd;
+    /** Primer registro fuente (o registro base en accesos a memoria) */
+    public int rs;
+    /** Segundo registro fuente */
+    public int rt;
+    /** Valor inmediato (o desplazamiento en accesos a memoria) */
+    public int imm;
+    /** Avisa si el segundo operando es un inmediato en lugar del registro rt */
+    public boolean useImm;
+    /** Etiqueta a resolver (destino de salto, dirección de dato) */
+    public String label;
+    /** Índice de la instrucción destino (saltos) */
+    public int target;
+    /** Línea del código fuente ensamblado */
+    public final int line;
+    /** Cantidad de instrucciones básicas en las que MARS expande la instrucción */
+    public int size;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param op Operación
+     * @param line Línea del código fuente
+     */
+    public Instruction (Operation op, int line) {
+        this.op = op;
+        this.line = line;
+        this.rs = 0;
+        this.rt = 0;
+        this.rd = 0;
+        this.target = -1;
+        this.size = 1;
+    }
+
+    /**
+     * Avisa si la instrucción lee memoria.
+     *
+     * @return Booleano
+     */
+    public boolean isLoad () {
+        return op == Operation.LW || op == Operation.LB || op == Operation.LBU || op == Operation.LH || op == Operation.LHU;
+    }
+
+    /**
+     * Avisa si la instrucción escribe memoria.
+     *
+     * @return Booleano
+     */
+    public boolean isStore () {
+        return op == Operation.SW || op == Operation.SB || op == Operation.SH;
+    }
+}
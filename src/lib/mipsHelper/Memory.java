@@ -0,0 +1,155 @@
+package src.lib.mipsHelper;
+
+import java.util.HashMap;
+
+/**
+ * Memoria del simulador MIPS. Se divide en páginas de 4KB que se generan a
+ * medida que se acceden, por lo que el espacio de direcciones completo de 32
+ * bits se encuentra disponible (datos, heap y stack) sin reservarlo por adelantado.<br/>
+ *
+ * Al igual que MARS, el orden de los bytes es little-endian y los accesos a
+ * palabras deben estar alineados a 4 bytes.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class Memory {
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final HashMap<Integer, byte[]> pages;
+
+    //Ultima pagina accedida (La mayoria de los accesos consecutivos caen en la misma)
+    private int lastPageIndex;
+    private byte[] lastPage;
+
+    /**
+     * Constructor de la clase.
+     */
+    public Memory () {
+        pages = new HashMap<Integer, byte[]>();
+        lastPageIndex = -1;
+        lastPage = null;
+    }
+
+    /**
+     * Obtiene la página que contiene la dirección dada, generándola si no existe.
+     *
+     * @param address Dirección de memoria
+     * @return Arreglo de bytes de la página
+     */
+    private byte[] page (int address) {
+        int index = address >>> PAGE_BITS;
+        if (index != lastPageIndex) {
+            lastPage = pages.get(index);
+            if (lastPage == null) {
+                lastPage = new byte[PAGE_SIZE];
+                pages.put(index, lastPage);
+            }
+            lastPageIndex = index;
+        }
+        return lastPage;
+    }
+
+    /**
+     * Lee un byte (sin signo).
+     *
+     * @param address Dirección de memoria
+     * @return Valor del byte entre 0 y 255
+     */
+    public int loadByte (int address) {
+        return page(address)[address & PAGE_MASK] & 0xFF;
+    }
+
+    /**
+     * Escribe un byte.
+     *
+     * @param address Dirección de memoria
+     * @param value Valor a escribir (Se utilizan los 8 bits menos significativos)
+     */
+    public void storeByte (int address, int value) {
+        page(address)[address & PAGE_MASK] = (byte) value;
+    }
+
+    /**
+     * Lee una palabra alineada.
+     *
+     * @param address Dirección de memoria
+     * @return Palabra leída
+     */
+    public int loadWord (int address) {
+        checkAlignment(address, 4);
+        byte[] p = page(address);
+        int i = address & PAGE_MASK;
+        return (p[i] & 0xFF) | ((p[i + 1] & 0xFF) << 8) | ((p[i + 2] & 0xFF) << 16) | (p[i + 3] << 24);
+    }
+
+    /**
+     * Escribe una palabra alineada.
+     *
+     * @param address Dirección de memoria
+     * @param value Palabra a escribir
+     */
+    public void storeWord (int address, int value) {
+        checkAlignment(address, 4);
+        byte[] p = page(address);
+        int i = address & PAGE_MASK;
+        p[i] = (byte) value;
+        p[i + 1] = (byte) (value >> 8);
+        p[i + 2] = (byte) (value >> 16);
+        p[i + 3] = (byte) (value >> 24);
+    }
+
+    /**
+     * Lee media palabra alineada (con signo).
+     *
+     * @param address Dirección de memoria
+     * @return Valor leído
+     */
+    public int loadHalf (int address) {
+        checkAlignment(address, 2);
+        return (short) (loadByte(address) | (loadByte(address + 1) << 8));
+    }
+
+    /**
+     * Escribe media palabra alineada.
+     *
+     * @param address Dirección de memoria
+     * @param value Valor a escribir
+     */
+    public void storeHalf (int address, int value) {
+        checkAlignment(address, 2);
+        storeByte(address, value);
+        storeByte(address + 1, value >> 8);
+    }
+
+    /**
+     * Lee un string terminado en cero.
+     *
+     * @param address Dirección de inicio
+     * @return String leído
+     */
+    public String loadString (int address) {
+        StringBuilder result = new StringBuilder();
+        int c = loadByte(address);
+        while (c != 0) {
+            result.append((char) c);
+            c = loadByte(++address);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Valida que el acceso se encuentre alineado.
+     *
+     * @param address Dirección de memoria
+     * @param size Tamaño del acceso
+     */
+    private void checkAlignment (int address, int size) {
+        if ((address & (size - 1)) != 0) {
+            throw new MipsException("Acceso a memoria no alineado en la dirección 0x" + Integer.toHexString(address));
+        }
+    }
+}
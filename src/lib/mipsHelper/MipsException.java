@@ -0,0 +1,22 @@
+package src.lib.mipsHelper;
+
+/**
+ * Excepción que se genera al ensamblar o ejecutar código MIPS en el simulador.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class MipsException extends RuntimeException {
+    /** Versión de la clase serializada */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param description Descripción del error
+     */
+    public MipsException (String description) {
+        super(description);
+    }
+}
@@ -0,0 +1,69 @@
+package src.lib.mipsHelper;
+
+import java.util.HashMap;
+
+/**
+ * Programa MIPS ensamblado: instrucciones, imagen inicial de memoria y etiquetas.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class MipsProgram {
+    private final Instruction[] text;
+    private final Memory memory;
+    private final HashMap<String, Integer> labels;
+    private final int dataEnd;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param text Instrucciones del segmento de texto
+     * @param memory Memoria con el segmento de datos inicializado
+     * @param labels Direcciones de las etiquetas
+     * @param dataEnd Primera dirección libre del segmento de datos
+     */
+    public MipsProgram (Instruction[] text, Memory memory, HashMap<String, Integer> labels, int dataEnd) {
+        this.text = text;
+        this.memory = memory;
+        this.labels = labels;
+        this.dataEnd = dataEnd;
+    }
+
+    /**
+     * Obtiene las instrucciones del programa.
+     *
+     * @return Arreglo de instrucciones
+     */
+    public Instruction[] getText () {
+        return text;
+    }
+
+    /**
+     * Obtiene la memoria inicial del programa.
+     *
+     * @return Memoria
+     */
+    public Memory getMemory () {
+        return memory;
+    }
+
+    /**
+     * Obtiene la dirección de una etiqueta.
+     *
+     * @param label Nombre de la etiqueta
+     * @return Dirección o null si no existe
+     */
+    public Integer getLabel (String label) {
+        return labels.get(label);
+    }
+
+    /**
+     * Obtiene la primera dirección libre del segmento de datos.
+     *
+     * @return Dirección
+     */
+    public int getDataEnd () {
+        return dataEnd;
+    }
+}
@@ -0,0 +1,467 @@
+package src.lib.mipsHelper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * Simulador MIPS.<br/>
+ *
+ * Ejecuta un programa ensamblado con el mismo modelo de memoria y las mismas
+ * llamadas al sistema que MARS 4.5 (1, 4, 5, 8, 9, 10, 11, 12 y 17),
+ * contabilizando instrucciones, lecturas, escrituras, saltos y memoria de heap
+ * solicitada.<br/>
+ *
+ * Las pseudo-instrucciones se cuentan como las instrucciones básicas en las
+ * que las expande MARS (la, lw etiqueta, bgtu, li de 32 bits, etc.).<br/>
+ *
+ * Además estima los ciclos de un pipeline clásico de 5 etapas: un ciclo por
+ * instrucción básica, uno extra por cada dependencia de carga-uso y por cada salto
+ * tomado, y la latencia de multiplicaciones y divisiones.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class Simulator {
+    /** Dirección base del heap */
+    public static final int HEAP_BASE = 0x10040000;
+    /** Valor inicial de $sp */
+    public static final int STACK_BASE = 0x7fffeffc;
+    /** Valor inicial de $gp */
+    public static final int GLOBAL_POINTER = 0x10008000;
+
+    /** Estado de salida al exceder el límite de instrucciones */
+    public static final int EXIT_STEP_LIMIT = -2;
+    /** Estado de salida ante un error de ejecución */
+    public static final int EXIT_RUNTIME_ERROR = -1;
+
+    /** Ciclos extra de una multiplicación */
+    private static final int MULT_LATENCY = 3;
+    /** Ciclos extra de una división */
+    private static final int DIV_LATENCY = 34;
+
+    private final Instruction[] text;
+    private final Memory memory;
+    private final BufferedReader input;
+    private final PrintStream output;
+    private final int[] registers;
+    private int hi, lo, pc, heapPointer, exitStatus;
+    private String error;
+
+    //Estadísticas
+    private long instructions, cycles, loads, stores, branches, branchesTaken, jumps, syscalls, heapBytes;
+    private int minStack, lastLoad;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param program Programa ensamblado
+     * @param input Entrada estándar del programa
+     * @param output Salida estándar del programa
+     */
+    public Simulator (MipsProgram program, BufferedReader input, PrintStream output) {
+        Integer main = program.getLabel("main");
+
+        this.text = program.getText();
+        this.memory = program.getMemory();
+        this.input = input;
+        this.output = output;
+        this.registers = new int[32];
+        this.registers[28] = GLOBAL_POINTER;
+        this.registers[29] = STACK_BASE;
+        this.pc = main == null ? 0 : (main - Assembler.TEXT_BASE) >> 2;
+        this.heapPointer = HEAP_BASE;
+        this.minStack = STACK_BASE;
+        this.exitStatus = 0;
+        this.error = null;
+    }
+
+    /**
+     * Ejecuta el programa.
+     *
+     * @param stepLimit Cantidad máxima de instrucciones a ejecutar (0 para no limitar)
+     * @return Estado de salida del programa
+     */
+    public int run (long stepLimit) {
+        try {
+            while (pc >= 0 && pc < text.length) {
+                if (stepLimit > 0 && instructions >= stepLimit) {
+                    error = "Se alcanzó el límite de " + stepLimit + " instrucciones.";
+                    exitStatus = EXIT_STEP_LIMIT;
+                    break;
+                }
+                instructions += text[pc].size;
+                if (!execute(text[pc])) {
+                    break;
+                }
+            }
+        } catch (MipsException | ArithmeticException e) {
+            Instruction current = pc >= 0 && pc < text.length ? text[pc] : null;
+            error = (current == null ? "" : "Línea " + current.line + ": ") + e.getMessage();
+            exitStatus = EXIT_RUNTIME_ERROR;
+        }
+        output.flush();
+        return exitStatus;
+    }
+
+    /**
+     * Ejecuta una instrucción y actualiza el contador de programa.
+     *
+     * @param i Instrucción
+     * @return False si el programa finalizó
+     */
+    private boolean execute (Instruction i) {
+        int[] r = registers;
+        int second = i.useImm ? i.imm : r[i.rt];
+        int next = pc + 1;
+
+        //Un ciclo por instrucción básica. Si la instrucción usa el registro cargado por la anterior, el pipeline se detiene un ciclo
+        cycles += i.size;
+        if (lastLoad != 0 && (i.rs == lastLoad || ((!i.useImm || i.isStore()) && i.rt == lastLoad))) {
+            cycles++;
+        }
+        lastLoad = i.isLoad() ? i.rt : 0;
+
+        switch (i.op) {
+            case ADD: case ADDU: case ADDI: case ADDIU: r[i.rd] = r[i.rs] + second; break;
+            case SUB: case SUBU: r[i.rd] = r[i.rs] - second; break;
+            case AND: case ANDI: r[i.rd] = r[i.rs] & second; break;
+            case OR: case ORI: r[i.rd] = r[i.rs] | second; break;
+            case XOR: case XORI: r[i.rd] = r[i.rs] ^ second; break;
+            case NOR: r[i.rd] = ~(r[i.rs] | second); break;
+            case SLT: case SLTI: r[i.rd] = r[i.rs] < second ? 1 : 0; break;
+            case SLTU: case SLTIU: r[i.rd] = Integer.compareUnsigned(r[i.rs], second) < 0 ? 1 : 0; break;
+            case MUL: cycles += MULT_LATENCY; r[i.rd] = r[i.rs] * second; break;
+            case SEQ: r[i.rd] = r[i.rs] == second ? 1 : 0; break;
+            case SNE: r[i.rd] = r[i.rs] != second ? 1 : 0; break;
+            case SLE: r[i.rd] = r[i.rs] <= second ? 1 : 0; break;
+            case SGT: r[i.rd] = r[i.rs] > second ? 1 : 0; break;
+            case SGE: r[i.rd] = r[i.rs] >= second ? 1 : 0; break;
+            case SLEU: r[i.rd] = Integer.compareUnsigned(r[i.rs], second) <= 0 ? 1 : 0; break;
+            case SGTU: r[i.rd] = Integer.compareUnsigned(r[i.rs], second) > 0 ? 1 : 0; break;
+            case SGEU: r[i.rd] = Integer.compareUnsigned(r[i.rs], second) >= 0 ? 1 : 0; break;
+            case DIV3: cycles += DIV_LATENCY; r[i.rd] = r[i.rs] / second; break;
+            case DIVU3: cycles += DIV_LATENCY; r[i.rd] = Integer.divideUnsigned(r[i.rs], second); break;
+            case REM: cycles += DIV_LATENCY; r[i.rd] = r[i.rs] % second; break;
+            case REMU: cycles += DIV_LATENCY; r[i.rd] = Integer.remainderUnsigned(r[i.rs], second); break;
+            case SLL: r[i.rd] = r[i.rs] << i.imm; break;
+            case SRL: r[i.rd] = r[i.rs] >>> i.imm; break;
+            case SRA: r[i.rd] = r[i.rs] >> i.imm; break;
+            case SLLV: r[i.rd] = r[i.rs] << second; break;
+            case SRLV: r[i.rd] = r[i.rs] >>> second; break;
+            case SRAV: r[i.rd] = r[i.rs] >> second; break;
+            case LUI: r[i.rd] = i.imm << 16; break;
+            case LI: r[i.rd] = i.imm; break;
+            case LA: r[i.rd] = r[i.rs] + i.imm; break;
+            case MOVE: r[i.rd] = r[i.rs]; break;
+            case NEG: r[i.rd] = -r[i.rs]; break;
+            case NOT: r[i.rd] = ~r[i.rs]; break;
+            case ABS: r[i.rd] = Math.abs(r[i.rs]); break;
+            case MULT: {
+                cycles += MULT_LATENCY;
+                long product = (long) r[i.rs] * r[i.rt];
+                lo = (int) product;
+                hi = (int) (product >> 32);
+                break;
+            }
+            case MULTU: {
+                cycles += MULT_LATENCY;
+                long product = (r[i.rs] & 0xFFFFFFFFL) * (r[i.rt] & 0xFFFFFFFFL);
+                lo = (int) product;
+                hi = (int) (product >> 32);
+                break;
+            }
+            case DIV:
+                cycles += DIV_LATENCY;
+                //Al igual que MARS, la división por cero no genera error y deja HI y LO sin modificar
+                if (r[i.rt] != 0) {
+                    lo = r[i.rs] / r[i.rt];
+                    hi = r[i.rs] % r[i.rt];
+                }
+                break;
+            case DIVU:
+                cycles += DIV_LATENCY;
+                if (r[i.rt] != 0) {
+                    lo = Integer.divideUnsigned(r[i.rs], r[i.rt]);
+                    hi = Integer.remainderUnsigned(r[i.rs], r[i.rt]);
+                }
+                break;
+            case MFHI: r[i.rd] = hi; break;
+            case MFLO: r[i.rd] = lo; break;
+            case MTHI: hi = r[i.rs]; break;
+            case MTLO: lo = r[i.rs]; break;
+            case LW: loads++; r[i.rt] = memory.loadWord(r[i.rs] + i.imm); break;
+            case LB: loads++; r[i.rt] = (byte) memory.loadByte(r[i.rs] + i.imm); break;
+            case LBU: loads++; r[i.rt] = memory.loadByte(r[i.rs] + i.imm); break;
+            case LH: loads++; r[i.rt] = memory.loadHalf(r[i.rs] + i.imm); break;
+            case LHU: loads++; r[i.rt] = memory.loadHalf(r[i.rs] + i.imm) & 0xFFFF; break;
+            case SW: stores++; memory.storeWord(r[i.rs] + i.imm, r[i.rt]); break;
+            case SB: stores++; memory.storeByte(r[i.rs] + i.imm, r[i.rt]); break;
+            case SH: stores++; memory.storeHalf(r[i.rs] + i.imm, r[i.rt]); break;
+            case BEQ: next = branch(i, r[i.rs] == second, next); break;
+            case BNE: next = branch(i, r[i.rs] != second, next); break;
+            case BLT: next = branch(i, r[i.rs] < second, next); break;
+            case BGT: next = branch(i, r[i.rs] > second, next); break;
+            case BLE: next = branch(i, r[i.rs] <= second, next); break;
+            case BGE: next = branch(i, r[i.rs] >= second, next); break;
+            case BLTU: next = branch(i, Integer.compareUnsigned(r[i.rs], second) < 0, next); break;
+            case BGTU: next = branch(i, Integer.compareUnsigned(r[i.rs], second) > 0, next); break;
+            case BLEU: next = branch(i, Integer.compareUnsigned(r[i.rs], second) <= 0, next); break;
+            case BGEU: next = branch(i, Integer.compareUnsigned(r[i.rs], second) >= 0, next); break;
+            case BEQZ: next = branch(i, r[i.rs] == 0, next); break;
+            case BNEZ: next = branch(i, r[i.rs] != 0, next); break;
+            case BGEZ: next = branch(i, r[i.rs] >= 0, next); break;
+            case BGTZ: next = branch(i, r[i.rs] > 0, next); break;
+            case BLEZ: next = branch(i, r[i.rs] <= 0, next); break;
+            case BLTZ: next = branch(i, r[i.rs] < 0, next); break;
+            case J: case B: jumps++; cycles++; next = i.target; break;
+            case JAL: jumps++; cycles++; r[31] = Assembler.TEXT_BASE + (next << 2); next = i.target; break;
+            case JR: jumps++; cycles++; next = textIndex(r[i.rs]); break;
+            case JALR: {
+                int destination = r[i.rs];
+                jumps++;
+                cycles++;
+                r[i.rd] = Assembler.TEXT_BASE + (next << 2);
+                next = textIndex(destination);
+                break;
+            }
+            case SYSCALL:
+                syscalls++;
+                if (!syscall()) {
+                    return false;
+                }
+                break;
+            default:
+                //NOP
+                break;
+        }
+
+        r[0] = 0;
+        if (r[29] < minStack) {
+            minStack = r[29];
+        }
+        pc = next;
+        return true;
+    }
+
+    /**
+     * Resuelve un salto condicional.
+     *
+     * @param i Instrucción
+     * @param taken Avisa si la condición se cumple
+     * @param next Siguiente instrucción
+     * @return Índice de la próxima instrucción a ejecutar
+     */
+    private int branch (Instruction i, boolean taken, int next) {
+        branches++;
+        if (taken) {
+            branchesTaken++;
+            cycles++;
+            return i.target;
+        }
+        return next;
+    }
+
+    /**
+     * Convierte una dirección del segmento de texto a un índice de instrucción.
+     *
+     * @param address Dirección
+     * @return Índice
+     */
+    private int textIndex (int address) {
+        int index = (address - Assembler.TEXT_BASE) >> 2;
+        if ((address & 3) != 0 || index < 0 || index > text.length) {
+            throw new MipsException("Salto a una dirección inválida 0x" + Integer.toHexString(address));
+        }
+        return index;
+    }
+
+    /**
+     * Ejecuta una llamada al sistema.
+     *
+     * @return False si el programa finalizó
+     */
+    private boolean syscall () {
+        int[] r = registers;
+
+        switch (r[2]) {
+            case 1:
+                output.print(r[4]);
+                break;
+            case 4:
+                output.print(memory.loadString(r[4]));
+                break;
+            case 5: {
+                String line = readLine();
+                try {
+                    r[2] = Integer.parseInt(line.trim());
+                } catch (NumberFormatException e) {
+                    throw new MipsException("Entero inválido '" + line + "'.");
+                }
+                break;
+            }
+            case 8: {
+                String line = readLine() + "\n";
+                int address = r[4], max = r[5] - 1, i;
+                for (i = 0; i < line.length() && i < max; i++) {
+                    memory.storeByte(address + i, line.charAt(i));
+                }
+                if (max >= 0) {
+                    memory.storeByte(address + i, 0);
+                }
+                break;
+            }
+            case 9: {
+                int size = r[4];
+                if (size < 0) {
+                    throw new MipsException("Solicitud de memoria negativa (" + size + ").");
+                }
+                r[2] = heapPointer;
+                heapPointer += (size + 3) & ~3;
+                heapBytes += size;
+                break;
+            }
+            case 10:
+                exitStatus = 0;
+                return false;
+            case 11:
+                output.print((char) (r[4] & 0xFF));
+                break;
+            case 12:
+                try {
+                    int c = input.read();
+                    if (c == -1) {
+                        throw new MipsException("Fin de la entrada.");
+                    }
+                    r[2] = c;
+                } catch (IOException e) {
+                    throw new MipsException(e.getMessage());
+                }
+                break;
+            case 17:
+                exitStatus = r[4];
+                return false;
+            default:
+                throw new MipsException("Llamada al sistema no soportada (" + r[2] + ").");
+        }
+        return true;
+    }
+
+    /**
+     * Lee una línea de la entrada estándar.
+     *
+     * @return Línea leída
+     */
+    private String readLine () {
+        try {
+            String line = input.readLine();
+            if (line == null) {
+                throw new MipsException("Fin de la entrada.");
+            }
+            return line;
+        } catch (IOException e) {
+            throw new MipsException(e.getMessage());
+        }
+    }
+
+    /**
+     * Obtiene el mensaje del error de ejecución (si lo hubo).
+     *
+     * @return Mensaje o null
+     */
+    public String getError () {
+        return error;
+    }
+
+    /**
+     * Obtiene el valor de un registro.
+     *
+     * @param register Número de registro
+     * @return Valor
+     */
+    public int getRegister (int register) {
+        return registers[register];
+    }
+
+    /**
+     * Obtiene la memoria del simulador.
+     *
+     * @return Memoria
+     */
+    public Memory getMemory () {
+        return memory;
+    }
+
+    /** @return Cantidad de instrucciones básicas ejecutadas (Las pseudo-instrucciones cuentan su expansión) */
+    public long getInstructions () {
+        return instructions;
+    }
+
+    /** @return Ciclos estimados de la ejecución */
+    public long getCycles () {
+        return cycles;
+    }
+
+    /** @return Cantidad de lecturas a memoria */
+    public long getLoads () {
+        return loads;
+    }
+
+    /** @return Cantidad de escrituras a memoria */
+    public long getStores () {
+        return stores;
+    }
+
+    /** @return Cantidad de saltos condicionales ejecutados */
+    public long getBranches () {
+        return branches;
+    }
+
+    /** @return Cantidad de saltos condicionales tomados */
+    public long getBranchesTaken () {
+        return branchesTaken;
+    }
+
+    /** @return Cantidad de saltos incondicionales */
+    public long getJumps () {
+        return jumps;
+    }
+
+    /** @return Cantidad de llamadas al sistema */
+    public long getSyscalls () {
+        return syscalls;
+    }
+
+    /** @return Bytes solicitados mediante sbrk */
+    public long getHeapBytes () {
+        return heapBytes;
+    }
+
+    /** @return Máxima cantidad de bytes de stack utilizados */
+    public int getStackBytes () {
+        return STACK_BASE - minStack;
+    }
+
+    /**
+     * Convierte las estadísticas de la ejecución en JSON.
+     *
+     * @param tabs Tabulaciones
+     * @return Estadísticas en formato JSON
+     */
+    public String toJSON (String tabs) {
+        return tabs + "{\n" +
+            tabs + "    \"exit\": " + exitStatus + ",\n" +
+            tabs + "    \"instructions\": " + instructions + ",\n" +
+            tabs + "    \"cycles\": " + cycles + ",\n" +
+            tabs + "    \"loads\": " + loads + ",\n" +
+            tabs + "    \"stores\": " + stores + ",\n" +
+            tabs + "    \"branches\": " + branches + ",\n" +
+            tabs + "    \"branchesTaken\": " + branchesTaken + ",\n" +
+            tabs + "    \"jumps\": " + jumps + ",\n" +
+            tabs + "    \"syscalls\": " + syscalls + ",\n" +
+            tabs + "    \"heapBytes\": " + heapBytes + ",\n" +
+            tabs + "    \"stackBytes\": " + getStackBytes() + "\n" +
+        tabs + "}";
+    }
+}
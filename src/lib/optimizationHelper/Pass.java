@@ -0,0 +1,115 @@
+package src.lib.optimizationHelper;
+
+import java.util.ArrayList;
+
+/**
+ * Pase de optimización sobre el código MIPS generado.<br/>
+ *
+ * Cada pase recibe el código separado en líneas y lo modifica en el lugar,
+ * retornando la cantidad de cambios realizados.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public abstract class Pass {
+    private final String name;
+    private final int level;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param name Nombre del pase (Se utiliza en --enable-pass y --disable-pass)
+     * @param level Nivel de optimización mínimo en el que se ejecuta
+     */
+    protected Pass (String name, int level) {
+        this.name = name;
+        this.level = level;
+    }
+
+    /**
+     * Obtiene el nombre del pase.
+     *
+     * @return String
+     */
+    public String getName () {
+        return name;
+    }
+
+    /**
+     * Obtiene el nivel de optimización mínimo en el que se ejecuta.
+     *
+     * @return Nivel
+     */
+    public int getLevel () {
+        return level;
+    }
+
+    /**
+     * Ejecuta el pase.
+     *
+     * @param lines Líneas del código MIPS (Se modifican en el lugar)
+     * @return Cantidad de cambios realizados
+     */
+    public abstract int run (ArrayList<String> lines);
+
+    /**
+     * Obtiene la instrucción de una línea, sin comentarios ni espacios.
+     *
+     * @param line Línea
+     * @return Instrucción o "" si la línea no tiene código
+     */
+    protected static String instruction (String line) {
+        int index = line.indexOf('#');
+        return (index >= 0 ? line.substring(0, index) : line).trim();
+    }
+
+    /**
+     * Avisa si una línea es una etiqueta o una directiva, es decir, un punto
+     * al que se puede saltar o que cambia de segmento.
+     *
+     * @param line Línea
+     * @return Booleano
+     */
+    protected static boolean isBarrier (String line) {
+        String code = instruction(line);
+        return code.startsWith(".") || code.contains(":");
+    }
+
+    /**
+     * Avisa si una instrucción modifica el flujo del programa (saltos,
+     * llamadas y llamadas al sistema).
+     *
+     * @param code Instrucción
+     * @return Booleano
+     */
+    protected static boolean isControlFlow (String code) {
+        String op = code.split("\\s+")[0];
+        return op.startsWith("b") || op.startsWith("j") || op.equals("syscall");
+    }
+
+    /**
+     * Busca la siguiente línea con código a partir de una posición.
+     *
+     * @param lines Líneas
+     * @param from Posición inicial
+     * @return Índice de la línea o -1
+     */
+    protected static int next (ArrayList<String> lines, int from) {
+        for (int i = from; i < lines.size(); i++) {
+            if (lines.get(i) != null && !instruction(lines.get(i)).isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Quita las líneas marcadas como eliminadas (null).
+     *
+     * @param lines Líneas
+     */
+    protected static void compact (ArrayList<String> lines) {
+        lines.removeIf(line -> line == null);
+    }
+}
@@ -0,0 +1,114 @@
+package src.lib.optimizationHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import src.lib.CompilerOptions;
+import src.lib.statsHelper.CompilerStats;
+
+/**
+ * Administra los pases de optimización del código MIPS generado.<br/>
+ *
+ * Cada nivel de optimización ejecuta los pases de su nivel y de los niveles
+ * inferiores, en el orden en que se registran. Los pases se pueden activar o
+ * desactivar individualmente con --enable-pass y --disable-pass. En -O0 sin
+ * pases activados el código se retorna sin modificaciones.<br/>
+ *
+ * Por cada pase ejecutado se registra en las métricas de la compilación el
+ * tiempo, la cantidad de cambios y las instrucciones eliminadas.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class PassManager {
+    private final CompilerOptions options;
+    private final CompilerStats stats;
+    private final ArrayList<Pass> passes;
+
+    /**
+     * Constructor de la clase. Registra los pases disponibles.
+     *
+     * @param options Opciones del compilador
+     * @param stats Métricas de la compilación
+     */
+    public PassManager (CompilerOptions options, CompilerStats stats) {
+        this.options = options;
+        this.stats = stats;
+        this.passes = new ArrayList<Pass>(Arrays.asList(
+            new PushPopPass(),
+            new PeepholePass(),
+            new UnreachableCodePass()
+        ));
+    }
+
+    /**
+     * Obtiene los pases registrados, en el orden en que se ejecutan.
+     *
+     * @return Lista de pases
+     */
+    public ArrayList<Pass> getPasses () {
+        return new ArrayList<Pass>(passes);
+    }
+
+    /**
+     * Obtiene los pases que se ejecutan con las opciones actuales.
+     *
+     * @return Lista de pases
+     */
+    public ArrayList<Pass> getActivePasses () {
+        ArrayList<Pass> active = new ArrayList<Pass>();
+
+        for (Pass pass : passes) {
+            boolean enabled = pass.getLevel() <= options.getOptimizationLevel() ||
+                options.getEnabledPasses().contains(pass.getName());
+
+            if (enabled && !options.getDisabledPasses().contains(pass.getName())) {
+                active.add(pass);
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Ejecuta los pases activos sobre el código.
+     *
+     * @param code Código MIPS generado
+     * @return Código optimizado
+     */
+    public String run (String code) {
+        ArrayList<Pass> active = getActivePasses();
+
+        if (active.isEmpty()) {
+            return code;
+        }
+
+        ArrayList<String> lines = new ArrayList<String>(Arrays.asList(code.split("\n", -1)));
+        for (Pass pass : active) {
+            long before = stats.isEnabled() ? countInstructions(lines) : 0;
+            long[] mark = stats.start();
+            int changes = pass.run(lines);
+            stats.end("opt " + pass.getName(), mark);
+
+            if (stats.isEnabled()) {
+                stats.count("opt " + pass.getName() + " cambios", changes);
+                stats.count("opt " + pass.getName() + " eliminadas", before - countInstructions(lines));
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Cuenta las líneas con instrucciones (sin etiquetas ni directivas).
+     */
+    private static long countInstructions (ArrayList<String> lines) {
+        long count = 0;
+
+        for (String line : lines) {
+            if (!Pass.instruction(line).isEmpty() && !Pass.isBarrier(line)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,49 @@
+package src.lib.optimizationHelper;
+
+import java.util.ArrayList;
+
+/**
+ * Elimina instrucciones sin efecto: ajustes de $sp que se anulan entre sí
+ * (addiu -4 seguido de addiu 4) y moves de un registro a sí mismo.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class PeepholePass extends Pass {
+
+    /**
+     * Constructor de la clase.
+     */
+    public PeepholePass () {
+        super("peephole", 1);
+    }
+
+    @Override
+    public int run (ArrayList<String> lines) {
+        int changes = 0;
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line == null) {
+                continue;
+            }
+            String code = instruction(line);
+
+            if (code.matches("move (\\$\\w+), \\1")) {
+                lines.set(i, null);
+                changes++;
+            } else if (code.equals("addiu $sp, $sp, -4")) {
+                int j = next(lines, i + 1);
+                if (j >= 0 && instruction(lines.get(j)).equals("addiu $sp, $sp, 4")) {
+                    lines.set(i, null);
+                    lines.set(j, null);
+                    changes++;
+                }
+            }
+        }
+
+        compact(lines);
+        return changes;
+    }
+}
@@ -0,0 +1,77 @@
+package src.lib.optimizationHelper;
+
+import java.util.ArrayList;
+
+/**
+ * Reemplaza el apilado de $v0 que luego se desapila en $t0 por un move,
+ * cuando entre ambos no se usa el stack, ni $t0, ni se modifica el flujo.<br/>
+ *
+ * Es el patrón de las asignaciones: se apila la dirección del lado izquierdo,
+ * se calcula el lado derecho y se recupera la dirección en $t0.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class PushPopPass extends Pass {
+
+    /**
+     * Constructor de la clase.
+     */
+    public PushPopPass () {
+        super("push-pop", 1);
+    }
+
+    @Override
+    public int run (ArrayList<String> lines) {
+        int changes = 0;
+
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i) == null || !instruction(lines.get(i)).equals("sw $v0, 0($sp)")) {
+                continue;
+            }
+            int push = next(lines, i + 1);
+            if (push < 0 || !instruction(lines.get(push)).equals("addiu $sp, $sp, -4")) {
+                continue;
+            }
+
+            int load = -1, pop = -1;
+            for (int k = push + 1; k < lines.size() && pop < 0; k++) {
+                String line = lines.get(k);
+                if (line == null) {
+                    continue;
+                }
+                String code = instruction(line);
+                if (code.isEmpty()) {
+                    continue;
+                }
+                if (isBarrier(line) || isControlFlow(code)) {
+                    break;
+                }
+
+                if (load < 0) {
+                    if (code.equals("lw $t0, 4($sp)")) {
+                        load = k;
+                    } else if (code.contains("$sp") || code.contains("$t0")) {
+                        break;
+                    }
+                } else if (code.equals("addiu $sp, $sp, 4")) {
+                    pop = k;
+                } else if (code.contains("$sp")) {
+                    break;
+                }
+            }
+
+            if (pop >= 0) {
+                lines.set(i, "move $t0, $v0\t\t\t\t\t#Push/pop replaced by move");
+                lines.set(push, null);
+                lines.set(load, null);
+                lines.set(pop, null);
+                changes++;
+            }
+        }
+
+        compact(lines);
+        return changes;
+    }
+}
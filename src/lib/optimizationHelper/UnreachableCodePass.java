@@ -0,0 +1,58 @@
+package src.lib.optimizationHelper;
+
+import java.util.ArrayList;
+
+/**
+ * Elimina el código inalcanzable: las instrucciones que siguen a un salto
+ * incondicional hasta la siguiente etiqueta o directiva, y los saltos a la
+ * etiqueta inmediatamente siguiente.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class UnreachableCodePass extends Pass {
+
+    /**
+     * Constructor de la clase.
+     */
+    public UnreachableCodePass () {
+        super("unreachable", 2);
+    }
+
+    @Override
+    public int run (ArrayList<String> lines) {
+        int changes = 0;
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line == null) {
+                continue;
+            }
+            String code = instruction(line);
+            String[] parts = code.split("\\s+");
+
+            if (!parts[0].equals("j") && !parts[0].equals("b") && !parts[0].equals("jr")) {
+                continue;
+            }
+
+            //Salto a la etiqueta siguiente
+            int j = next(lines, i + 1);
+            if (!parts[0].equals("jr") && j >= 0 && instruction(lines.get(j)).equals(parts[1] + ":")) {
+                lines.set(i, null);
+                changes++;
+                continue;
+            }
+
+            //Código luego del salto
+            while (j >= 0 && !isBarrier(lines.get(j))) {
+                lines.set(j, null);
+                changes++;
+                j = next(lines, j + 1);
+            }
+        }
+
+        compact(lines);
+        return changes;
+    }
+}
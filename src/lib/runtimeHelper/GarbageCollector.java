@@ -0,0 +1,381 @@
+package src.lib.runtimeHelper;
+
+import java.util.ArrayList;
+
+import src.lib.Const;
+
+/**
+ * Esta clase se encarga de generar el runtime del recolector de basura
+ * (mark-sweep) que se agrega al código MIPS cuando se compila con --gc.<br/>
+ *
+ * <br/>Organización del heap:<br/>
+ * - Cada bloque posee una cabecera con su tamaño (múltiplo de 8). El bit 0 es la marca.<br/>
+ * - La referencia al objeto apunta a la palabra siguiente a la cabecera (vtable).<br/>
+ * - Un bitmap (1 bit cada 8 bytes) indica dónde comienzan los bloques reservados, lo
+ * que permite validar los punteros encontrados en la stack.<br/>
+ * - Los bloques libres se enlazan en Gc_free (tamaño y siguiente).<br/>
+ *
+ * <br/>Raíces:<br/>
+ * - La stack completa (Desde $sp hasta la base de main) se recorre de manera conservadora.<br/>
+ * - Los atributos de las estructuras (etiquetas estáticas) listados en Gc_roots.<br/>
+ *
+ * <br/>Cada vtable está precedida por la referencia a su mapa de punteros
+ * (Cantidad de referencias seguida de sus desplazamientos dentro del CIR, o -1 si
+ * todos los elementos son referencias como en Array Str).
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class GarbageCollector {
+    private GarbageCollector () {}
+
+    /**
+     * Genera el mapa de punteros de una estructura.
+     *
+     * @param label Nombre de la etiqueta del mapa
+     * @param offsets Desplazamientos (en bytes) de los atributos que son referencias
+     * @return Código MIPS (.data)
+     */
+    public static String generateMap (String label, ArrayList<Integer> offsets) {
+        String code = "\t" + label + ": .word " + offsets.size();
+
+        for (Integer offset : offsets) {
+            code += ", " + offset;
+        }
+
+        return code + "\n";
+    }
+
+    /**
+     * Genera la lista de raíces estáticas.
+     *
+     * @param labels Etiquetas de los atributos que son referencias
+     * @return Código MIPS (.data)
+     */
+    public static String generateRoots (ArrayList<String> labels) {
+        String code = "\tGc_roots: .word ";
+
+        for (String label : labels) {
+            code += label + ", ";
+        }
+
+        return code + "0\n";
+    }
+
+    /**
+     * Genera el código que inicializa el recolector. Debe ejecutarse al comienzo de main.
+     *
+     * @return Código MIPS
+     */
+    public static String generateInit () {
+        return "sw $sp, Gc_stack_base\t\t\t#Base of the stack for the GC\n" +
+            "jal Gc_init\n";
+    }
+
+    /**
+     * Genera los datos y las rutinas del recolector.
+     *
+     * @return Código MIPS
+     */
+    public static String generateRuntime () {
+        return ".data\n" +
+            "	Gc_map_none: .word 0\n" +
+            "	Gc_map_array: .word -1\n" +
+            "	Gc_heap_start: .word 0\n" +
+            "	Gc_heap_limit: .word 0\n" +
+            "	Gc_bitmap: .word 0\n" +
+            "	Gc_free: .word 0\n" +
+            "	Gc_allocated: .word 0\n" +
+            "	Gc_threshold: .word " + Const.GC_INITIAL_THRESHOLD + "\n" +
+            "	Gc_stack_base: .word 0\n" +
+            "	Gc_collections: .word 0\n" +
+            "	Gc_out_of_memory_msg: .asciiz \"ERROR: MEMORIA INSUFICIENTE\"\n" +
+            ".text\n" +
+            "	Gc_init:			#Reserva el bitmap y define el inicio del heap\n" +
+            "		li $a0, " + (Const.GC_HEAP_LIMIT / 64) + "			#1 bit cada 8 bytes\n" +
+            "		li $v0, 9\n" +
+            "		syscall\n" +
+            "		sw $v0, Gc_bitmap\n" +
+            "		addu $t8, $v0, $a0\n" +
+            "		sw $t8, Gc_heap_start\n" +
+            "		sw $t8, Heap_ptr\n" +
+            "		sw $t8, Heap_end\n" +
+            "		li $t9, " + Const.GC_HEAP_LIMIT + "\n" +
+            "		addu $t9, $t8, $t9\n" +
+            "		sw $t9, Gc_heap_limit\n" +
+            "		jr $ra\n" +
+            "	Heap_alloc:			#$a0: bytes a reservar. Retorna en $v0 el objeto (en cero). Modifica $a0, $t8 y $t9\n" +
+            "		addiu $sp, $sp, -16\n" +
+            "		sw $ra, 16($sp)\n" +
+            "		sw $s0, 12($sp)\n" +
+            "		sw $s1, 8($sp)\n" +
+            "		sw $s2, 4($sp)\n" +
+            "		addiu $s0, $a0, 11			#Tamaño del bloque: cabecera + objeto alineado a 8\n" +
+            "		srl $s0, $s0, 3\n" +
+            "		sll $s0, $s0, 3\n" +
+            "		lw $t8, Gc_allocated\n" +
+            "		lw $t9, Gc_threshold\n" +
+            "		bltu $t8, $t9, Gc_alloc_free\n" +
+            "		jal Gc_collect\n" +
+            "	Gc_alloc_free:			#Primer bloque libre que contenga al objeto\n" +
+            "		la $s1, Gc_free\n" +
+            "	Gc_alloc_free_loop:\n" +
+            "		lw $s2, 0($s1)\n" +
+            "		beqz $s2, Gc_alloc_bump\n" +
+            "		lw $t8, 0($s2)\n" +
+            "		bgeu $t8, $s0, Gc_alloc_fit\n" +
+            "		addiu $s1, $s2, 4\n" +
+            "		j Gc_alloc_free_loop\n" +
+            "	Gc_alloc_fit:\n" +
+            "		subu $t9, $t8, $s0\n" +
+            "		bltu $t9, 8, Gc_alloc_whole\n" +
+            "		addu $v0, $s2, $s0			#Divide el bloque, el resto sigue libre\n" +
+            "		sw $t9, 0($v0)\n" +
+            "		lw $t8, 4($s2)\n" +
+            "		sw $t8, 4($v0)\n" +
+            "		sw $v0, 0($s1)\n" +
+            "		j Gc_alloc_take\n" +
+            "	Gc_alloc_whole:\n" +
+            "		move $s0, $t8\n" +
+            "		lw $t8, 4($s2)\n" +
+            "		sw $t8, 0($s1)\n" +
+            "		j Gc_alloc_take\n" +
+            "	Gc_alloc_bump:			#No hay bloques libres, reserva al final del heap\n" +
+            "		lw $s2, Heap_ptr\n" +
+            "		addu $t8, $s2, $s0\n" +
+            "		lw $t9, Heap_end\n" +
+            "		bleu $t8, $t9, Gc_alloc_bump_ok\n" +
+            "		addiu $a0, $s0, " + Const.HEAP_CHUNK_SIZE + "			#Solicita un nuevo chunk\n" +
+            "		li $v0, 9\n" +
+            "		syscall\n" +
+            "		lw $t8, Heap_end\n" +
+            "		bne $v0, $t8, Gc_out_of_memory			#El heap debe ser contiguo\n" +
+            "		addu $t8, $v0, $a0\n" +
+            "		lw $t9, Gc_heap_limit\n" +
+            "		bgtu $t8, $t9, Gc_out_of_memory\n" +
+            "		sw $t8, Heap_end\n" +
+            "		j Gc_alloc_bump\n" +
+            "	Gc_alloc_bump_ok:\n" +
+            "		sw $t8, Heap_ptr\n" +
+            "	Gc_alloc_take:			#$s2: bloque, $s0: tamaño\n" +
+            "		sw $s0, 0($s2)			#Cabecera\n" +
+            "		lw $t8, Gc_heap_start			#Marca el inicio del bloque en el bitmap\n" +
+            "		subu $t8, $s2, $t8\n" +
+            "		srl $t8, $t8, 3\n" +
+            "		srl $t9, $t8, 3\n" +
+            "		lw $v0, Gc_bitmap\n" +
+            "		addu $t9, $t9, $v0\n" +
+            "		lbu $v0, 0($t9)\n" +
+            "		andi $t8, $t8, 7\n" +
+            "		li $a0, 1\n" +
+            "		sllv $a0, $a0, $t8\n" +
+            "		or $v0, $v0, $a0\n" +
+            "		sb $v0, 0($t9)\n" +
+            "		lw $t8, Gc_allocated\n" +
+            "		addu $t8, $t8, $s0\n" +
+            "		sw $t8, Gc_allocated\n" +
+            "		addiu $v0, $s2, 4			#Limpia el objeto\n" +
+            "		addu $t8, $s2, $s0\n" +
+            "	Gc_alloc_zero:\n" +
+            "		bgeu $v0, $t8, Gc_alloc_end\n" +
+            "		sw $0, 0($v0)\n" +
+            "		addiu $v0, $v0, 4\n" +
+            "		j Gc_alloc_zero\n" +
+            "	Gc_alloc_end:\n" +
+            "		addiu $v0, $s2, 4\n" +
+            "		lw $ra, 16($sp)\n" +
+            "		lw $s0, 12($sp)\n" +
+            "		lw $s1, 8($sp)\n" +
+            "		lw $s2, 4($sp)\n" +
+            "		addiu $sp, $sp, 16\n" +
+            "		jr $ra\n" +
+            "	Gc_collect:			#Mark-sweep. Los registros se guardan en la stack para recorrerlos como raices\n" +
+            "		addiu $sp, $sp, -84\n" +
+            "		sw $ra, 84($sp)\n" +
+            "		sw $t0, 80($sp)\n" +
+            "		sw $t1, 76($sp)\n" +
+            "		sw $t2, 72($sp)\n" +
+            "		sw $t3, 68($sp)\n" +
+            "		sw $t4, 64($sp)\n" +
+            "		sw $t5, 60($sp)\n" +
+            "		sw $t6, 56($sp)\n" +
+            "		sw $t7, 52($sp)\n" +
+            "		sw $a1, 48($sp)\n" +
+            "		sw $a2, 44($sp)\n" +
+            "		sw $a3, 40($sp)\n" +
+            "		sw $v1, 36($sp)\n" +
+            "		sw $s0, 32($sp)\n" +
+            "		sw $s1, 28($sp)\n" +
+            "		sw $s2, 24($sp)\n" +
+            "		sw $s3, 20($sp)\n" +
+            "		sw $s4, 16($sp)\n" +
+            "		sw $s5, 12($sp)\n" +
+            "		sw $s6, 8($sp)\n" +
+            "		sw $s7, 4($sp)\n" +
+            "		lw $s2, Gc_heap_start\n" +
+            "		lw $s3, Heap_ptr\n" +
+            "		lw $s4, Gc_bitmap\n" +
+            "		move $s5, $sp			#Base de la pila de marcado\n" +
+            "		addiu $s0, $sp, 4\n" +
+            "		lw $s1, Gc_stack_base\n" +
+            "	Gc_scan_stack:\n" +
+            "		bgtu $s0, $s1, Gc_scan_static\n" +
+            "		lw $a0, 0($s0)\n" +
+            "		jal Gc_mark\n" +
+            "		addiu $s0, $s0, 4\n" +
+            "		j Gc_scan_stack\n" +
+            "	Gc_scan_static:\n" +
+            "		la $s0, Gc_roots\n" +
+            "	Gc_scan_static_loop:\n" +
+            "		lw $s1, 0($s0)\n" +
+            "		beqz $s1, Gc_trace\n" +
+            "		lw $a0, 0($s1)\n" +
+            "		jal Gc_mark\n" +
+            "		addiu $s0, $s0, 4\n" +
+            "		j Gc_scan_static_loop\n" +
+            "	Gc_trace:			#Recorre los objetos marcados pendientes\n" +
+            "		beq $sp, $s5, Gc_sweep\n" +
+            "		lw $s0, 4($sp)\n" +
+            "		addiu $sp, $sp, 4\n" +
+            "		lw $s1, 0($s0)			#vtable\n" +
+            "		beqz $s1, Gc_trace\n" +
+            "		lw $s1, -4($s1)			#Mapa de punteros\n" +
+            "		lw $s6, 0($s1)\n" +
+            "		bltz $s6, Gc_trace_array\n" +
+            "	Gc_trace_fields:\n" +
+            "		beqz $s6, Gc_trace\n" +
+            "		addiu $s1, $s1, 4\n" +
+            "		lw $t8, 0($s1)\n" +
+            "		addu $t8, $s0, $t8\n" +
+            "		lw $a0, 0($t8)\n" +
+            "		jal Gc_mark\n" +
+            "		addiu $s6, $s6, -1\n" +
+            "		j Gc_trace_fields\n" +
+            "	Gc_trace_array:\n" +
+            "		lw $s6, -4($s0)			#Fin del bloque\n" +
+            "		srl $s6, $s6, 3\n" +
+            "		sll $s6, $s6, 3\n" +
+            "		addiu $s6, $s6, -4\n" +
+            "		addu $s6, $s0, $s6\n" +
+            "		addiu $s1, $s0, 8			#Primer elemento\n" +
+            "	Gc_trace_array_loop:\n" +
+            "		bgeu $s1, $s6, Gc_trace\n" +
+            "		lw $a0, 0($s1)\n" +
+            "		jal Gc_mark\n" +
+            "		addiu $s1, $s1, 4\n" +
+            "		j Gc_trace_array_loop\n" +
+            "	Gc_sweep:			#Libera los bloques no marcados y une los libres contiguos\n" +
+            "		move $s0, $s2\n" +
+            "		li $s1, 0			#Lista de libres\n" +
+            "		li $s6, 0			#Bytes vivos\n" +
+            "	Gc_sweep_loop:\n" +
+            "		bgeu $s0, $s3, Gc_sweep_end\n" +
+            "		lw $t8, 0($s0)\n" +
+            "		srl $s7, $t8, 3\n" +
+            "		sll $s7, $s7, 3\n" +
+            "		andi $t8, $t8, 1\n" +
+            "		beqz $t8, Gc_sweep_free\n" +
+            "		sw $s7, 0($s0)			#Vivo: limpia la marca\n" +
+            "		addu $s6, $s6, $s7\n" +
+            "		j Gc_sweep_next\n" +
+            "	Gc_sweep_free:\n" +
+            "		subu $t8, $s0, $s2			#Limpia el bit del bitmap\n" +
+            "		srl $t8, $t8, 3\n" +
+            "		srl $t9, $t8, 3\n" +
+            "		addu $t9, $t9, $s4\n" +
+            "		lbu $a0, 0($t9)\n" +
+            "		andi $t8, $t8, 7\n" +
+            "		li $v0, 1\n" +
+            "		sllv $v0, $v0, $t8\n" +
+            "		not $v0, $v0\n" +
+            "		and $a0, $a0, $v0\n" +
+            "		sb $a0, 0($t9)\n" +
+            "		beqz $s1, Gc_sweep_push\n" +
+            "		lw $t8, 0($s1)\n" +
+            "		addu $t9, $s1, $t8\n" +
+            "		bne $t9, $s0, Gc_sweep_push\n" +
+            "		addu $t8, $t8, $s7			#Contiguo al anterior libre\n" +
+            "		sw $t8, 0($s1)\n" +
+            "		j Gc_sweep_next\n" +
+            "	Gc_sweep_push:\n" +
+            "		sw $s7, 0($s0)\n" +
+            "		sw $s1, 4($s0)\n" +
+            "		move $s1, $s0\n" +
+            "	Gc_sweep_next:\n" +
+            "		addu $s0, $s0, $s7\n" +
+            "		j Gc_sweep_loop\n" +
+            "	Gc_sweep_end:			#Si el ultimo libre llega al final, lo devuelve a la zona de reserva lineal\n" +
+            "		beqz $s1, Gc_sweep_done\n" +
+            "		lw $t8, 0($s1)\n" +
+            "		addu $t9, $s1, $t8\n" +
+            "		bne $t9, $s3, Gc_sweep_done\n" +
+            "		sw $s1, Heap_ptr\n" +
+            "		lw $s1, 4($s1)\n" +
+            "	Gc_sweep_done:\n" +
+            "		sw $s1, Gc_free\n" +
+            "		sw $0, Gc_allocated\n" +
+            "		lw $t8, Gc_threshold			#Duplica el umbral si el heap vivo supera la mitad\n" +
+            "		sll $t9, $s6, 1\n" +
+            "		bleu $t9, $t8, Gc_collect_end\n" +
+            "		sll $t8, $t8, 1\n" +
+            "		sw $t8, Gc_threshold\n" +
+            "	Gc_collect_end:\n" +
+            "		lw $t8, Gc_collections\n" +
+            "		addiu $t8, $t8, 1\n" +
+            "		sw $t8, Gc_collections\n" +
+            "		lw $ra, 84($sp)\n" +
+            "		lw $t0, 80($sp)\n" +
+            "		lw $t1, 76($sp)\n" +
+            "		lw $t2, 72($sp)\n" +
+            "		lw $t3, 68($sp)\n" +
+            "		lw $t4, 64($sp)\n" +
+            "		lw $t5, 60($sp)\n" +
+            "		lw $t6, 56($sp)\n" +
+            "		lw $t7, 52($sp)\n" +
+            "		lw $a1, 48($sp)\n" +
+            "		lw $a2, 44($sp)\n" +
+            "		lw $a3, 40($sp)\n" +
+            "		lw $v1, 36($sp)\n" +
+            "		lw $s0, 32($sp)\n" +
+            "		lw $s1, 28($sp)\n" +
+            "		lw $s2, 24($sp)\n" +
+            "		lw $s3, 20($sp)\n" +
+            "		lw $s4, 16($sp)\n" +
+            "		lw $s5, 12($sp)\n" +
+            "		lw $s6, 8($sp)\n" +
+            "		lw $s7, 4($sp)\n" +
+            "		addiu $sp, $sp, 84\n" +
+            "		jr $ra\n" +
+            "	Gc_mark:			#$a0: posible referencia. Si es un bloque reservado sin marcar, lo marca y lo apila\n" +
+            "		addiu $t9, $a0, -4\n" +
+            "		bltu $t9, $s2, Gc_mark_end\n" +
+            "		bgeu $t9, $s3, Gc_mark_end\n" +
+            "		subu $t8, $t9, $s2\n" +
+            "		andi $v0, $t8, 7\n" +
+            "		bnez $v0, Gc_mark_end\n" +
+            "		srl $t8, $t8, 3\n" +
+            "		srl $v0, $t8, 3\n" +
+            "		addu $v0, $v0, $s4\n" +
+            "		lbu $v0, 0($v0)\n" +
+            "		andi $t8, $t8, 7\n" +
+            "		srlv $v0, $v0, $t8\n" +
+            "		andi $v0, $v0, 1\n" +
+            "		beqz $v0, Gc_mark_end\n" +
+            "		lw $v0, 0($t9)\n" +
+            "		andi $t8, $v0, 1\n" +
+            "		bnez $t8, Gc_mark_end\n" +
+            "		ori $v0, $v0, 1\n" +
+            "		sw $v0, 0($t9)\n" +
+            "		sw $a0, 0($sp)\n" +
+            "		addiu $sp, $sp, -4\n" +
+            "	Gc_mark_end:\n" +
+            "		jr $ra\n" +
+            "	Gc_out_of_memory:\n" +
+            "		li $v0, 4\n" +
+            "		la $a0, Gc_out_of_memory_msg\n" +
+            "		syscall\n" +
+            "		li $v0, 10\n" +
+            "		syscall\n";
+    }
+}
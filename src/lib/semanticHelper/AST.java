@@ -1,8 +1,16 @@
 package src.lib.semanticHelper;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+import src.lib.exceptionHelper.SemanticException;
+import src.lib.runtimeHelper.GarbageCollector;
 import src.lib.semanticHelper.astHelper.SentenceBlock;
+import src.lib.semanticHelper.symbolTableHelper.Method;
 import src.lib.semanticHelper.symbolTableHelper.Struct;
 
 
@@ -20,7 +28,8 @@ public class AST {
      * Constructor de la clase.
      */
     public AST(){
-        this.blocks = new HashMap<String, HashMap<String, SentenceBlock>>();
+        //Se conserva el orden de declaración para que el código generado sea reproducible
+        this.blocks = new LinkedHashMap<String, HashMap<String, SentenceBlock>>();
     }
 
     /** 
@@ -32,22 +41,29 @@ public class AST {
         String structName = currentStruct != null ? currentStruct.getName() : "start";
         //Nombre del metodo actual e informacion del bloque
         if (this.blocks.get(structName) == null) {
-            this.blocks.put(structName, new HashMap<String, SentenceBlock>());
+            this.blocks.put(structName, new LinkedHashMap<String, SentenceBlock>());
         }
         this.blocks.get(structName).put((block.getIDBlock().equals(".") ? "Constructor" : block.getIDBlock()), block);
     }
 
     /**
-     * Genera código intermedio para los bloques y metodos
-     * @param sStruct
-     * @param sMethod
+     * Genera código intermedio para los bloques y metodos.<br/>
+     * 
+     * Cada método numera sus propias etiquetas, por lo que con más de un hilo
+     * el código de los métodos se genera en paralelo y luego se une en el
+     * mismo orden que la generación secuencial.
+     * 
+     * @param st Tabla de símbolos
      * @return String
      */
     public String generateCode (SymbolTable st) {
-        String code = "#### MAIN CODE ####\n", methodsCode = "";
+        StringBuilder code = new StringBuilder("#### MAIN CODE ####\n"), methodsCode = new StringBuilder();
+        ArrayList<String> roots = new ArrayList<String>();
+        ArrayList<Callable<String>> tasks = new ArrayList<Callable<String>>();
+
         //Genera el código del metodo start (MAIN)
-        code += this.blocks.get("start").get("start").generateCode("start", "start") + "\n\n#### CUSTOM METHODS CODE ####\n";
-        
+        tasks.add(() -> this.blocks.get("start").get("start").generateCode("start", "start"));
+
         //Recorre las estructuras
         for (String sStruct : this.blocks.keySet()) {
             //Valida que no sea el metodo start
@@ -55,54 +71,181 @@ public class AST {
                 //Recorre los metodos de esa estructura
                 for (String sMethod : this.blocks.get(sStruct).keySet()) {
                     //Genera el codigo correspondiente
-                    methodsCode += sStruct + "_" + sMethod + ":\n" +
+                    tasks.add(() -> sStruct + "_" + sMethod + ":\n" +
                         //Reserva memoria para las variables locales
                         ".text\n#### METHOD DATA ####\n" + st.getStruct(sStruct).getMethod(sMethod).generateCode() + "#### METHOD CODE ####\n" +
                         //Codigo del programa
-                        this.blocks.get(sStruct).get(sMethod).generateCode(sStruct, sMethod) + "\n\n";
+                        this.blocks.get(sStruct).get(sMethod).generateCode(sStruct, sMethod) + "\n\n");
                 }
             }
         }
 
+        ArrayList<String> results = invokeAll(tasks, st.getOptions().getJobs());
+        code.append(results.get(0)).append("\n\n#### CUSTOM METHODS CODE ####\n");
+        for (int i = 1; i < results.size(); i++) {
+            methodsCode.append(results.get(i));
+        }
+
         //Reserva memoria para los atributos de estructuras que se utilizan
         if (methodsCode.length() > 0) {
-            code += ".data\n";
+            code.append(".data\n");
             for (String sStruct : st.getStructs().keySet()) {
                 if (st.getStruct(sStruct).hasCreate()) {
-                    code += st.getStruct(sStruct).generateCode();
+                    code.append(st.getStruct(sStruct).generateCode());
+                    roots.addAll(st.getStruct(sStruct).getReferenceAttributeLabels());
                 }
             }
-            code += ".text\n" + methodsCode;
+            code.append(".text\n").append(methodsCode);
         }
 
-        return code;
+        //Los atributos que referencian objetos son raíces del recolector de basura
+        if (st.getOptions().isGcEnabled()) {
+            code.append(".data\n").append(GarbageCollector.generateRoots(roots)).append(".text\n");
+        }
+
+        return code.toString();
     }
     
     /** 
-     * Método que consolida el arbol sintáctico abstracto.
+     * Método que consolida el arbol sintáctico abstracto.<br/>
+     * 
+     * Luego de consolidar la tabla de símbolos, los bloques de cada método son
+     * independientes entre sí (Solo leen la tabla de símbolos), por lo que con
+     * más de un hilo se consolidan en paralelo. Los errores se informan en el
+     * mismo orden que en la consolidación secuencial.
      * 
      * @param symbolTable Tabla de símbolos.
      */
     public void consolidate(SymbolTable symbolTable){
-        Struct currentStruct;
+        ArrayList<Callable<RuntimeException>> tasks = new ArrayList<Callable<RuntimeException>>();
+        ArrayList<SemanticException> errors = new ArrayList<SemanticException>();
+        int maxErrors = symbolTable.getOptions().getMaxErrors(),
+            jobs = symbolTable.getOptions().getJobs();
+
         //Recorre las estructuras
         for (String sStruct : blocks.keySet()) {
             //Recorre los métodos
             for (String sMethod : blocks.get(sStruct).keySet()) {
-                //Consolida el bloque pasandole el contexto de su correspondiente estrucutra
-                if (sStruct == "start") {
-                    //Si es el metodo start, define como estructura a Object
-                    currentStruct = symbolTable.getStruct("Object");
-                } else {
-                    currentStruct = symbolTable.getStruct(sStruct);
+                tasks.add(consolidateTask(symbolTable, sStruct, sMethod));
+            }
+        }
+
+        if (jobs > 1 && tasks.size() > 1) {
+            //Registra los errores en el orden de los bloques, sin importar el orden en que terminan
+            for (RuntimeException error : invokeAll(tasks, jobs)) {
+                addError(errors, error, maxErrors);
+            }
+        } else {
+            for (Callable<RuntimeException> task : tasks) {
+                try {
+                    addError(errors, task.call(), maxErrors);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw errors.size() == 1 ? errors.get(0) : new SemanticException(errors);
+        }
+    }
+
+    /**
+     * Ejecuta las tareas en un ForkJoinPool con la cantidad de hilos indicada
+     * (Con un hilo se ejecutan en orden en el hilo actual).
+     * 
+     * @param tasks Tareas
+     * @param jobs Cantidad de hilos
+     * @return Resultados en el orden de las tareas
+     */
+    private static <T> ArrayList<T> invokeAll (ArrayList<Callable<T>> tasks, int jobs) {
+        ArrayList<T> results = new ArrayList<T>();
+
+        if (jobs > 1 && tasks.size() > 1) {
+            ForkJoinPool pool = new ForkJoinPool(Math.min(jobs, tasks.size()));
+            ArrayList<ForkJoinTask<T>> futures = new ArrayList<ForkJoinTask<T>>();
+
+            try {
+                for (Callable<T> task : tasks) {
+                    futures.add(pool.submit(task));
+                }
+                for (ForkJoinTask<T> future : futures) {
+                    results.add(future.join());
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        } else {
+            for (Callable<T> task : tasks) {
+                try {
+                    results.add(task.call());
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
                 }
-                blocks.get(sStruct).get(sMethod).consolidate(symbolTable, currentStruct, (
-                    currentStruct != null ? (
-                        sStruct == "start" ? symbolTable.getStartMehod() : currentStruct.getMethod(sMethod)
-                    ) : null
-                ));
             }
         }
+        return results;
+    }
+
+    /**
+     * Genera la tarea que consolida un bloque pasandole el contexto de su
+     * correspondiente estructura. La tarea retorna el error encontrado o null.
+     */
+    private Callable<RuntimeException> consolidateTask (SymbolTable symbolTable, String sStruct, String sMethod) {
+        //Si es el metodo start, define como estructura a Object
+        Struct currentStruct = symbolTable.getStruct(sStruct == "start" ? "Object" : sStruct);
+        Method method = currentStruct != null ? (
+            sStruct == "start" ? symbolTable.getStartMehod() : currentStruct.getMethod(sMethod)
+        ) : null;
+        SentenceBlock block = blocks.get(sStruct).get(sMethod);
+
+        return () -> {
+            try {
+                block.consolidate(symbolTable, currentStruct, method);
+                return null;
+            } catch (RuntimeException e) {
+                return e;
+            }
+        };
+    }
+
+    /**
+     * Registra el error de un bloque. Los errores que no son semánticos se
+     * propagan, y al alcanzar la cantidad máxima se informan los registrados.
+     */
+    private static void addError (ArrayList<SemanticException> errors, RuntimeException error, int maxErrors) {
+        if (error == null) {
+            return;
+        }
+        if (!(error instanceof SemanticException)) {
+            throw error;
+        }
+
+        errors.add((SemanticException) error);
+        if (maxErrors > 0 && errors.size() >= maxErrors) {
+            throw errors.size() == 1 ? errors.get(0) : new SemanticException(errors);
+        }
+    }
+
+    /**
+     * Cuenta los nodos del ast (Bloques, sentencias y expresiones) recorriendo
+     * los bloques de todos los métodos.
+     *
+     * @return Cantidad de nodos
+     */
+    public int countNodes() {
+        int count = 0;
+
+        for (HashMap<String, SentenceBlock> methods : blocks.values()) {
+            for (SentenceBlock block : methods.values()) {
+                count += block.countNodes();
+            }
+        }
+        return count;
     }
 
     /**
@@ -112,27 +255,27 @@ public class AST {
      * @return Estructura de datos en formato JSON
      */
     public String toJSON(String tabs) {
-        String blocksJSON = "";
+        StringBuilder blocksJSON = new StringBuilder();
         SentenceBlock block;
         int countStructs = blocks.size(), countMethods;
 
         //Recorro las estructuras
         for (String sStruct : blocks.keySet()) {
-            blocksJSON += tabs + (sStruct != "start" ? "\"bloquesDe" : "\"") + sStruct + "\" : [\n";
+            blocksJSON.append(tabs).append(sStruct != "start" ? "\"bloquesDe" : "\"").append(sStruct).append("\" : [\n");
 
             //Recorro los metodos de esa estructura
             countMethods = blocks.get(sStruct).size();
             for (String sMethod : blocks.get(sStruct).keySet()) {
                 block = blocks.get(sStruct).get(sMethod);
-                blocksJSON += tabs + "    {\n" +
+                blocksJSON.append(tabs + "    {\n" +
                     tabs + "        \"nombreMetodo\": \"" + sMethod + "\",\n" +
-                    tabs + "        \"sentencias\": [\n" + block.toJSON(tabs + "            ") +
+                    tabs + "        \"sentencias\": [\n").append(block.toJSON(tabs + "            ")).append(
                     tabs + "        ]\n" +
-                    tabs + "    }" + (countMethods > 1 ? ",\n" : "\n");
+                    tabs + "    }" + (countMethods > 1 ? ",\n" : "\n"));
                 countMethods--;
             }
 
-            blocksJSON += "    ]" + (countStructs > 1 ? "," : "") + "\n";
+            blocksJSON.append("    ]").append(countStructs > 1 ? "," : "").append("\n");
             --countStructs;
         }
 
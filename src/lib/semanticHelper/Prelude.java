@@ -0,0 +1,202 @@
+package src.lib.semanticHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import src.lib.semanticHelper.symbolTableHelper.Param;
+import src.lib.semanticHelper.symbolTableHelper.Struct;
+import src.lib.tokenHelper.IDToken;
+import src.lib.tokenHelper.Token;
+
+/**
+ * Esta clase contiene las estructuras predefinidas (Object, IO, Int, Str,
+ * Char, Bool y los Array) con sus métodos.<br/>
+ *
+ * Se generan una única vez por ejecución de la JVM y se congelan, por lo que
+ * se comparten entre todas las tablas de símbolos (Compilaciones en batch o
+ * en el servidor de compilación). Cada tabla de símbolos las utiliza como
+ * base y agrega encima sus propias estructuras, con una copia propia de
+ * Object, que es la única que se modifica al registrar a sus hijos.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class Prelude {
+    private Prelude () {}
+
+    /** Nombres de las estructuras predefinidas (No generan vtable ni se consolidan) */
+    public static final Set<String> STATIC_STRUCTS = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+        "Object", "IO", "Array", "Array Int", "Array Str", "Array Bool", "Array Char", "Int", "Str", "Char", "Bool"
+    )));
+
+    /** Estructuras predefinidas congeladas, en el orden en que se insertan en la tabla de símbolos */
+    public static final Map<String, Struct> STRUCTS = Collections.unmodifiableMap(generateStructs());
+
+    /**
+     * Genera y congela las estructuras predefinidas.
+     */
+    private static LinkedHashMap<String, Struct> generateStructs() {
+        LinkedHashMap<String, Struct> structs = new LinkedHashMap<String, Struct>();
+        HashMap<String, HashMap<String, Token>> returns = generatePredefinedReturns();
+
+        //Definicion de estructuras
+        Struct objectStruct = new Struct(new Token(IDToken.spOBJECT, "Object", 0, 0), null),
+            IO = new Struct(new Token(IDToken.spIO, "IO", 0, 0),objectStruct),
+            ArrayStr   = new Struct(new Token(IDToken.typeARRAY, "Array Str", 0, 0), objectStruct),
+            ArrayBool  = new Struct(new Token(IDToken.typeARRAY, "Array Bool", 0, 0), objectStruct),
+            ArrayInt   = new Struct(new Token(IDToken.typeARRAY, "Array Int", 0, 0), objectStruct),
+            ArrayChar  = new Struct(new Token(IDToken.typeARRAY, "Array Char", 0, 0), objectStruct),
+            Int = new Struct(new Token(IDToken.typeINT, "Int", 0, 0), objectStruct),
+            Str = new Struct(new Token(IDToken.typeSTR, "Str", 0, 0), objectStruct),
+            Char = new Struct(new Token(IDToken.typeCHAR, "Char", 0, 0), objectStruct),
+            Bool = new Struct(new Token(IDToken.typeBOOL, "Bool", 0, 0), objectStruct);
+
+        //Inserta las estructuras
+        structs.put("Object", objectStruct);
+        structs.put("IO", IO);
+        structs.put("Char", Char);
+        structs.put("Str", Str);
+        structs.put("Array Str", ArrayStr);
+        structs.put("Array Bool", ArrayBool);
+        structs.put("Array Int", ArrayInt);
+        structs.put("Array Char", ArrayChar);
+        structs.put("Int", Int);
+        structs.put("Bool", Bool);
+
+        //Inserta los métodos en las estructuras
+        generatePredefinedMethods().forEach((String sStructKey, HashMap<String, ArrayList<Param>> mapParams) -> {
+            //Recorre los metodos
+            mapParams.forEach((String sMethodKey, ArrayList<Param> params) -> {
+                Boolean isStatic= (sStructKey.equals("IO") ? true : false);
+                //Agrega el metodo a la estructura correspondiente
+                addVoid(
+                    structs.get(sStructKey), 
+                    new Token(IDToken.idOBJECT, sMethodKey, 0, 0),
+                    params, isStatic,
+                    returns.get(sStructKey) != null ? returns.get(sStructKey).get(sMethodKey) : null
+                );
+
+            });
+        });
+
+        //Congela las estructuras para que ninguna compilación las modifique
+        for (Struct struct : structs.values()) {
+            struct.freeze();
+        }
+
+        return structs;
+    }
+
+    /** 
+     * Método interno que se utiliza para agregar métodos estáticos predefinidos.
+     * 
+     * @param struct Estructura a la cual agregar el método.
+     * @param token Metadata del método a agregar.
+     * @param params Lista de parámetros.
+     * @param returnType Tipo de dato a retornar.
+     */
+    private static void addVoid (Struct struct, Token token, ArrayList<Param> params, Boolean isStatic, Token returnType) {
+        struct.addMethod(token, params, isStatic, returnType == null ? new Token(IDToken.typeVOID, "void", token.getLine(), token.getColumn()) : returnType);
+    }
+
+    /**
+     * Genera la definición de los métodos de las estructuras predefinidas.
+     */
+    private static HashMap<String, HashMap<String, ArrayList<Param>>> generatePredefinedMethods() {
+        //Parametros compartidos
+        ArrayList<Param> strParams = generateArrayParam(IDToken.typeSTR, "s"),
+            arrayParams = generateArrayParam( IDToken.typeARRAY, "a"),
+            nullParams = new ArrayList<Param>();
+
+        //Hash con definicion de metodos
+        return new HashMap<String, HashMap<String, ArrayList<Param>>>(){{
+            put("IO", new HashMap<String, ArrayList<Param>>(){{
+                put("out_str", strParams);
+                put("out_int", generateArrayParam(IDToken.typeINT, "i"));
+                put("out_bool", generateArrayParam(IDToken.typeBOOL, "b"));
+                put("out_char", generateArrayParam(IDToken.typeCHAR, "c"));
+                put("out_array_int", arrayParams);
+                put("out_array_str", arrayParams);
+                put("out_array_bool", arrayParams);
+                put("out_array_char", arrayParams);
+                put("in_str", nullParams);
+                put("in_int", nullParams);
+                put("in_bool", nullParams);
+                put("in_char", nullParams);
+            }});
+            put("Array Str", new HashMap<String, ArrayList<Param>>(){{
+                put("length", nullParams);
+            }});
+            put("Array Int", new HashMap<String, ArrayList<Param>>(){{
+                put("length", nullParams);
+            }});
+            put("Array Char", new HashMap<String, ArrayList<Param>>(){{
+                put("length", nullParams);
+            }});
+            put("Array Bool", new HashMap<String, ArrayList<Param>>(){{
+                put("length", nullParams);
+            }});
+            put("Str", new HashMap<String, ArrayList<Param>>(){{
+                put("length", nullParams);
+                put("concat", strParams);
+            }});
+        }};
+    }
+
+    /**
+     * Genera los retornos de los métodos de las estructuras predefinidas.
+     */
+    private static HashMap<String, HashMap<String, Token>> generatePredefinedReturns() {
+        //Retornos de metodos si tuviesen
+        return new HashMap<String, HashMap<String, Token>>(){{
+            put("IO", new HashMap<String, Token>() {{
+                put("in_str", new Token(IDToken.typeSTR, IDToken.typeSTR.toString(), 0, 0));
+                put("in_int", new Token(IDToken.typeINT, IDToken.typeINT.toString(), 0, 0));
+                put("in_bool", new Token(IDToken.typeBOOL, IDToken.typeBOOL.toString(), 0, 0));
+                put("in_char", new Token(IDToken.typeCHAR, IDToken.typeCHAR.toString(), 0, 0));
+            }});
+            put("Array Str", new HashMap<String, Token>() {{
+                put("length", new Token(IDToken.typeINT, IDToken.typeINT.toString(), 0, 0));
+            }});
+            put("Array Bool", new HashMap<String, Token>() {{
+                put("length", new Token(IDToken.typeINT, IDToken.typeINT.toString(), 0, 0));
+            }});
+            put("Array Int", new HashMap<String, Token>() {{
+                put("length", new Token(IDToken.typeINT, IDToken.typeINT.toString(), 0, 0));
+            }});
+            put("Array Char", new HashMap<String, Token>() {{
+                put("length", new Token(IDToken.typeINT, IDToken.typeINT.toString(), 0, 0));
+            }});
+            put("Str", new HashMap<String, Token>() {{
+                put("length", new Token(IDToken.typeINT, IDToken.typeINT.toString(), 0, 0));
+                put("concat", new Token(IDToken.typeSTR, IDToken.typeSTR.toString(), 0, 0));
+            }});
+        }};
+    }
+
+    /** 
+     * Método que genera un array de parámetros
+     * 
+     * @param type IDToken con el tipo de parámetro
+     * @param lexema Lexema para generar el token
+     * @return ArrayList<Param>
+     */
+    private static ArrayList<Param> generateArrayParam(IDToken type, String lexema){
+        return new ArrayList<Param>(){{
+            add(
+                new Param(
+                    new Token(type, lexema, 0, 0),
+                    new Token(type, type.toString(), 0, 0), 
+                    0
+                )
+            );
+        }};
+    }
+}
@@ -2,6 +2,7 @@ package src.lib.semanticHelper;
 
 import java.util.ArrayList;
 
+import src.lib.CompilerOptions;
 import src.lib.Static;
 import src.lib.semanticHelper.astHelper.SentenceBlock;
 import src.lib.semanticHelper.symbolTableHelper.Method;
@@ -27,8 +28,17 @@ public class SemanticManager {
      * Constructor de la clase.
      */
     public SemanticManager () {
+        this(new CompilerOptions());
+    }
+
+    /**
+     * Constructor de la clase con opciones de compilación.
+     * 
+     * @param options Opciones del compilador
+     */
+    public SemanticManager (CompilerOptions options) {
         //Genera la tabla de símbolos
-        symbolTable = new SymbolTable();
+        symbolTable = new SymbolTable(options);
 
         //Genera el arbol sintactico abstracto
         ast = new AST();
@@ -57,6 +67,20 @@ public class SemanticManager {
         code += "\tsyscall"+ "\n";
         code += "\tli $v0, 10" + "\n";
         code += "\tsyscall" + "\n";
+        //Codigo para generar error de indice fuera de rango
+        code += "ErrorIndex:\n";
+        code += "\tli $v0, 4" + "\n";
+        code += "\tla $a0, indexOutOfRange" +"\n";
+        code += "\tsyscall"+ "\n";
+        code += "\tli $v0, 10" + "\n";
+        code += "\tsyscall" + "\n";
+        //Codigo para generar error de tamaño de array negativo
+        code += "ErrorSize:\n";
+        code += "\tli $v0, 4" + "\n";
+        code += "\tla $a0, negativeSize" +"\n";
+        code += "\tsyscall"+ "\n";
+        code += "\tli $v0, 10" + "\n";
+        code += "\tsyscall" + "\n";
         //exit
         code += "Exit:\n";
         code += "\tli $v0, 10\n"; //10 es exit syscall
@@ -64,7 +88,7 @@ public class SemanticManager {
 
         //incluir utils.asm
         // code += ".include \"utils.asm\"";
-        code += Static.generatePredefinedMethods();
+        code += Static.generatePredefinedMethods(symbolTable.getOptions());
         
         return code;
     }
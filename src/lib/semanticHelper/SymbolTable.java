@@ -3,9 +3,14 @@ package src.lib.semanticHelper;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-import src.lib.Static;
+import src.lib.CompilerOptions;
 import src.lib.exceptionHelper.SemanticException;
+import src.lib.incrementalHelper.DependencyRecorder;
+import src.lib.runtimeHelper.GarbageCollector;
 import src.lib.semanticHelper.symbolTableHelper.*;
 import src.lib.tokenHelper.IDToken;
 import src.lib.tokenHelper.Token;
@@ -18,7 +23,8 @@ import src.lib.tokenHelper.Token;
  * @since 19/04/2024
  */
 public class SymbolTable {
-    private final HashSet<String> staticStruct;
+    private final Set<String> staticStruct;
+    private final CompilerOptions options;
     // private Struct currentStruct;
     // private Method currentMethod;
     private Method start;
@@ -31,8 +37,15 @@ public class SymbolTable {
     // Estructura que se utiliza para almacenar structs que se debe chequear su declaracion.
     private HashMap<String,Token> checkDefinitionStructs;
 
-    //Guarda un contador de sentencias
-    private int conditionalCounter, loopCounter,literalStrCounter;
+    // Numeración de los tipos en preorden del árbol de herencia (Se calcula al consolidar).
+    // Un tipo hereda de otro si su número se encuentra en el intervalo de descendientes del otro.
+    private HashMap<String, Integer> typeIds;
+    private int[] lastDescendant;
+
+    //Guarda los contadores de etiquetas de cada método (Condicionales, loops, literales str y reservas de memoria).
+    //Cada método numera sus etiquetas de forma independiente, por lo que su código se puede generar en paralelo.
+    private ConcurrentHashMap<String, int[]> labelCounters;
+    private static final int CONDITIONAL = 0, LOOP = 1, LITERAL_STR = 2, ALLOC = 3;
 
     /**
      * Constructor de la clase.<br/>
@@ -40,143 +53,85 @@ public class SymbolTable {
      * Realiza la precarga de clases Object e IO
      */
     public SymbolTable () {
-        staticStruct = new HashSet<String>(){{
-            add("Object");
-            add("IO");
-            add("Array");
-            add("Array Int");
-            add("Array Str");
-            add("Array Bool");
-            add("Array Char");
-            add("Int");
-            add("Str");
-            add("Char");
-            add("Bool");
-        }};
-        structs = new HashMap<String, Struct>();
-        redefinitions = new HashMap<>();
-        checkDefinitionStructs = new HashMap<String, Token>();
-        conditionalCounter = 0;
-        loopCounter = 0;
+        this(new CompilerOptions());
+    }
+
+    /**
+     * Constructor de la clase con opciones de compilación.
+     * 
+     * @param options Opciones del compilador
+     */
+    public SymbolTable (CompilerOptions options) {
+        this.options = options;
+        staticStruct = Prelude.STATIC_STRUCTS;
+        //Se conserva el orden de declaración para que los archivos generados sean reproducibles
+        structs = new LinkedHashMap<String, Struct>();
+        redefinitions = new LinkedHashMap<>();
+        checkDefinitionStructs = new LinkedHashMap<String, Token>();
+        labelCounters = new ConcurrentHashMap<String, int[]>();
         init();
     }
 
     private void init() {
-        //Definicion de estructuras
-        Struct objectStruct = new Struct(new Token(IDToken.spOBJECT, "Object", 0, 0), null),
-            IO = new Struct(new Token(IDToken.spIO, "IO", 0, 0),objectStruct),
-            ArrayStr   = new Struct(new Token(IDToken.typeARRAY, "Array Str", 0, 0), objectStruct),
-            ArrayBool  = new Struct(new Token(IDToken.typeARRAY, "Array Bool", 0, 0), objectStruct),
-            ArrayInt   = new Struct(new Token(IDToken.typeARRAY, "Array Int", 0, 0), objectStruct),
-            ArrayChar  = new Struct(new Token(IDToken.typeARRAY, "Array Char", 0, 0), objectStruct),
-            Int = new Struct(new Token(IDToken.typeINT, "Int", 0, 0), objectStruct),
-            Str = new Struct(new Token(IDToken.typeSTR, "Str", 0, 0), objectStruct),
-            Char = new Struct(new Token(IDToken.typeCHAR, "Char", 0, 0), objectStruct),
-            Bool = new Struct(new Token(IDToken.typeBOOL, "Bool", 0, 0), objectStruct);
-
-        //Parametros compartidos
-        ArrayList<Param> strParams = generateArrayParam(IDToken.typeSTR, "s"),
-            arrayParams = generateArrayParam( IDToken.typeARRAY, "a"),
-            nullParams = new ArrayList<Param>();
-
-        //Hash con definicion de metodos
-        HashMap<String, HashMap<String, ArrayList<Param>>> definitions = new HashMap<String, HashMap<String, ArrayList<Param>>>(){{
-            put("IO", new HashMap<String, ArrayList<Param>>(){{
-                put("out_str", strParams);
-                put("out_int", generateArrayParam(IDToken.typeINT, "i"));
-                put("out_bool", generateArrayParam(IDToken.typeBOOL, "b"));
-                put("out_char", generateArrayParam(IDToken.typeCHAR, "c"));
-                put("out_array_int", arrayParams);
-                put("out_array_str", arrayParams);
-                put("out_array_bool", arrayParams);
-                put("out_array_char", arrayParams);
-                put("in_str", nullParams);
-                put("in_int", nullParams);
-                put("in_bool", nullParams);
-                put("in_char", nullParams);
-            }});
-            put("Array Str", new HashMap<String, ArrayList<Param>>(){{
-                put("length", nullParams);
-            }});
-            put("Array Int", new HashMap<String, ArrayList<Param>>(){{
-                put("length", nullParams);
-            }});
-            put("Array Char", new HashMap<String, ArrayList<Param>>(){{
-                put("length", nullParams);
-            }});
-            put("Array Bool", new HashMap<String, ArrayList<Param>>(){{
-                put("length", nullParams);
-            }});
-            put("Str", new HashMap<String, ArrayList<Param>>(){{
-                put("length", nullParams);
-                put("concat", strParams);
-            }});
-        }};
-
-        //Retornos de metodos si tuviesen
-        HashMap<String, HashMap<String, Token>> returns = new HashMap<String, HashMap<String, Token>>(){{
-            put("IO", new HashMap<String, Token>() {{
-                put("in_str", new Token(IDToken.typeSTR, IDToken.typeSTR.toString(), 0, 0));
-                put("in_int", new Token(IDToken.typeINT, IDToken.typeINT.toString(), 0, 0));
-                put("in_bool", new Token(IDToken.typeBOOL, IDToken.typeBOOL.toString(), 0, 0));
-                put("in_char", new Token(IDToken.typeCHAR, IDToken.typeCHAR.toString(), 0, 0));
-            }});
-            put("Array Str", new HashMap<String, Token>() {{
-                put("length", new Token(IDToken.typeINT, IDToken.typeINT.toString(), 0, 0));
-            }});
-            put("Array Bool", new HashMap<String, Token>() {{
-                put("length", new Token(IDToken.typeINT, IDToken.typeINT.toString(), 0, 0));
-            }});
-            put("Array Int", new HashMap<String, Token>() {{
-                put("length", new Token(IDToken.typeINT, IDToken.typeINT.toString(), 0, 0));
-            }});
-            put("Array Char\"", new HashMap<String, Token>() {{
-                put("length", new Token(IDToken.typeINT, IDToken.typeINT.toString(), 0, 0));
-            }});
-            put("Str", new HashMap<String, Token>() {{
-                put("length", new Token(IDToken.typeINT, IDToken.typeINT.toString(), 0, 0));
-                put("concat", new Token(IDToken.typeSTR, IDToken.typeSTR.toString(), 0, 0));
-            }});
-        }};
-
-        //Inserta las estructuras
-        structs.put("Object", objectStruct);
-        structs.put("IO", IO);
-        structs.put("Char", Char);
-        structs.put("Str", Str);
-        structs.put("Array Str", ArrayStr);
-        structs.put("Array Bool", ArrayBool);
-        structs.put("Array Int", ArrayInt);
-        structs.put("Array Char", ArrayChar);
-        structs.put("Int", Int);
-        structs.put("Bool", Bool);
-
-        //Inserta los métodos en las estructuras
-        definitions.forEach((String sStructKey, HashMap<String, ArrayList<Param>> mapParams) -> {
-            //Recorre los metodos
-            mapParams.forEach((String sMethodKey, ArrayList<Param> params) -> {
-                Boolean isStatic= (sStructKey.equals("IO") ? true : false);
-                //Agrega el metodo a la estructura correspondiente
-                addVoid(
-                    structs.get(sStructKey), 
-                    new Token(IDToken.idOBJECT, sMethodKey, 0, 0),
-                    params, isStatic,
-                    returns.get(sStructKey) != null ? returns.get(sStructKey).get(sMethodKey) : null
-                );
-
-            });
+        //Object es la única estructura predefinida que se modifica (Registra a sus hijos), por lo que se genera por compilación
+        structs.put("Object", new Struct(new Token(IDToken.spOBJECT, "Object", 0, 0), null));
+
+        //El resto de las estructuras predefinidas se comparten entre todas las compilaciones
+        Prelude.STRUCTS.forEach((String name, Struct struct) -> {
+            if (!name.equals("Object")) {
+                structs.put(name, struct);
+            }
         });
     }
 
-    public int addConditionalSentenceCounter() {
-        return ++this.conditionalCounter;
+    /**
+     * Obtiene las opciones con las que se compila.
+     *
+     * @return Opciones del compilador
+     */
+    public CompilerOptions getOptions() {
+        return options;
     }
-    public int addLoopSentenceCounter() {
-        return ++this.loopCounter;
+
+    /**
+     * Obtiene el prefijo de las etiquetas generadas dentro de un método.
+     *
+     * @param sStruct Nombre de la estructura
+     * @param sMethod Nombre del método
+     * @return Prefijo (Estructura_metodo.). El punto no puede formar parte de
+     * un identificador, por lo que las etiquetas no coinciden con las de otros métodos
+     */
+    public static String getLabelNamespace(String sStruct, String sMethod) {
+        return sStruct + "_" + sMethod + ".";
+    }
+
+    public int addConditionalSentenceCounter(String namespace) {
+        return addLabelCounter(namespace, CONDITIONAL);
+    }
+    public int addLoopSentenceCounter(String namespace) {
+        return addLabelCounter(namespace, LOOP);
     }
 
-    public int addLiteralStrCount(){
-        return ++this.literalStrCounter;
+    public int addLiteralStrCount(String namespace){
+        return addLabelCounter(namespace, LITERAL_STR);
+    }
+
+    /**
+     * Incrementa el contador de reservas de memoria en línea (Para generar etiquetas únicas).
+     *
+     * @param namespace Prefijo de las etiquetas del método
+     * @return Número de reserva
+     */
+    public int addAllocCounter(String namespace){
+        return addLabelCounter(namespace, ALLOC);
+    }
+
+    /**
+     * Incrementa un contador de etiquetas del método. El código de cada
+     * método lo genera un único hilo, por lo que solo el mapa es compartido.
+     */
+    private int addLabelCounter(String namespace, int kind) {
+        return ++labelCounters.computeIfAbsent(namespace, (String key) -> new int[4])[kind];
     }
 
     /**
@@ -189,92 +144,43 @@ public class SymbolTable {
      * @return String
      */
     public String generateCode () {
-        String code = ".data\n", aux = "", aux1 = "";
+        String code = ".data\n";
 
         //AGREGA LA INICIALIZACION DE STRINGS
         code += "\tdefault_string: .asciiz \"\"\n";
         
         //AGREGA STRING DE ERROR DIVISION POR CERO
         code += "\tdivision0: .asciiz \"ERROR: DIVISION POR CERO\" \n";
+
+        //AGREGA STRING DE ERROR DE ACCESO FUERA DE RANGO A UN ARRAY
+        code += "\tindexOutOfRange: .asciiz \"ERROR: INDICE FUERA DE RANGO\" \n";
+
+        //AGREGA STRING DE ERROR DE TAMAÑO NEGATIVO AL CREAR UN ARRAY
+        code += "\tnegativeSize: .asciiz \"ERROR: TAMANO DE ARRAY NEGATIVO\" \n";
         
         //AGREGA LAS VIRTUAL TABLES DE LOS STRUCTS (EXCEPTO DE LOS STRUCT PREDEFINIDOS)
-        for (String sStruct : structs.keySet()) {
-            if (!staticStruct.contains(sStruct)){
-                aux = "";
-                aux1 = "";
-    
-                //Genera los strings con los metodos estaticos y no estaticos
-                for (String method : Static.order(structs.get(sStruct).getMethods())) {
-                    if (structs.get(sStruct).getMethod(method).isStatic()) {
-                        aux1 += method + ", ";
-                    } else {
-                        aux += method + ", ";
-                    }
-                }
-                
-                //Nombre de la estructura sin espacios
-                sStruct = sStruct.replaceAll("\\s", "");
-    
-                //Elimino las comas finales y agrega los nombres de estructuras
-                if (aux.length() > 0) {
-                    aux = sStruct + "_" + aux.substring(0, aux.length() - 2).replaceAll(", ", ", " + sStruct + "_");
-                }
-                //Genera la vtable
-                aux = "\t" + sStruct + "_vtable: .word " + sStruct + "_Constructor" + (aux.length() > 0 ? ", " : "") + aux + "\n";
-    
-                //Valida si debe agregar la vtable de metodos estaticos
-                if (aux1.length() > 0) {
-                    aux1 = aux1.substring(0, aux1.length() - 2).replaceAll(", ", ", " + sStruct + "_");                    
-                    aux += "\t" + sStruct + "_vtable_static: .word " + sStruct + "_" + aux1 + "\n";
-    
-                    //Agrega la variable que referencia a la vtable static
-                    aux += "\t" + sStruct + "_struct_static: .word " + sStruct + "_vtable_static\n";
-                }
-
-                //Agrega las vtables
-                code += aux;
+        StringBuilder vtables = new StringBuilder();
+        for (Struct struct : structs.values()) {
+            if (!staticStruct.contains(struct.getName())) {
+                struct.generateVtable(vtables, options.isGcEnabled());
             }
         }
+        code += vtables;
 
         //Reserva los datos del metodo start
         code += "\t#Main\n\t.text\n\t.globl main\n\n";
-        code += "main:\n#### MAIN DATA ####\n";
+        code += "main:\n";
+
+        //Inicializa el recolector de basura
+        if (options.isGcEnabled()) {
+            code += GarbageCollector.generateInit();
+        }
+        code += "#### MAIN DATA ####\n";
         code += start.generateCode();
 
         return code;
     }
 
-    /** 
-     * Método interno que se utiliza para agregar métodos estáticos predefinidos.
-     * 
-     * @param struct Estructura a la cual agregar el método.
-     * @param token Metadata del método a agregar.
-     * @param params Lista de parámetros.
-     * @param returnType Tipo de dato a retornar.
-     */
-    private void addVoid (Struct struct, Token token, ArrayList<Param> params, Boolean isStatic, Token returnType) {
-        struct.addMethod(token, params, isStatic, returnType == null ? new Token(IDToken.typeVOID, "void", token.getLine(), token.getColumn()) : returnType);
-    }
-
-    /** 
-     * Método que genera un array de parámetros
-     * 
-     * @param type IDToken con el tipo de parámetro
-     * @param lexema Lexema para generar el token
-     * @return ArrayList<Param>
-     */
-    private ArrayList<Param> generateArrayParam(IDToken type, String lexema){
-        return new ArrayList<Param>(){{
-            add(
-                new Param(
-                    new Token(type, lexema, 0, 0),
-                    new Token(type, type.toString(), 0, 0), 
-                    0
-                )
-            );
-        }};
-    }
-
     /**
      * Método que agrega una estructura a la tabla de símbolos.<br/>
      * 
@@ -412,31 +318,14 @@ public class SymbolTable {
         }
     }
 
-    /**
-     * Obtiene el offset de la variable o parametro
-     * @param sStruct
-     * @param sMethod
-     * @return String
-     */
-    public int getVariableOffset(String sStruct, String sMethod, String name) {
-        int offset;
-        
-        //Valida si es del metodo start
-        if (sStruct.equals("start")) {
-            offset = start.getVariableOffset(name);
-        } else {
-            offset = structs.get(sStruct).getMethod(sMethod).getVariableOffset(name);
-        }
-
-        return offset;
-    }
-    
     /** 
-     * Obtiene una estructura dada
+     * Obtiene una estructura dada (La registra como dependencia del bloque
+     * que se está consolidando en la compilación incremental).
      * @param name Nombre de la estructura
      * @return Struct
      */
     public Struct getStruct(String name){
+        DependencyRecorder.use(name);
         return this.structs.get(name);
     }
 
@@ -527,7 +416,69 @@ public class SymbolTable {
         
         // Consolida las estructuras a partir de Object
         structs.get("Object").consolidate(staticStruct);
-        System.out.println("");
+
+        numberTypes();
+    }
+
+    /**
+     * Avisa si un tipo hereda (directa o indirectamente) de otro.<br/>
+     * 
+     * Utiliza la numeración en preorden del árbol de herencia, por lo que
+     * la consulta no depende de la profundidad de la jerarquía.
+     * 
+     * @param type Tipo a validar
+     * @param ancestor Tipo del que debe heredar
+     * @return Booleano (Falso si son el mismo tipo o alguno no es una estructura)
+     */
+    public boolean isSubtype (String type, String ancestor) {
+        if (typeIds == null) {
+            numberTypes();
+        }
+        DependencyRecorder.use(type);
+        DependencyRecorder.use(ancestor);
+
+        Integer typeId = typeIds.get(type), ancestorId = typeIds.get(ancestor);
+
+        return typeId != null && ancestorId != null &&
+            typeId > ancestorId && typeId <= lastDescendant[ancestorId];
+    }
+
+    /**
+     * Numera las estructuras en preorden a partir de Object y guarda, para
+     * cada una, el número de su último descendiente.
+     */
+    private void numberTypes () {
+        HashMap<String, ArrayList<String>> children = new HashMap<String, ArrayList<String>>();
+        ArrayList<String> stack = new ArrayList<String>();
+        ArrayList<String> path = new ArrayList<String>();
+        int count = 0;
+
+        //Obtiene los hijos de cada estructura a partir de los nombres de los padres
+        for (Struct struct : structs.values()) {
+            if (!struct.getName().equals("Object")) {
+                children.computeIfAbsent(struct.getParent(), (String key) -> new ArrayList<String>()).add(struct.getName());
+            }
+        }
+
+        typeIds = new HashMap<String, Integer>();
+        lastDescendant = new int[structs.size()];
+
+        //Recorrido en profundidad iterativo (Un null en la pila indica el fin de los descendientes del camino actual)
+        stack.add("Object");
+        while (!stack.isEmpty()) {
+            String name = stack.remove(stack.size() - 1);
+
+            if (name == null) {
+                lastDescendant[typeIds.get(path.remove(path.size() - 1))] = count - 1;
+            } else {
+                typeIds.put(name, count++);
+                path.add(name);
+                stack.add(null);
+                if (children.containsKey(name)) {
+                    stack.addAll(children.get(name));
+                }
+            }
+        }
     }
 
     public HashMap<String,Struct> getStructs(){
@@ -541,12 +492,13 @@ public class SymbolTable {
      * @return Estructura de datos en formato JSON
      */
     public String toJSON() {
-        String structJSON = "", startJSON = start.toJSON("    ");
+        StringBuilder structJSON = new StringBuilder();
+        String startJSON = start.toJSON("    ");
         int count = structs.size();
 
         for (Struct struct : structs.values()) {
 
-            structJSON += struct.toJSON("        ") + ( count > 1 ? "," : "") + "\n";
+            structJSON.append(struct.toJSON("        ")).append(count > 1 ? "," : "").append("\n");
             count--;
             
         }
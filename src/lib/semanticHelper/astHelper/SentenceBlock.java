@@ -8,6 +8,8 @@ import src.lib.semanticHelper.astHelper.sentences.Return;
 import src.lib.semanticHelper.astHelper.sentences.Sentence;
 import src.lib.semanticHelper.symbolTableHelper.Method;
 import src.lib.semanticHelper.symbolTableHelper.Struct;
+import src.lib.statsHelper.events.ConsolidateBlockEvent;
+import src.lib.statsHelper.events.EmitMethodEvent;
 import src.lib.tokenHelper.IDToken;
 import src.lib.tokenHelper.Token;
 
@@ -52,6 +54,9 @@ public class SentenceBlock {
      * @param method Método actual
      */
     public void consolidate(SymbolTable st, Struct struct, Method method){
+        ConsolidateBlockEvent event = new ConsolidateBlockEvent();
+        event.begin();
+
         boolean hasReturn = false;
         if (sentenceList.size() > 0) {
             Sentence currentSentence, lastSentence = sentenceList.get(0);
@@ -90,10 +95,17 @@ public class SentenceBlock {
             } else {
                 //Se inserta sentencia return, para eliminar el RA del stack
                 Return rt = new Return(idBlock, null);
-                rt.setSymbolTable(st);
+                rt.consolidate(st, struct, method, null);
                 sentenceList.add(rt);
             }
         }
+
+        if (event.shouldCommit()) {
+            event.struct = struct != null ? struct.getName() : null;
+            event.method = getIDBlock();
+            event.sentences = sentenceList.size();
+            event.commit();
+        }
     }
 
     /**
@@ -103,14 +115,39 @@ public class SentenceBlock {
      * @return String
      */
     public String generateCode (String sStruct, String sMethod) {
+        EmitMethodEvent event = new EmitMethodEvent();
         String code = "";
+
+        event.begin();
         //Genera el codigo de las sentencias
         for (Sentence sentence : sentenceList) {
             code += sentence.generateCode(sStruct, sMethod);
         }
+
+        if (event.shouldCommit()) {
+            event.struct = sStruct;
+            event.method = sMethod;
+            event.sentences = sentenceList.size();
+            event.codeSize = code.length();
+            event.commit();
+        }
         return code;
     }
     
+    /**
+     * Cuenta los nodos del bloque (El bloque y sus sentencias).
+     *
+     * @return Cantidad de nodos
+     */
+    public int countNodes(){
+        int count = 1;
+
+        for (Sentence sentence : sentenceList) {
+            count += sentence != null ? sentence.countNodes() : 0;
+        }
+        return count;
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
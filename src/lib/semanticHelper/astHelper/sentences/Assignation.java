@@ -83,6 +83,16 @@ public class Assignation extends Sentence{
     }
 
     
+    /**
+     * Cuenta los nodos del subárbol (La sentencia y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        return 1 + count(leftSide) + count(rightSide);
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
@@ -121,11 +131,11 @@ public class Assignation extends Sentence{
 
         //Si el lado derecho es offset, obtiene el valor
         if (rightSide.isOffset()) {
-            asm += "lw $v0, 0($v0)\t\t\t\t\t#Get the right value\n";
+            asm += rightSide.getLoadInstruction() + " $v0, 0($v0)\t\t\t\t\t#Get the right value\n";
         }
         
         //Asigna el valor a la variable y libera la memoria
-        asm += "sw $v0, 0($t0)\naddiu $sp, $sp, 4\t\t\t\t#End Assignation\n";
+        asm += leftSide.getStoreInstruction() + " $v0, 0($t0)\naddiu $sp, $sp, 4\t\t\t\t#End Assignation\n";
         return asm;
     }
 }
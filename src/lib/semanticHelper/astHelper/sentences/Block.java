@@ -51,6 +51,21 @@ public class Block extends Sentence{
     }
     
     
+    /**
+     * Cuenta los nodos del subárbol (La sentencia y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        int count = 1;
+
+        for (Sentence child : sentenceList) {
+            count += count(child);
+        }
+        return count;
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
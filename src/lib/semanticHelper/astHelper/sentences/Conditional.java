@@ -69,6 +69,16 @@ public class Conditional extends Sentence{
     }
 
     
+    /**
+     * Cuenta los nodos del subárbol (La sentencia y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        return 1 + count(condition) + count(thenBlock) + count(elseBlock);
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
@@ -94,24 +104,25 @@ public class Conditional extends Sentence{
     public String generateCode(String sStruct, String sMethod){
         String asm="\n#Conditional code\n";
         //Aumenta el contador de sentencias
-        int sentenceCounter = symbolTable.addConditionalSentenceCounter();
+        String namespace = SymbolTable.getLabelNamespace(sStruct, sMethod);
+        int sentenceCounter = symbolTable.addConditionalSentenceCounter(namespace);
         
         //Obtiene el resultado del condicional en el registro $v0
         asm += condition.generateCode(sStruct, sMethod);
-        asm += "bne $v0, 1, else" + sentenceCounter + "\t\t\t\t#Conditional. $v0 != 1, jumps to else\n";
+        asm += "bne $v0, 1, " + namespace + "else" + sentenceCounter + "\t\t\t\t#Conditional. $v0 != 1, jumps to else\n";
 
         //Then block
         asm += thenBlock.generateCode(sStruct, sMethod);
-        asm += "j endIfElse" + sentenceCounter + "\n";
+        asm += "j " + namespace + "endIfElse" + sentenceCounter + "\n";
 
         //Else block
-        asm += "else" + sentenceCounter + ":\t\t\t\t\t\t\t#Else block\n";
+        asm += namespace + "else" + sentenceCounter + ":\t\t\t\t\t\t\t#Else block\n";
         if (elseBlock != null) {
             asm += elseBlock.generateCode(sStruct, sMethod);
         }
 
         //End if-else
-        asm += "endIfElse" + sentenceCounter + ":\t\t\t\t\t\t#End if-else\n" + (sentenceCounter > 1 ? ("j endIfElse" + (sentenceCounter - 1)) : "") + "\n\n";
+        asm += namespace + "endIfElse" + sentenceCounter + ":\t\t\t\t\t\t#End if-else\n" + (sentenceCounter > 1 ? ("j " + namespace + "endIfElse" + (sentenceCounter - 1)) : "") + "\n\n";
         return asm;
     }
 
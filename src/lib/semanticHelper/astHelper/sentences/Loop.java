@@ -60,6 +60,16 @@ public class Loop extends Sentence{
     }
     
     
+    /**
+     * Cuenta los nodos del subárbol (La sentencia y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        return 1 + count(condition) + count(loopBlock);
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
@@ -84,19 +94,20 @@ public class Loop extends Sentence{
     public String generateCode(String sStruct, String sMethod){
         String asm="#Loop code\n";
         //Aumenta el contador de sentencias
-        int sentenceCounter = symbolTable.addLoopSentenceCounter();
+        String namespace = SymbolTable.getLabelNamespace(sStruct, sMethod);
+        int sentenceCounter = symbolTable.addLoopSentenceCounter(namespace);
 
-        asm += "while" + sentenceCounter + ":\n";
+        asm += namespace + "while" + sentenceCounter + ":\n";
 
         //Obtiene el valor de la condicion en el registro $v0
         asm += condition.generateCode(sStruct, sMethod);
         // asm += "lw $t0, 4($sp)\naddiu $sp, $sp, 4\n\n";
-        asm += "bne $v0, 1, endWhile" + sentenceCounter + "\t\t\t\t#Conditional: $v0 != 1, jumps to endWhile\n";
+        asm += "bne $v0, 1, " + namespace + "endWhile" + sentenceCounter + "\t\t\t\t#Conditional: $v0 != 1, jumps to endWhile\n";
 
         //Bloque loop
         asm += loopBlock.generateCode(sStruct, sMethod);
-        asm += "j while" + sentenceCounter +  "\t\t\t\t\t\t#Jump to init while\n";
-        asm += "endWhile" + sentenceCounter +":\n";
+        asm += "j " + namespace + "while" + sentenceCounter +  "\t\t\t\t\t\t#Jump to init while\n";
+        asm += namespace + "endWhile" + sentenceCounter +":\n";
         return asm;
     }
 
@@ -21,6 +21,9 @@ public class Return extends Sentence{
 
     private Expression expression; 
 
+    // Método al que pertenece el retorno. Se resuelve al consolidar.
+    private Method method;
+
     /**
      * Constructor de la clase.
      * @param token Identificador
@@ -43,6 +46,7 @@ public class Return extends Sentence{
     @Override
     public void consolidate(SymbolTable st, Struct struct, Method method, Primary leftExpression) {
         String resultType = method.getReturnType(), expResult = "NIL";
+        this.method = method;
         //Si posee expresion, la consolida
         if (expression != null) {
             expression.consolidate(st, struct, method, null);
@@ -79,6 +83,16 @@ public class Return extends Sentence{
     }
 
     
+    /**
+     * Cuenta los nodos del subárbol (La sentencia y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        return 1 + count(expression);
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
@@ -113,7 +127,7 @@ public class Return extends Sentence{
             asm += "j Exit\n";
         } else {
             //Obtiene el tamaño del RA
-            sizeRA = symbolTable.getStruct(sStruct).getMethod(sMethod).getSizeRA();
+            sizeRA = method.getSizeRA();
 
             //$ra: Tendra la posicion donde seguir ejecutando codigo 8($fp)
             //$fp: Apuntara nuevamente al llamador 4($fp)
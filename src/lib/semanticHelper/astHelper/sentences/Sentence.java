@@ -60,6 +60,25 @@ public abstract class Sentence {
      */
     public abstract void consolidate(SymbolTable st, Struct struct, Method method, Primary leftExpression);
     
+    /**
+     * Cuenta los nodos del subárbol (La sentencia y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    public int countNodes() {
+        return 1;
+    }
+
+    /**
+     * Cuenta los nodos de una sentencia opcional.
+     *
+     * @param sentence Sentencia (Puede ser null)
+     * @return Cantidad de nodos
+     */
+    protected static int count(Sentence sentence) {
+        return sentence != null ? sentence.countNodes() : 0;
+    }
+
     /**
      * Genera código intermedio para sentencias
      * @param sStruct
@@ -129,6 +129,16 @@ public class BinaryExpression extends Expression{
         }
     }
   
+    /**
+     * Cuenta los nodos del subárbol (La expresión y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        return super.countNodes() + count(leftSide) + count(rightSide);
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
@@ -159,7 +169,7 @@ public class BinaryExpression extends Expression{
         asm += leftSide.generateCode(sStruct, sMethod);
         //Si es offset, obtiene el valor
         if (leftSide.isOffset()) {
-            asm += "lw $v0, 0($v0)\t\t\t\t\t#Get the left value\n";
+            asm += leftSide.getLoadInstruction() + " $v0, 0($v0)\t\t\t\t\t#Get the left value\n";
         }
         //Guarda el valor en la pila
         asm += "sw $v0, 0($sp)\naddiu $sp, $sp, -4\n";
@@ -170,7 +180,7 @@ public class BinaryExpression extends Expression{
         asm += rightSide.generateCode(sStruct, sMethod) + "#Binary expression - Result\n";
         //Si es offset, obtiene el valor
         if (rightSide.isOffset()) {
-            asm += "lw $v0, 0($v0)\t\t\t\t\t#Get the right value\n";
+            asm += rightSide.getLoadInstruction() + " $v0, 0($v0)\t\t\t\t\t#Get the right value\n";
         }
 
         //Obtiene el resultado del lado izquierdo
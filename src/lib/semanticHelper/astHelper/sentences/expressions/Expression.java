@@ -21,6 +21,8 @@ public abstract class Expression extends Sentence{
     protected int position;
     /** Guarda un booleano que avisa si el valor es constante u offset del stack*/
     protected boolean isOffset;
+    /** Avisa si el offset apunta a un byte (Elementos de Array Char y Array Bool) */
+    protected boolean isByteOffset;
     
     /**
      * Constructor de la clase.
@@ -30,6 +32,7 @@ public abstract class Expression extends Sentence{
         super(token);
         this.position = -1;
         isOffset = false;
+        isByteOffset = false;
     }
     /**
      * Constructor de la clase.
@@ -40,8 +43,19 @@ public abstract class Expression extends Sentence{
         super(token);
         this.position = position;
         isOffset = false;
+        isByteOffset = false;
     }
     
+    /**
+     * Cuenta los nodos del subárbol (La expresión, sus hijos y el encadenado).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        return 1 + count(rightChained);
+    }
+
     /**
      * Setea el tipo de resultado de la expresión
      * @param resultType Tipo de resultado
@@ -62,6 +76,30 @@ public abstract class Expression extends Sentence{
         return isOffset;
     }
 
+    /**
+     * Avisa si el offset apunta a un byte en lugar de una palabra.
+     * @return Booleano
+     */
+    public boolean isByteOffset() {
+        return isByteOffset;
+    }
+
+    /**
+     * Obtiene la instrucción para leer el valor apuntado por el offset.
+     * @return lw o lbu
+     */
+    public String getLoadInstruction() {
+        return isByteOffset ? "lbu" : "lw";
+    }
+
+    /**
+     * Obtiene la instrucción para escribir el valor apuntado por el offset.
+     * @return sw o sb
+     */
+    public String getStoreInstruction() {
+        return isByteOffset ? "sb" : "sw";
+    }
+
     
     /** 
      * Obtiene el tipo que posee el resultado del encadenado.
@@ -105,6 +105,16 @@ public class UnaryExpression extends Expression{
     }
 
     
+    /**
+     * Cuenta los nodos del subárbol (La expresión y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        return super.countNodes() + count(expression);
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
@@ -132,7 +142,7 @@ public class UnaryExpression extends Expression{
         //Calcula el resultado de la expresion, se guarda en el registro $v0. Es la direccion de memoria
         asm += expression.generateCode(sStruct, sMethod);
         //Obtiene el resultado
-        asm += "lw $t0, 0($v0)\t\t\t\t\t#Get the expression result\n";
+        asm += expression.getLoadInstruction() + " $t0, 0($v0)\t\t\t\t\t#Get the expression result\n";
 
         //Realiza la operacion sobre el registro
         switch (operator) {
@@ -154,8 +164,9 @@ public class UnaryExpression extends Expression{
         }
 
         //Guarda el valor en la posicion de memoria correspondiente
-        asm += "sw $t0, 0($v0)\t\t\t\t\t#Save the new value\n";
+        asm += expression.getStoreInstruction() + " $t0, 0($v0)\t\t\t\t\t#Save the new value\n";
         this.isOffset = true;
+        this.isByteOffset = expression.isByteOffset();
         return asm;
     }
 }
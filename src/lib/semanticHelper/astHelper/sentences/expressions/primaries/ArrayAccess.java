@@ -19,6 +19,9 @@ public class ArrayAccess extends Primary{
     
     private Expression indexArray;
 
+    // Offset del array en el registro de activación (-1 si es atributo). Se resuelve al consolidar.
+    private int variableOffset;
+
     /**
      * Constructor de la clase.
      * @param identifier Encadenado
@@ -43,6 +46,7 @@ public class ArrayAccess extends Primary{
     public void consolidate(SymbolTable st, Struct struct, Method method, Primary leftExpression) {
         //Valida que la variable exista
         variableMethodExist(st, struct, method, leftExpression);
+        variableOffset = method.getVariableOffset(identifier.getLexema());
 
         //Consolida la expresion
         indexArray.consolidate(st, struct, method, null);
@@ -69,6 +73,16 @@ public class ArrayAccess extends Primary{
     }
 
     
+    /**
+     * Cuenta los nodos del subárbol (La expresión y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        return super.countNodes() + count(indexArray);
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
@@ -85,10 +99,58 @@ public class ArrayAccess extends Primary{
         tabs + "}";
     }
 
+    /**
+     * Genera código intermedio para accesos a arrays.<br/>
+     *
+     * Layout del array: [vtable | cantidad de elementos | datos]. Los elementos de
+     * Array Int y Array Str ocupan una palabra, los de Array Char y Array Bool un byte.
+     * Retorna en $v0 la dirección del elemento (offset).
+     *
+     * @param sStruct
+     * @param sMethod
+     * @return String
+     */
     public String generateCode(String sStruct, String sMethod){
-        String asm="";
+        String asm = "#Array access code\n";
+        boolean isByte = resultType.equals("Char") || resultType.equals("Bool");
+
+        //Obtiene la referencia al array (Atributo o variable del stack)
+        if (variableOffset == -1) {
+            asm += "la $v0, " + sStruct + "_attribute_" + identifier.getLexema() + "\t\t\t#Assign the memory position of the variable\n";
+        } else {
+            asm += "addiu $v0, $fp, " + variableOffset + "\t\t\t\t#Assign the memory position of the variable\n";
+        }
+        asm += "lw $v0, 0($v0)\t\t\t\t\t#Get the array reference\nsw $v0, 0($sp)\naddiu $sp, $sp, -4\n";
+
+        //Calcula el indice
+        asm += indexArray.generateCode(sStruct, sMethod);
+        if (indexArray.isOffset()) {
+            asm += indexArray.getLoadInstruction() + " $v0, 0($v0)\t\t\t\t\t#Get the index value\n";
+        }
+        asm += "lw $t0, 4($sp)\naddiu $sp, $sp, 4\n";
+
+        //Valida el rango (Comparacion sin signo para descartar indices negativos)
+        asm += "lw $t1, 4($t0)\t\t\t\t\t#Get the array length\n";
+        asm += "bgeu $v0, $t1, ErrorIndex\n";
+
+        //Calcula la direccion del elemento
+        if (!isByte) {
+            asm += "sll $v0, $v0, 2\t\t\t\t\t#Index * 4\n";
+        }
+        asm += "addu $v0, $t0, $v0\naddiu $v0, $v0, 8\t\t\t\t#Skip vtable and length\n";
+        this.isOffset = true;
+        this.isByteOffset = isByte;
+
+        if (rightChained != null) {
+            //Avisa que es lado derecho
+            rightChained.setLeftSide(getResultType());
+
+            //Genera el codigo
+            asm += rightChained.generateCode(sStruct, sMethod);
+            this.isOffset = rightChained.isOffset();
+            this.isByteOffset = rightChained.isByteOffset();
+        }
 
-        //asm += 
         return asm;
     }
     
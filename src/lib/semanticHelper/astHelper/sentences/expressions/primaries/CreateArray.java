@@ -84,6 +84,16 @@ public class CreateArray extends Primary{
     }
 
     
+    /**
+     * Cuenta los nodos del subárbol (La expresión y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        return super.countNodes() + count(dimention);
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
@@ -113,13 +123,13 @@ public class CreateArray extends Primary{
 
         //obtener dimention
         asm = dimention.generateCode(sStruct, sMethod);
-        asm += "move $t1, $v0\t\t\t\t\t#Use $t1 for dimention of array\n";
-        asm += "li $t2, 4\t\t\t\t\t\t#Size of each element\n";
-        asm += "mul $t1, $t1, $t2\t\t\t\t#Calculate dimention of array\n";
-        asm += "move $a0, $t1\n";
-        
+        if (dimention.isOffset()) {
+            asm += dimention.getLoadInstruction() + " $v0, 0($v0)\t\t\t\t\t#Get the dimention value\n";
+        }
+
+        //El constructor recibe la cantidad de elementos y calcula el tamaño
+        asm += "move $a0, $v0\t\t\t\t\t#Dimention of array\n";
         asm += "jal Array" + type.getLexema() + "_Constructor" + "\n"; 
-            
         
         return asm;
     }
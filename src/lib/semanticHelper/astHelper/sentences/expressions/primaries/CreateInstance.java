@@ -20,6 +20,9 @@ public class CreateInstance extends Primary{
     
     private ArrayList<Expression> params;
 
+    // Estructura a instanciar. Se resuelve al consolidar.
+    private Struct reference;
+
     /**
      * Constructor de la clase.
      * @param id Identificador
@@ -44,6 +47,7 @@ public class CreateInstance extends Primary{
     public void consolidate(SymbolTable st, Struct struct, Method method, Primary leftExpression) {
         //Valida que la estructura exista
         structExist(st);
+        reference = st.getStruct(identifier.getLexema());
 
         //si el lexema es distinto de Object
         if (!identifier.getLexema().equals("Object")){
@@ -61,6 +65,21 @@ public class CreateInstance extends Primary{
     }
 
     
+    /**
+     * Cuenta los nodos del subárbol (La expresión y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        int count = super.countNodes();
+
+        for (Expression child : params) {
+            count += count(child);
+        }
+        return count;
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
@@ -97,16 +116,14 @@ public class CreateInstance extends Primary{
      */
     public String generateCode(String sStruct, String sMethod){
         String asm = "#Create instance code\n";
-        Struct oStruct = symbolTable.getStruct(this.identifier.getLexema());
-        int attributesCount = oStruct.getVariables().size();
+        int attributesCount = reference.getAttributeCount();
 
         //Avisa que posee al menos una creacion (Para reservar memoria)
-        oStruct.setHasCreate();
+        reference.setHasCreate();
 
-        //Reserva memoria para el struct
-        asm += "li $v0, 9\t\t\t\t\t\t#Reserve memory for the CIR\n";
-        asm += "li $a0, " + (4 + (attributesCount * 4) ) +"\n"; //4 por vtable + cant de atributos
-        asm += "syscall\t\t\t\t\t\t\t#$v0 contains address of allocated memory\n";
+        //Reserva memoria para el struct (4 por vtable + cant de atributos)
+        asm += "#Reserve memory for the CIR\n";
+        asm += Static.generateInlineAlloc(symbolTable, SymbolTable.getLabelNamespace(sStruct, sMethod), 4 + (attributesCount * 4));
         
         //Guarda la referencia a la vtable (Inicio del CIR)
         asm += "la $t0, " + this.getIdentifier().getLexema()+"_vtable\t\t#Saves the vtable reference\n";
@@ -19,6 +19,9 @@ import src.lib.tokenHelper.Token;
 public class MethodAccess extends Primary{
     private ArrayList<Expression> params;
 
+    // Método al que se llama. Se resuelve al consolidar.
+    private Method reference;
+
     /**
      * Constructor de la clase.
      * @param identifier Identificador 
@@ -53,6 +56,8 @@ public class MethodAccess extends Primary{
             methodToCheckParams = st.getStruct(leftExpression.getResultType()).getMethod(identifier.getLexema());
         }
 
+        reference = methodToCheckParams;
+
         //Consolida los parametros
         Static.consolidateParams(params, st, struct, method, methodToCheckParams, identifier);
 
@@ -66,6 +71,21 @@ public class MethodAccess extends Primary{
     }
 
     
+    /**
+     * Cuenta los nodos del subárbol (La expresión y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        int count = super.countNodes();
+
+        for (Expression child : params) {
+            count += count(child);
+        }
+        return count;
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
@@ -105,7 +125,6 @@ public class MethodAccess extends Primary{
         String asm="#Method access code\n",
             //Si no posee lado derecho, se llama a metodo de la misma estructura
             leftSide = getsLeftSide().equals("") ? sStruct : getsLeftSide();
-        Method m = symbolTable.getStruct(leftSide).getMethod(identifier.getLexema());
         int position = 0;
 
         //Si no posee leftside obtiene la direccion de memoria de la vtable directamente. Es self
@@ -119,7 +138,7 @@ public class MethodAccess extends Primary{
         //$v0 ahora posee la direccion de memoria de la vtable
 
         //Valida si es metodo estatico o no para calcular el offset. Tiene en cuenta el constructor
-        position = m.getPosition() + (m.isStatic() ? 0 : 1);
+        position = reference.getPosition() + (reference.isStatic() ? 0 : 1);
         
         //Obtiene la posicion del metodo en la vtable. Index: (Position + 1) * 4. Porque el constructor esta primero
         asm += "lw $t0, " + (position * 4) + "($v0)\t\t\t\t\t#Get the method reference\n";
@@ -128,13 +147,13 @@ public class MethodAccess extends Primary{
         for (Expression expression : params) {
             asm += expression.generateCode(sStruct, sMethod);
             if (expression.isOffset()){
-                asm += "lw $v0, 0($v0)\n";
+                asm += expression.getLoadInstruction() + " $v0, 0($v0)\n";
             }
             asm += "sw $v0, 0($sp)\naddiu $sp, $sp, -4\n";
         }
 
         //Realiza la llamada al metodo
-        asm += "#Call method\njal " + leftSide + "_" + identifier.getLexema() + "\n";
+        asm += "#Call method\njal " + leftSide.replaceAll("\\s", "") + "_" + identifier.getLexema() + "\n";
 
 
         return asm;
@@ -15,6 +15,8 @@ import src.lib.tokenHelper.Token;
  * @since 17/05/2024
  */
 public class SimpleAccess extends Primary{
+    // Offset de la variable en el registro de activación (-1 si es atributo). Se resuelve al consolidar.
+    private int variableOffset;
 
     /**
      * Constructor de la clase.
@@ -46,6 +48,11 @@ public class SimpleAccess extends Primary{
         }
         if (!idToken.contains("literal") && !idToken.contains("false") && !idToken.contains("true") && !idToken.contains("nil")) {
             variableMethodExist(st, struct, method, leftExpression);
+
+            //Resuelve la posición de la variable para la generación de código
+            if (identifier.getIDToken().equals(IDToken.idOBJECT)) {
+                variableOffset = method.getVariableOffset(identifier.getLexema());
+            }
         }
         else{
             // se asigna el resultType
@@ -94,12 +101,13 @@ public class SimpleAccess extends Primary{
             case constSTR:
                 //definir el literal str en .data
                 asm += ".data\t\t\t\t\t\t\t#Assign constant string\n";
-                int countLiteralStr = symbolTable.addLiteralStrCount();
-                asm += "\tliteral_str_" + countLiteralStr + ":" + " .asciiz " + identifier.getLexema() + "\n";
+                String namespace = SymbolTable.getLabelNamespace(sStruct, sMethod),
+                    literalLabel = namespace + "literal_str_" + symbolTable.addLiteralStrCount(namespace);
+                asm += "\t" + literalLabel + ":" + " .asciiz " + identifier.getLexema() + "\n";
                 //sigue .text
                 asm += ".text\n";
                 //asigna a $v0 el literal_str creado
-                asm += "la $v0, " +"literal_str_" + countLiteralStr + "\n";
+                asm += "la $v0, " + literalLabel + "\n";
                 break;
             case constCHAR:
                 asm += "li $v0, " + identifier.getLexema() + "\t\t\t\t\t#Assign constant char\n";
@@ -109,12 +117,11 @@ public class SimpleAccess extends Primary{
                 asm += "la $v0, " + identifier.getLexema() + "_struct_static\t\t#Assign the memory position of the label\n";
                 break;
             case idOBJECT: //Asigna la posicion de memoria del stack (parametro o variable local) o un label (atributo)
-                int offset = symbolTable.getVariableOffset(sStruct, sMethod, identifier.getLexema());
                 //Si viene con -1, es atributo de clase
-                if (offset == -1) {
+                if (variableOffset == -1) {
                     asm += "la $v0, " + sStruct + "_attribute_" + identifier.getLexema() + "\t\t\t#Assign the memory position of the variable\n";
                 } else {
-                    asm += "addiu $v0, $fp, " + symbolTable.getVariableOffset(sStruct, sMethod, identifier.getLexema()) + "\t\t\t\t#Assign the memory position of the variable\n";
+                    asm += "addiu $v0, $fp, " + variableOffset + "\t\t\t\t#Assign the memory position of the variable\n";
                 }
                 this.isOffset = true;
                 break;
@@ -135,6 +142,12 @@ public class SimpleAccess extends Primary{
 
             //Genera el codigo
             asm += rightChained.generateCode(sStruct, sMethod);
+
+            //Si el encadenado es un acceso a array, el resultado es la posicion del elemento
+            if (rightChained instanceof ArrayAccess) {
+                this.isOffset = rightChained.isOffset();
+                this.isByteOffset = rightChained.isByteOffset();
+            }
         }
         return asm;
     }
@@ -48,6 +48,16 @@ public class SimpleSentence extends Primary{
     }
 
     
+    /**
+     * Cuenta los nodos del subárbol (La expresión y sus hijos).
+     *
+     * @return Cantidad de nodos
+     */
+    @Override
+    public int countNodes() {
+        return super.countNodes() + count(exp);
+    }
+
     /** 
      * Convierte los datos en JSON.
      * 
@@ -69,6 +79,7 @@ public class SimpleSentence extends Primary{
     public String generateCode(String sStruct, String sMethod){
         String asm = exp.generateCode(sStruct, sMethod);
         this.isOffset = exp.isOffset();
+        this.isByteOffset = exp.isByteOffset();
         return asm;
     }
 
@@ -74,16 +74,33 @@ public abstract class Metadata {
      * @return Estructura en formato json
      */
     public String toJSONEntity (HashMap<String, ?> entity, String tabs) {
-        int count = entity.size();
-        String JSON = count > 0 ? "\n" : "";
+        Metadata[] ordered = new Metadata[entity.size()];
+        int index = 0;
 
-        //Genera el json de params
         for (String name : Static.order(entity)) {
-            JSON += ((Metadata)entity.get(name)).toJSON(tabs + "        ") + (count > 1 ? "," : "") + "\n";
+            ordered[index++] = (Metadata)entity.get(name);
+        }
+        return toJSONEntity(ordered, tabs);
+    }
+
+    /** 
+     * Método que genera el JSON de una entidad ya ordenada por posición.
+     * 
+     * @param entity Elementos de la entidad en orden
+     * @param tabs Cantidad de tabs que se deben aplicar
+     * @return Estructura en formato json
+     */
+    public String toJSONEntity (Metadata[] entity, String tabs) {
+        int count = entity.length;
+        StringBuilder JSON = new StringBuilder(count > 0 ? "\n" : "");
+
+        //Genera el json de params
+        for (Metadata object : entity) {
+            JSON.append(object.toJSON(tabs + "        ")).append(count > 1 ? "," : "").append("\n");
             count--;
         }
 
-        return JSON;
+        return JSON.toString();
     }
 
     /**
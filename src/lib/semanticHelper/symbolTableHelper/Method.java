@@ -2,6 +2,7 @@ package src.lib.semanticHelper.symbolTableHelper;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 import src.lib.Static;
 import src.lib.exceptionHelper.SemanticException;
@@ -34,8 +35,8 @@ public class Method extends Metadata{
     public Method (Token metadata, ArrayList<Param> parameters, Token returnType, boolean isStatic, int position) {
         super(metadata, position);
 
-        variables = new HashMap<String, Variable>();
-        params = new HashMap<String, Param>();
+        variables = new LinkedHashMap<String, Variable>();
+        params = new LinkedHashMap<String, Param>();
         for (Param param : parameters) {
             // si no contiene un parametro con param.getName como key entonces se agrega
             if(params.get(param.getName())==null){
@@ -106,7 +107,7 @@ public class Method extends Metadata{
         space -= 4;
 
         //Reserva memoria para las variables locales
-        for (String variable : variables.keySet()) {
+        for (String variable : Static.order(variables)) {
             Variable var = variables.get(variable);
             code += Static.initStackData(var.getTypeToken().getIDToken(), -(16 + (var.getPosition() * 4))) + "\t\t\t\t\t#Local variable " + variable + ". Idx: $fp + 16 + (" + var.getPosition() + " * 4)\n";
             space -= 4;
@@ -1,11 +1,17 @@
 package src.lib.semanticHelper.symbolTableHelper;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
 
 import src.lib.Static;
 import src.lib.exceptionHelper.SemanticException;
+import src.lib.incrementalHelper.DependencyRecorder;
+import src.lib.runtimeHelper.GarbageCollector;
+import src.lib.statsHelper.events.ConsolidateStructEvent;
 import src.lib.tokenHelper.IDToken;
 import src.lib.tokenHelper.Token;
 
@@ -23,7 +29,9 @@ public class Struct extends Metadata {
     private HashMap<String, Variable> variables;
     private HashMap<String, Method> methods;
     private HashMap<String, Struct> childrens;
+    private Method[] vtable;
     private Boolean consolidated, hasCreate;
+    private boolean frozen;
 
     /**
      * Constructor de la clase.
@@ -35,10 +43,10 @@ public class Struct extends Metadata {
     public Struct (Token metadata, Struct parent) {
         super(metadata, 0);
         
-        //Inicializa hash
-        variables = new HashMap<String, Variable>();
-        methods = new HashMap<String, Method>();
-        childrens = new HashMap<String, Struct>();
+        //Inicializa hash (En orden de declaración)
+        variables = new LinkedHashMap<String, Variable>();
+        methods = new LinkedHashMap<String, Method>();
+        childrens = new LinkedHashMap<String, Struct>();
 
         //Contadores de indices
         currentMethodIndex = 0;
@@ -50,6 +58,7 @@ public class Struct extends Metadata {
         
         consolidated=false;
         hasCreate=false;
+        frozen=false;
         
         this.parent = parent;
         //Le avisa al padre que lo tiene como hijo
@@ -70,6 +79,7 @@ public class Struct extends Metadata {
      * @param parent Clase padre de la cual hereda la estructura.
      */
     public void setParent (Struct parent) {
+        checkWritable();
         //Se elimina como hijo del parent actual
         this.parent.deleteChildren(getName());
 
@@ -83,6 +93,8 @@ public class Struct extends Metadata {
         return hasCreate;
     }
     public void setHasCreate() {
+        checkWritable();
+        DependencyRecorder.create(getName());
         this.hasCreate = true;
     }
 
@@ -93,14 +105,14 @@ public class Struct extends Metadata {
      */
     public String getAttributeType (String name, String implStruct) {
         String result = null;
-        Variable v = variables.get(name);
+        Variable v = findVariable(name);
         if (v != null) {
             // si no es privado
             if ( !(v.isPrivate())){
                 result = v.getType();
             } else{
                 // si no es heredado y es privado
-                if (!(v.isInherited())){
+                if (variables.get(name) == v){
                     // si el struct actual es igual al struct que se esta implementando
                     if ((this.getName().equals(implStruct) )){
                         result = v.getType();
@@ -119,7 +131,7 @@ public class Struct extends Metadata {
      */
     public String getReturnMethodType (String name, boolean isIDStruct) {
         String result = null;
-        Method m = methods.get(name);
+        Method m = findMethod(name);
         if (m != null) {
             //Obtiene el tipo de retorno
             result = m.getReturnType();
@@ -142,7 +154,68 @@ public class Struct extends Metadata {
         if (name == "Constructor") {
             return constructor;
         }
-        return methods.get(name);
+        return findMethod(name);
+    }
+
+    /**
+     * Busca un método en la estructura y, una vez consolidada, en sus ancestros
+     * (Los miembros heredados no se copian, se comparten con el padre).
+     */
+    private Method findMethod (String name) {
+        Struct struct = this;
+        Method method = methods.get(name);
+
+        while (method == null && struct.consolidated && struct.parent != null) {
+            struct = struct.parent;
+            method = struct.methods.get(name);
+        }
+        return method;
+    }
+
+    /**
+     * Busca un atributo en la estructura y, una vez consolidada, en sus ancestros.
+     */
+    private Variable findVariable (String name) {
+        Struct struct = this;
+        Variable variable = variables.get(name);
+
+        while (variable == null && struct.consolidated && struct.parent != null) {
+            struct = struct.parent;
+            variable = struct.variables.get(name);
+        }
+        return variable;
+    }
+
+    /**
+     * Obtiene los atributos (propios y heredados) ordenados por su posición en el CIR.
+     */
+    private Variable[] orderVariables () {
+        Variable[] result = new Variable[currentVarIndex];
+
+        //Cada ancestro ocupa las posiciones de sus propios atributos
+        for (Struct struct = this; struct != null; struct = struct.consolidated ? struct.parent : null) {
+            for (Variable variable : struct.variables.values()) {
+                result[variable.getPosition()] = variable;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Obtiene los métodos (propios y heredados) ordenados por su posición en la vtable.
+     */
+    private Method[] orderMethods () {
+        Method[] result = new Method[currentMethodIndex];
+
+        //Se recorre desde la estructura hacia Object, por lo que las redefiniciones ocupan su posición primero
+        for (Struct struct = this; struct != null; struct = struct.consolidated ? struct.parent : null) {
+            for (Method method : struct.methods.values()) {
+                if (result[method.getPosition()] == null) {
+                    result[method.getPosition()] = method;
+                }
+            }
+        }
+        return result;
     }
 
     public String generateCode () {
@@ -150,41 +223,131 @@ public class Struct extends Metadata {
         String code = "";
 
         //Valida si tendra seccion de datos
-        if (variables.size() > 0) {
-            //Recorre las variables
-            for (String variable : variables.keySet()) {
-                code += "\t" + getName() + "_attribute_" + variable + Static.getCodeDataType(variables.get(variable).getTypeToken().getIDToken());
+        if (currentVarIndex > 0) {
+            //La sección de datos puede continuar luego de un string, por lo que no se asume alineada
+            boolean isAligned = false;
+
+            //Recorre las variables en el orden del CIR
+            for (Variable variable : orderVariables()) {
+                IDToken type = variable.getTypeToken().getIDToken();
+                boolean isByte = type == IDToken.typeSTR || type == IDToken.typeCHAR;
+
+                //Los atributos de una palabra (y las raices del recolector de basura) deben estar alineados
+                if (!isByte && !isAligned) {
+                    code += "\t.align 2\n";
+                }
+                isAligned = !isByte;
+                code += "\t" + getName() + "_attribute_" + variable.getName() + Static.getCodeDataType(type);
             }
         }
 
         return code;
     }
 
+    /**
+     * Genera la vtable (y la vtable de métodos estáticos) a partir de las
+     * ranuras calculadas al consolidar.<br/>
+     *
+     * Con el recolector, la vtable está precedida por la referencia a su mapa de punteros.
+     *
+     * @param code Código MIPS (.data) al que se agregan las tablas
+     * @param isGcEnabled Booleano que indica si se utiliza el recolector de basura
+     */
+    public void generateVtable (StringBuilder code, boolean isGcEnabled) {
+        String name = getName();
+        boolean hasStatic = false;
+
+        if (isGcEnabled) {
+            code.append(generateGcMap()).append("\t.word ").append(name).append("_gcmap\n");
+        }
 
-    /** 
-     * Agrega los métodos que hereda, este método lo llama la superclase del struct.
+        //Métodos dinámicos en el orden de las ranuras (El constructor ocupa la primera)
+        code.append('\t').append(name).append("_vtable: .word ").append(name).append("_Constructor");
+        for (Method method : vtable) {
+            if (method.isStatic()) {
+                hasStatic = true;
+            } else {
+                code.append(", ").append(name).append('_').append(method.getName());
+            }
+        }
+        code.append('\n');
+
+        //Valida si debe agregar la vtable de metodos estaticos y la variable que la referencia
+        if (hasStatic) {
+            String separator = "";
+
+            code.append('\t').append(name).append("_vtable_static: .word ");
+            for (Method method : vtable) {
+                if (method.isStatic()) {
+                    code.append(separator).append(name).append('_').append(method.getName());
+                    separator = ", ";
+                }
+            }
+            code.append('\n');
+            code.append('\t').append(name).append("_struct_static: .word ").append(name).append("_vtable_static\n");
+        }
+    }
+
+    /**
+     * Genera el mapa de punteros del CIR para el recolector de basura.
      * 
-     * @param parentMethods Métodos del padre que debe agregar.
+     * @return Código MIPS (.data) con los desplazamientos de los atributos que son referencias
      */
-    public void addMethodsInherited(HashMap<String, Method> parentMethods) {
-        Method method, parentMethod;
-        HashSet<String> methodsToCheck = new HashSet<String>(methods.keySet());
-        int newMethodIndex = parentMethods.size();
-        
-        //bool para comprobar si se deben modificar las position de los metodos
-        boolean addingMethods;
-        addingMethods = (parentMethods.isEmpty()==true ? false : true);
-        
-        // Recorre los metodos del padre, los inserta, actualiza los índices
-        // de los que se redefinen y actualiza la lista de metodos a actualizar
-        for (String methodName : parentMethods.keySet()) {
-            method = methods.get(methodName);
-            parentMethod = parentMethods.get(methodName);
+    public String generateGcMap () {
+        ArrayList<Integer> offsets = new ArrayList<Integer>();
+
+        //Recorre los atributos en el orden del CIR (La vtable ocupa la primer palabra)
+        for (Variable variable : orderVariables()) {
+            if (Static.isReferenceType(variable.getTypeToken().getIDToken())) {
+                offsets.add(4 + (variable.getPosition() * 4));
+            }
+        }
 
+        return GarbageCollector.generateMap(getName() + "_gcmap", offsets);
+    }
 
-            //Si el metodo no existe, lo agrega
-            if (method == null) {
-                methods.put(methodName, parentMethod);
+    /**
+     * Obtiene las etiquetas de los atributos que son referencias (Raíces del recolector de basura).
+     * 
+     * @return Etiquetas de los atributos
+     */
+    public ArrayList<String> getReferenceAttributeLabels () {
+        ArrayList<String> labels = new ArrayList<String>();
+
+        for (Variable variable : orderVariables()) {
+            if (Static.isReferenceType(variable.getTypeToken().getIDToken())) {
+                labels.add(getName() + "_attribute_" + variable.getName());
+            }
+        }
+
+        return labels;
+    }
+
+
+    /** 
+     * Valida los métodos propios contra los heredados y les asigna su posición en la vtable.
+     * Los métodos del padre no se copian: se obtienen recorriendo la cadena de herencia.
+     */
+    private void addMethodsInherited() {
+        checkWritable();
+        Method parentMethod;
+        int newMethodIndex = parent.currentMethodIndex;
+
+        //bool para comprobar si se deben modificar las position de los metodos
+        boolean addingMethods;
+        addingMethods = (newMethodIndex == 0 ? false : true);
+
+        // Recorre los metodos propios, actualiza los índices de los que se
+        // redefinen y ubica los nuevos a continuación de los heredados
+        for (Method method : methods.values()) {
+            parentMethod = parent.findMethod(method.getName());
+
+            //Si el metodo no existe en un ancestro, es nuevo
+            if (parentMethod == null) {
+                if (addingMethods) {
+                    method.setPosition(newMethodIndex);
+                    newMethodIndex++;
+                }
             }
             //Si existe y posee la misma signature, actualiza la posicion
             else {
@@ -192,7 +355,7 @@ public class Struct extends Metadata {
                 if(parentMethod.isStatic()){
                     throw new SemanticException(
                         method.getMetadata(),
-                        "Método '" + methodName + "' ya declarado en un ancestro como static. No se puede sobreescribir métodos static"
+                        "Método '" + method.getName() + "' ya declarado en un ancestro como static. No se puede sobreescribir métodos static"
                     );
                 }
                 if (method.getSignature().equals(parentMethod.getSignature())) {
@@ -201,59 +364,39 @@ public class Struct extends Metadata {
                 else {
                     throw new SemanticException(
                         method.getMetadata(),
-                        "Método '" + methodName + "' ya declarado en un ancestro. Verifique la signature."
+                        "Método '" + method.getName() + "' ya declarado en un ancestro. Verifique la signature."
                     );
                 }
             }
-            //Avisa que ya ha validado el metodo (Solo lo elimina si existe)
-            methodsToCheck.remove(methodName);
         }
 
-        //si hay metodos heredados entonces actualiza las position
+        //si hay metodos heredados la cantidad incluye los del padre
         if (addingMethods){
-
-            //Actualiza la posición de los metodos restantes
-            for (String methodName : methodsToCheck) {
-                methods.get(methodName).setPosition(newMethodIndex);
-                newMethodIndex++;
-            }
             currentMethodIndex = newMethodIndex;
         }
     }
 
     
     /**
-     * Agrega los atributos que hereda, este método lo llama la superclase del struct.
-     * 
-     * @param parentVariables Atributos del padre que debe agregar.
+     * Valida los atributos propios contra los heredados y los ubica a continuación
+     * de los del padre en el CIR. Los atributos del padre no se copian.
      */
-    public void addVariablesInherited(HashMap<String, Variable> parentVariables) {
-        HashSet<String> variablesToCheck = new HashSet<String>(variables.keySet());
-        int newVarIndex = parentVariables.size();
-        
-        // Recorre los atributos del padre, los inserta y actualiza los índices
-        // de los demas
-        for (String varName : parentVariables.keySet()) {
-            //Si el atributo no existe, lo agrega
-            if (variables.get(varName) == null) {
-                Variable newVar = new Variable(parentVariables.get(varName).getMetadata(), parentVariables.get(varName).getTypeToken(), parentVariables.get(varName).isPrivate(), parentVariables.get(varName).getPosition());
-                newVar.setIsInherited(true);
-                variables.put(varName, newVar);
-            }
-            //Si existe, se redefine y es error
-            else {
+    private void addVariablesInherited() {
+        checkWritable();
+        int newVarIndex = parent.currentVarIndex;
+
+        for (Variable variable : variables.values()) {
+            //Si existe en un ancestro, se redefine y es error
+            if (parent.findVariable(variable.getName()) != null) {
                 throw new SemanticException(
-                    variables.get(varName).getMetadata(),
-                    "Atributo '" + varName + "' ya declarado en un ancestro."
+                    variable.getMetadata(),
+                    "Atributo '" + variable.getName() + "' ya declarado en un ancestro."
                 );
             }
+            //Actualiza la posicion del atributo
+            variable.setPosition(variable.getPosition() + newVarIndex);
         }
-
-        //Actualiza la posicion de los atributos restantes
-        for (String varName : variablesToCheck) {
-            variables.get(varName).setPosition(variables.get(varName).getPosition() + newVarIndex);
-        }
-        currentVarIndex = this.variables.size();
+        currentVarIndex = newVarIndex + variables.size();
     }
 
     /**
@@ -274,6 +417,7 @@ public class Struct extends Metadata {
      * @return Método insertado en la estructura
      */
     public Method addMethod(Token token, ArrayList<Param> params, boolean isStatic, Token returnType) {
+        checkWritable();
         String name = token.getLexema();
         Method method = methods.get(name),
             newMethod = new Method(token, params, returnType, isStatic, (method == null ? currentMethodIndex : method.getPosition()));
@@ -325,6 +469,7 @@ public class Struct extends Metadata {
      * @param isPrivate Booleano que especifica si es privada o no
      */
     public void addVar(Token token, Token type, boolean isPrivate) {
+        checkWritable();
         String name = token.getLexema();
 
         //Si la variable no existe, la genera
@@ -346,6 +491,7 @@ public class Struct extends Metadata {
      * @param isFromStruct Booleano que indica si se está insertando desde un struct o impl.
      */
     public void addChildren (Struct children, boolean isFromStruct) {
+        checkWritable();
         //Agrega el children si no existe
         if (childrens.get(children.getName()) == null) {
             childrens.put(children.getName(), children);
@@ -363,6 +509,7 @@ public class Struct extends Metadata {
      * @param name Nombre del hijo a eliminar
      */
     public void deleteChildren(String name) {
+        checkWritable();
         childrens.remove(name);
     }
 
@@ -372,6 +519,7 @@ public class Struct extends Metadata {
      * @param isFromStruct booleano que indica si se está generando desde un struct o implement
      */
     public void updateCount(boolean isFromStruct) {
+        checkWritable();
         int count = isFromStruct ? this.countStructDefinition : this.countImplDefinition;
         if (count == 0) {
             if (isFromStruct) {
@@ -387,11 +535,55 @@ public class Struct extends Metadata {
     }
 
     /**
-     * Método que consolida la estructura
+     * Método que consolida la estructura y sus descendientes.<br/>
+     *
+     * Recorre el árbol de herencia en preorden con una pila explícita (Sin
+     * recursión, por lo que la profundidad de la jerarquía no está limitada por
+     * la pila de la JVM). Cada estructura se consolida luego de su padre, por lo
+     * que los miembros heredados ya tienen su posición definitiva.
+     *
      * @param staticStructs Estructuras estáticas para consolidar
      */
-    public void consolidate (HashSet<String> staticStructs) {
+    public void consolidate (Set<String> staticStructs) {
+        ArrayDeque<Struct> pending = new ArrayDeque<Struct>();
+        ArrayList<Struct> childs = new ArrayList<Struct>();
+
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            Struct struct = pending.pop();
+
+            // se comprueba si ya ha sido consolidado
+            if (struct.consolidated) {
+                continue;
+            }
+            struct.consolidateStruct();
+
+            //Apila los hijos en orden inverso para consolidarlos en orden de declaración
+            childs.clear();
+            for (Struct children : struct.childrens.values()) {
+                if (!staticStructs.contains(children.getName())) {
+                    childs.add(children);
+                }
+            }
+            for (int i = childs.size() - 1; i >= 0; i--) {
+                pending.push(childs.get(i));
+            }
+        }
+    }
+
+    /**
+     * Consolida únicamente la estructura: ubica sus miembros a continuación
+     * de los heredados, valida su definición y calcula la vtable.
+     */
+    private void consolidateStruct () {
+        ConsolidateStructEvent event = new ConsolidateStructEvent();
+        event.begin();
+
         if (!getName().equals("Object")) {
+            //Añade las variables y metodos heredados
+            addMethodsInherited();
+            addVariablesInherited();
+
             //Valida que posea al menos un struct
             if(countStructDefinition == 0){
                 throw new SemanticException(getMetadata(), "Struct '"+ getName() + "' debe definirse. Falta struct.");
@@ -407,28 +599,86 @@ public class Struct extends Metadata {
                 throw new SemanticException(getMetadata(), "Struct '"+ getName() + "' no tiene constructor implementado");
             }
         }
-        // Consolida y añade variables y metodos heredados a los hijos
-        for (Struct children : childrens.values()) {
-            if (!staticStructs.contains(children.getName())) {
-                // se comprueba si ya ha sido consolidado
-                if (children.consolidated.equals(false)){
-                    children.addMethodsInherited(methods);
-                    children.addVariablesInherited(variables);
-                }
-                children.consolidated=true;
-                children.consolidate(staticStructs);
-            }
+        computeVtable();
+        consolidated = true;
+
+        if (event.shouldCommit()) {
+            event.struct = getName();
+            event.attributes = currentVarIndex;
+            event.methods = currentMethodIndex;
+            event.childrens = childrens.size();
+            event.commit();
+        }
+    }
+
+    /**
+     * Calcula las ranuras de la vtable indexadas por la posición de cada método.
+     * Los métodos heredados conservan la posición del padre, por lo que se parte
+     * de una copia de sus ranuras y se ubican encima las redefiniciones y los
+     * métodos nuevos.
+     */
+    private void computeVtable () {
+        Method[] parentSlots = parent != null && parent.vtable != null ? parent.vtable : new Method[0];
+
+        vtable = Arrays.copyOf(parentSlots, currentMethodIndex);
+        for (Method method : methods.values()) {
+            vtable[method.getPosition()] = method;
+        }
+    }
+
+    /**
+     * Congela la estructura. A partir de este momento no se puede modificar,
+     * por lo que se puede compartir entre compilaciones (Estructuras predefinidas).
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Avisa si la estructura está congelada.
+     * 
+     * @return Booleano
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Valida que la estructura se pueda modificar.
+     */
+    private void checkWritable() {
+        if (frozen) {
+            throw new IllegalStateException("La estructura predefinida '" + getName() + "' no se puede modificar.");
         }
     }
 
+    /**
+     * Obtiene los métodos declarados en la estructura (Sin los heredados).
+     *
+     * @return Métodos propios
+     */
     public HashMap<String, Method> getMethods(){
         return this.methods;
     }
 
+    /**
+     * Obtiene los atributos declarados en la estructura (Sin los heredados).
+     *
+     * @return Atributos propios
+     */
     public HashMap<String, Variable> getVariables(){
         return this.variables;
     }
 
+    /**
+     * Obtiene la cantidad de atributos del CIR (Propios y heredados).
+     *
+     * @return Cantidad de atributos
+     */
+    public int getAttributeCount(){
+        return currentVarIndex;
+    }
+
     /**
      * Reescritura del método, convierte los datos en JSON.
      * 
@@ -437,7 +687,7 @@ public class Struct extends Metadata {
      */
     @Override
     public String toJSON(String tabs) {
-        String variableJSON = toJSONEntity(variables, tabs), methodJSON = toJSONEntity(methods, tabs);
+        String variableJSON = toJSONEntity(orderVariables(), tabs), methodJSON = toJSONEntity(orderMethods(), tabs);
 
         String constructorJSON="";
         if (constructor!=null){
@@ -0,0 +1,209 @@
+package src.lib.serverHelper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import src.lib.CompilerOptions;
+import src.lib.Const;
+import src.lib.Static;
+import src.lib.exceptionHelper.CustomException;
+import src.main.CodeGenerator;
+
+/**
+ * Servidor de compilación. Se mantiene en ejecución y atiende pedidos de
+ * compilación por un socket local (Unix domain socket, disponible también en
+ * Windows 10 o superior), evitando el arranque de la JVM y la carga de clases
+ * por cada archivo y aprovechando el código ya optimizado por el JIT.<br/>
+ *
+ * Protocolo: el cliente envía los argumentos del compilador (los mismos que
+ * recibe GenerationCodeRunner), uno por línea, seguidos de una línea vacía.
+ * El servidor responde con los diagnósticos y las ubicaciones de los archivos
+ * generados y cierra la conexión. Si el primer argumento es {@link #STOP} el
+ * servidor finaliza.<br/>
+ *
+ * Los pedidos se atienden de a uno, ya que el compilador conserva estado
+ * estático entre compilaciones.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class CompileServer {
+    /** Comando para finalizar el servidor */
+    public static final String STOP = "--stop";
+
+    /** Ubicación por defecto del socket */
+    public static final String DEFAULT_SOCKET = Paths.get(System.getProperty("java.io.tmpdir"), "compilador.sock").toString();
+
+    private final Path socketPath;
+    private int requests;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param socketPath Ubicación del socket
+     */
+    public CompileServer (String socketPath) {
+        this.socketPath = Paths.get(socketPath);
+        this.requests = 0;
+    }
+
+    /**
+     * Obtiene la cantidad de pedidos atendidos.
+     *
+     * @return Cantidad
+     */
+    public int getRequests () {
+        return requests;
+    }
+
+    /**
+     * Atiende pedidos hasta recibir el comando {@link #STOP}.
+     *
+     * @throws IOException Si no se puede crear el socket
+     */
+    public void serve () throws IOException {
+        //Elimina el socket de una ejecución anterior
+        Files.deleteIfExists(socketPath);
+
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socketPath));
+            System.out.println("SERVIDOR DE COMPILACION: " + socketPath);
+
+            boolean running = true;
+            while (running) {
+                try (SocketChannel client = server.accept()) {
+                    running = handle(client);
+                } catch (IOException e) {
+                    //La conexión con el cliente se perdió, continúa con el siguiente
+                    System.out.println(Const.ERROR_SERVER_CONNECTION + e.getMessage());
+                }
+            }
+        } finally {
+            Files.deleteIfExists(socketPath);
+        }
+    }
+
+    /**
+     * Lee un pedido, lo compila y envía la respuesta.
+     *
+     * @return false si se recibió el comando para finalizar
+     */
+    private boolean handle (SocketChannel client) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(client), StandardCharsets.UTF_8));
+        ArrayList<String> args = new ArrayList<String>();
+        String line;
+
+        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+            args.add(line);
+        }
+
+        boolean stop = !args.isEmpty() && args.get(0).equals(STOP);
+        String response = stop ? "CORRECTO: SERVIDOR FINALIZADO\n" : compile(args.toArray(new String[0]));
+
+        ByteBuffer buffer = ByteBuffer.wrap(response.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            client.write(buffer);
+        }
+        return !stop;
+    }
+
+    /**
+     * Compila un archivo y retorna la salida que mostraría GenerationCodeRunner,
+     * junto con las ubicaciones de los archivos generados.
+     *
+     * @param args Argumentos del compilador
+     * @return Salida de la compilación
+     */
+    public String compile (String[] args) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8), stdout = System.out;
+        long start = System.nanoTime();
+
+        //Los mensajes que el compilador muestra por consola forman parte de la respuesta
+        System.setOut(out);
+        try {
+            compile(args, out);
+        } finally {
+            System.setOut(stdout);
+        }
+
+        requests++;
+        System.out.println("| " + requests + " | " + String.join(" ", args) + " | " + (System.nanoTime() - start) / 1000000 + " ms |");
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Realiza la compilación escribiendo la salida en el stream indicado.
+     */
+    private static void compile (String[] args, PrintStream out) {
+        CompilerOptions options;
+
+        try {
+            options = CompilerOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            out.println(e.getMessage());
+            return;
+        }
+
+        String path = options.getSourcePath();
+        if (path == null) {
+            out.println(Const.ERROR_READ_SOURCE);
+            return;
+        }
+
+        //Valida el archivo antes de compilar (El lector de archivos finaliza la JVM si es inválido)
+        File file = new File(path);
+        if (!path.endsWith(".ru")) {
+            out.println(Const.ERROR_INVALID_EXTENSION);
+            return;
+        }
+        if (!file.isFile()) {
+            out.println(Const.ERROR_READ_FILE + file.getAbsolutePath());
+            return;
+        }
+
+        try {
+            CodeGenerator codeGenerator = new CodeGenerator(path, options);
+
+            codeGenerator.run();
+
+            out.println("CORRECTO: GENERACION DE CODIGO");
+
+            //Muestra o escribe las métricas de la compilación
+            if (options.isStatsJson()) {
+                Static.write(codeGenerator.getStats().toJSON(), codeGenerator.getResultPath() + ".stats.json");
+            } else if (options.isStatsEnabled()) {
+                out.print(codeGenerator.getStats().toString());
+            }
+
+            //Informa los archivos generados
+            for (String extension : new String[] {".asm", ".ts.json", ".ast.json"}) {
+                out.println("ARCHIVO: " + new File(codeGenerator.getResultPath() + extension).getAbsolutePath());
+            }
+        }
+        //Captura los errores léxicos, sintácticos y semánticos
+        catch (CustomException e) {
+            out.println(e.getMessage());
+        }
+        //Captura cualquier otro tipo de error sin finalizar el servidor
+        catch (Exception | StackOverflowError e) {
+            out.println("Ocurrio un error al analizar." + e.getMessage());
+        }
+    }
+}
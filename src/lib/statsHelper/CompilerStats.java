@@ -0,0 +1,237 @@
+package src.lib.statsHelper;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+
+/**
+ * Esta clase se encarga de registrar las métricas de una compilación: tiempo
+ * real, tiempo de CPU y bytes reservados por cada fase, y contadores
+ * (tokens, nodos del AST, estructuras, métodos e instrucciones emitidas).<br/>
+ *
+ * Si no está habilitada, las mediciones no hacen nada para no agregar costo a
+ * la compilación normal.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class CompilerStats {
+    private final boolean enabled;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final LinkedHashMap<String, PhaseStats> phases;
+    private final LinkedHashMap<String, Long> counters;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param enabled Indica si se deben registrar las métricas
+     */
+    public CompilerStats (boolean enabled) {
+        this.enabled = enabled;
+        phases = new LinkedHashMap<String, PhaseStats>();
+        counters = new LinkedHashMap<String, Long>();
+
+        //Orden fijo de los contadores principales
+        if (enabled) {
+            for (String counter : new String[] {"tokens", "nodosAST", "estructuras", "metodos", "instrucciones"}) {
+                counters.put(counter, 0L);
+            }
+        }
+
+        //Solo la JVM de HotSpot expone los bytes reservados por hilo
+        if (enabled && ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+            threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            if (threadBean.isThreadAllocatedMemorySupported()) {
+                threadBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            if (threadBean.isCurrentThreadCpuTimeSupported()) {
+                threadBean.setThreadCpuTimeEnabled(true);
+            }
+        } else {
+            threadBean = null;
+        }
+    }
+
+    /**
+     * Avisa si se están registrando métricas.
+     *
+     * @return Booleano
+     */
+    public boolean isEnabled () {
+        return enabled;
+    }
+
+    /**
+     * Comienza la medición de una fase.
+     *
+     * @return Marca de inicio que se debe pasar a {@link #end(String, long[])}
+     * o null si no está habilitado
+     */
+    public long[] start () {
+        if (!enabled) {
+            return null;
+        }
+        return new long[] {System.nanoTime(), cpuTime(), allocatedBytes()};
+    }
+
+    /**
+     * Finaliza la medición de una fase y la acumula.
+     *
+     * @param phase Nombre de la fase
+     * @param mark Marca obtenida con {@link #start()}
+     */
+    public void end (String phase, long[] mark) {
+        if (mark == null) {
+            return;
+        }
+        long wall = System.nanoTime() - mark[0],
+            cpu = cpuTime() - mark[1],
+            allocated = allocatedBytes() - mark[2];
+
+        phases.computeIfAbsent(phase, PhaseStats::new).add(wall, cpu, allocated);
+    }
+
+    /**
+     * Acumula en una fase el tiempo real medido fuera de {@link #start()}, para
+     * las fases que se miden muchas veces y de forma muy breve. Su tiempo de
+     * CPU y sus bytes reservados quedan incluidos en la fase que la contiene,
+     * por lo que no se informan.
+     *
+     * @param phase Nombre de la fase
+     * @param wallNanos Tiempo real acumulado (ns)
+     * @param calls Cantidad de mediciones acumuladas
+     */
+    public void add (String phase, long wallNanos, long calls) {
+        if (enabled && calls > 0) {
+            phases.computeIfAbsent(phase, name -> new PhaseStats(name, true)).add(wallNanos, 0, 0, calls);
+        }
+    }
+
+    /**
+     * Suma un valor a un contador.
+     *
+     * @param counter Nombre del contador
+     * @param value Valor a sumar
+     */
+    public void count (String counter, long value) {
+        if (enabled) {
+            counters.merge(counter, value, Long::sum);
+        }
+    }
+
+    /**
+     * Obtiene las mediciones de una fase.
+     *
+     * @param phase Nombre de la fase
+     * @return Mediciones o null si la fase no se midió
+     */
+    public PhaseStats getPhase (String phase) {
+        return phases.get(phase);
+    }
+
+    /**
+     * Obtiene el valor de un contador.
+     *
+     * @param counter Nombre del contador
+     * @return Valor (0 si no se contó)
+     */
+    public long getCounter (String counter) {
+        return counters.getOrDefault(counter, 0L);
+    }
+
+    /**
+     * Cuenta las instrucciones de un código MIPS (ignora etiquetas,
+     * directivas, comentarios y líneas vacías).
+     *
+     * @param code Código MIPS
+     * @return Cantidad de instrucciones
+     */
+    public static long countInstructions (String code) {
+        long count = 0;
+
+        for (String line : code.split("\n")) {
+            int index = line.indexOf('#');
+            if (index >= 0) {
+                line = line.substring(0, index);
+            }
+
+            //Quita la etiqueta
+            index = line.indexOf(':');
+            if (index >= 0 && line.indexOf('"') < 0) {
+                line = line.substring(index + 1);
+            }
+
+            line = line.trim();
+            if (!line.isEmpty() && line.charAt(0) != '.') {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private long cpuTime () {
+        return threadBean != null && threadBean.isThreadCpuTimeEnabled() ? threadBean.getCurrentThreadCpuTime() : 0;
+    }
+
+    private long allocatedBytes () {
+        return threadBean != null && threadBean.isThreadAllocatedMemoryEnabled()
+            ? threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+    }
+
+    /**
+     * Genera una tabla legible con las métricas. Las columnas que una fase no
+     * mide se muestran con "-".
+     *
+     * @return String
+     */
+    @Override
+    public String toString () {
+        String result = "| FASE | LLAMADAS | TIEMPO REAL (ms) | TIEMPO CPU (ms) | BYTES RESERVADOS |\n";
+
+        for (PhaseStats phase : phases.values()) {
+            result += String.format("| %s | %d | %.3f | %s | %s |\n",
+                phase.getName(), phase.getCalls(), phase.getWallNanos() / 1e6,
+                phase.isWallOnly() ? "-" : String.format("%.3f", phase.getCpuNanos() / 1e6),
+                phase.isWallOnly() ? "-" : String.valueOf(phase.getAllocatedBytes())
+            );
+        }
+
+        result += "| CONTADOR | VALOR |\n";
+        for (String counter : counters.keySet()) {
+            result += "| " + counter + " | " + counters.get(counter) + " |\n";
+        }
+
+        return result;
+    }
+
+    /**
+     * Convierte los datos en JSON.
+     *
+     * @return Métricas en formato JSON
+     */
+    public String toJSON () {
+        String phasesJSON = "", countersJSON = "";
+        int count = phases.size();
+
+        for (PhaseStats phase : phases.values()) {
+            phasesJSON += phase.toJSON("        ") + (count > 1 ? "," : "") + "\n";
+            count--;
+        }
+
+        count = counters.size();
+        for (String counter : counters.keySet()) {
+            countersJSON += "        \"" + counter + "\": " + counters.get(counter) + (count > 1 ? "," : "") + "\n";
+            count--;
+        }
+
+        return "{\n" +
+            "    \"fases\": [\n" +
+                phasesJSON +
+            "    ],\n" +
+            "    \"contadores\": {\n" +
+                countersJSON +
+            "    }\n" +
+        "}";
+    }
+}
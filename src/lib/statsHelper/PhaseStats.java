@@ -0,0 +1,136 @@
+package src.lib.statsHelper;
+
+/**
+ * Mediciones acumuladas de una fase del compilador.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class PhaseStats {
+    private final String name;
+    private final boolean wallOnly;
+    private long wallNanos, cpuNanos, allocatedBytes, calls;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param name Nombre de la fase
+     */
+    public PhaseStats (String name) {
+        this(name, false);
+    }
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param name Nombre de la fase
+     * @param wallOnly Indica si solo se mide el tiempo real (Sin tiempo de CPU ni bytes reservados)
+     */
+    public PhaseStats (String name, boolean wallOnly) {
+        this.name = name;
+        this.wallOnly = wallOnly;
+        wallNanos = 0;
+        cpuNanos = 0;
+        allocatedBytes = 0;
+        calls = 0;
+    }
+
+    /**
+     * Acumula una medición de la fase.
+     *
+     * @param wall Tiempo real (ns)
+     * @param cpu Tiempo de CPU (ns)
+     * @param allocated Bytes reservados por el hilo
+     */
+    public void add (long wall, long cpu, long allocated) {
+        add(wall, cpu, allocated, 1);
+    }
+
+    /**
+     * Acumula varias mediciones de la fase.
+     *
+     * @param wall Tiempo real (ns)
+     * @param cpu Tiempo de CPU (ns)
+     * @param allocated Bytes reservados por el hilo
+     * @param count Cantidad de mediciones
+     */
+    public void add (long wall, long cpu, long allocated, long count) {
+        wallNanos += wall;
+        cpuNanos += cpu;
+        allocatedBytes += allocated;
+        calls += count;
+    }
+
+    /**
+     * Obtiene el nombre de la fase.
+     *
+     * @return String
+     */
+    public String getName () {
+        return name;
+    }
+
+    /**
+     * Obtiene el tiempo real acumulado.
+     *
+     * @return Nanosegundos
+     */
+    public long getWallNanos () {
+        return wallNanos;
+    }
+
+    /**
+     * Obtiene el tiempo de CPU acumulado (0 si la JVM no lo soporta).
+     *
+     * @return Nanosegundos
+     */
+    public long getCpuNanos () {
+        return cpuNanos;
+    }
+
+    /**
+     * Obtiene los bytes reservados durante la fase (0 si la JVM no lo soporta).
+     *
+     * @return Bytes
+     */
+    public long getAllocatedBytes () {
+        return allocatedBytes;
+    }
+
+    /**
+     * Avisa si la fase solo mide el tiempo real. En ese caso su tiempo de CPU
+     * y sus bytes reservados no se miden y se informan en 0.
+     *
+     * @return Booleano
+     */
+    public boolean isWallOnly () {
+        return wallOnly;
+    }
+
+    /**
+     * Obtiene la cantidad de veces que se midió la fase.
+     *
+     * @return Cantidad
+     */
+    public long getCalls () {
+        return calls;
+    }
+
+    /**
+     * Convierte los datos en JSON. Las fases que solo miden el tiempo real
+     * omiten el tiempo de CPU y los bytes reservados.
+     *
+     * @param tabs Cantidad de separaciones
+     * @return String
+     */
+    public String toJSON (String tabs) {
+        return tabs + "{\n" +
+            tabs + "    \"fase\": \"" + name + "\",\n" +
+            tabs + "    \"llamadas\": " + calls + ",\n" +
+            tabs + "    \"tiempoRealNs\": " + wallNanos + (wallOnly ? "\n" : ",\n" +
+            tabs + "    \"tiempoCpuNs\": " + cpuNanos + ",\n" +
+            tabs + "    \"bytesReservados\": " + allocatedBytes + "\n") +
+        tabs + "}";
+    }
+}
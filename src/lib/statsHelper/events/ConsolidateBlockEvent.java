@@ -0,0 +1,32 @@
+package src.lib.statsHelper.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR de la consolidación del bloque de sentencias de un método.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+@Name("compilador.ConsolidateBlock")
+@Label("Consolidacion de bloque")
+@Category({"Compilador", "Semantico"})
+@Description("Chequeo de tipos de las sentencias de un metodo")
+public class ConsolidateBlockEvent extends Event {
+    /** Nombre de la estructura */
+    @Label("Estructura")
+    public String struct;
+
+    /** Nombre del método */
+    @Label("Metodo")
+    public String method;
+
+    /** Cantidad de sentencias del bloque */
+    @Label("Sentencias")
+    public int sentences;
+}
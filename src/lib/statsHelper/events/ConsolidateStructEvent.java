@@ -0,0 +1,37 @@
+package src.lib.statsHelper.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR de la consolidación de una estructura (incluye la consolidación
+ * de sus hijos).
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+@Name("compilador.ConsolidateStruct")
+@Label("Consolidacion de estructura")
+@Category({"Compilador", "Semantico"})
+@Description("Validacion de una estructura y herencia de atributos y metodos a sus hijos")
+public class ConsolidateStructEvent extends Event {
+    /** Nombre de la estructura */
+    @Label("Estructura")
+    public String struct;
+
+    /** Cantidad de atributos (incluye heredados) */
+    @Label("Atributos")
+    public int attributes;
+
+    /** Cantidad de métodos (incluye heredados) */
+    @Label("Metodos")
+    public int methods;
+
+    /** Cantidad de hijos directos */
+    @Label("Hijos")
+    public int childrens;
+}
@@ -0,0 +1,38 @@
+package src.lib.statsHelper.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR de la generación de código MIPS de un método.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+@Name("compilador.EmitMethod")
+@Label("Generacion de metodo")
+@Category({"Compilador", "Generacion"})
+@Description("Generacion del codigo MIPS de las sentencias de un metodo")
+public class EmitMethodEvent extends Event {
+    /** Nombre de la estructura */
+    @Label("Estructura")
+    public String struct;
+
+    /** Nombre del método */
+    @Label("Metodo")
+    public String method;
+
+    /** Cantidad de sentencias del bloque */
+    @Label("Sentencias")
+    public int sentences;
+
+    /** Tamaño del código generado */
+    @Label("Codigo generado")
+    @DataAmount
+    public long codeSize;
+}
@@ -0,0 +1,48 @@
+package src.lib.statsHelper.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento JFR del análisis léxico de un archivo.<br/>
+ *
+ * Como el analizador sintáctico solicita los tokens a demanda, el evento
+ * abarca desde que se abre el archivo hasta que se obtiene el EOF, y el tiempo
+ * dedicado exclusivamente al análisis léxico se registra en lexingTime.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+@Name("compilador.LexFile")
+@Label("Analisis lexico de archivo")
+@Category({"Compilador", "Lexico"})
+@Description("Lectura de un archivo fuente y obtencion de sus tokens")
+public class LexFileEvent extends Event {
+    /** Ubicación del código fuente */
+    @Label("Archivo")
+    public String path;
+
+    /** Cantidad de tokens generados */
+    @Label("Tokens")
+    public int tokens;
+
+    /** Cantidad de líneas leídas */
+    @Label("Lineas")
+    public int lines;
+
+    /** Tamaño del archivo */
+    @Label("Tamaño")
+    @DataAmount
+    public long size;
+
+    /** Tiempo dentro del analizador léxico */
+    @Label("Tiempo de analisis lexico")
+    @Timespan(Timespan.NANOSECONDS)
+    public long lexingTime;
+}
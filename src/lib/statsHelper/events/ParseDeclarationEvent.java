@@ -0,0 +1,33 @@
+package src.lib.statsHelper.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR del análisis sintáctico de una declaración de primer nivel
+ * (struct o impl).
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+@Name("compilador.ParseDeclaration")
+@Label("Analisis sintactico de declaracion")
+@Category({"Compilador", "Sintactico"})
+@Description("Analisis de un struct o impl de primer nivel")
+public class ParseDeclarationEvent extends Event {
+    /** Tipo de declaración (struct o impl) */
+    @Label("Tipo")
+    public String kind;
+
+    /** Nombre de la estructura */
+    @Label("Estructura")
+    public String struct;
+
+    /** Cantidad de tokens consumidos */
+    @Label("Tokens")
+    public int tokens;
+}
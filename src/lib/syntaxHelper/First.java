@@ -1,6 +1,8 @@
 package src.lib.syntaxHelper;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Set;
 
 import src.lib.tokenHelper.IDToken;
 
@@ -8,6 +10,8 @@ import src.lib.tokenHelper.IDToken;
  * Clase First que contiene un set de tokens
  * por cada no terminal de la gramatica. 
  * Donde cada HashSet almacena los PRIMEROS de los mismos. 
+ * Los sets no se pueden modificar, ya que se comparten entre todas las
+ * compilaciones (incluso las que se ejecutan en paralelo).
  * @author Cristian Serrano
  * @author Federico Gimenez
  * @since 08/04/2024
@@ -17,61 +21,61 @@ public class First {
     /**
      * Primeros de Program 
      */
-    public static final HashSet<IDToken> firstProgram = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstProgram = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.idOBJECT); //para start
         add(IDToken.pSTRUCT);
         add(IDToken.pIMPL);
-    }};
+    }});
     /**
      * Primeros de Start 
      */
-    public static final HashSet<IDToken> firstStart = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstStart = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.idOBJECT); //para start
 
-    }};
+    }});
     /**
      * Primeros de Struct 
      */
-    public static final HashSet<IDToken> firstStruct=  new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstStruct= Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pSTRUCT);
-    }};
+    }});
     /**
      * Primeros de StructP 
      */
-    public static final HashSet<IDToken> firstStructP=  new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstStructP= Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sCOLON);
         add(IDToken.sKEY_OPEN);
-    }};
+    }});
     /**
      * Primeros de Impl 
      */
-    public static final HashSet<IDToken> firstImpl =  new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstImpl = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pIMPL);
-    }}; 
+    }}); 
     /**
      * Primeros de Herencia 
      */
-    public static final HashSet<IDToken> firstHerencia =  new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstHerencia = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sCOLON);
-    }}; 
+    }}); 
     /**
      * Primeros de Miembro 
      */
-    public static final HashSet<IDToken> firstMiembro =  new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstMiembro = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sDOT);
         add(IDToken.pFN);
         add(IDToken.pST);
-    }}; 
+    }}); 
     /**
      * Primeros de Constructor 
      */
-    public static final HashSet<IDToken> firstConstructor =  new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstConstructor = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sDOT);
-    }}; 
+    }}); 
     /**
      * Primeros de Atributo 
      */
-    public static final HashSet<IDToken> firstAtributo =  new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstAtributo = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pPRI);
         add(IDToken.typeSTR);
         add(IDToken.typeBOOL);
@@ -79,37 +83,37 @@ public class First {
         add(IDToken.typeCHAR);
         add(IDToken.idSTRUCT);
         add(IDToken.typeARRAY);
-    }}; 
+    }}); 
     /**
      * Primeros de Metodo 
      */
-    public static final HashSet<IDToken> firstMetodo =  new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstMetodo = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pFN);
         add(IDToken.pST);
-    }}; 
+    }}); 
     /**
      * Primeros de Visibilidad 
      */
-    public static final HashSet<IDToken> firstVisibilidad = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstVisibilidad = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pPRI);
-    }}; 
+    }}); 
 
     /**
      * Primeros de FormaMetodo 
      */
-    public static final HashSet<IDToken> firstFormaMetodo = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstFormaMetodo = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pST);
-    }}; 
+    }}); 
     /**
      * Primeros de BloqueMetodo 
      */
-    public static final HashSet<IDToken> firstBloqueMetodo = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstBloqueMetodo = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sKEY_OPEN);
-    }};
+    }});
     /**
      * Primeros de DeclVarLocales 
      */
-    public static final HashSet<IDToken> firstDeclVarLocales = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstDeclVarLocales = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.typeSTR);
         add(IDToken.typeBOOL);
         add(IDToken.typeINT);
@@ -117,23 +121,23 @@ public class First {
         add(IDToken.idSTRUCT);
         add(IDToken.typeARRAY);
         add(IDToken.spOBJECT);
-    }};
+    }});
     /**
      * Primeros de ListaDeclaracionVariables 
      */
-    public static final HashSet<IDToken> firstListaDeclaracionVariables = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstListaDeclaracionVariables = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.idOBJECT);
-    }};
+    }});
     /**
      * Primeros de ArgumentosFormales 
      */
-    public static final HashSet<IDToken> firstArgumentosFormales = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstArgumentosFormales = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sPAR_OPEN);
-    }};
+    }});
     /**
      * Primeros de ListaArgumentosFormales 
      */
-    public static final HashSet<IDToken> firstListaArgumentosFormales = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstListaArgumentosFormales = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.typeSTR);
         add(IDToken.typeBOOL);
         add(IDToken.typeINT);
@@ -141,22 +145,22 @@ public class First {
         add(IDToken.idSTRUCT);
         add(IDToken.typeARRAY);
         add(IDToken.spOBJECT);
-    }};
+    }});
     /**
      * Primeros de ArgumentoFormal 
      */
-    public static final HashSet<IDToken> firstArgumentoFormal = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstArgumentoFormal = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.typeSTR);
         add(IDToken.typeBOOL);
         add(IDToken.typeINT);
         add(IDToken.typeCHAR);
         add(IDToken.idSTRUCT);
         add(IDToken.typeARRAY);
-    }};
+    }});
     /**
      * Primeros de TipoMetodo 
      */
-    public static final HashSet<IDToken> firstTipoMetodo = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstTipoMetodo = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.typeSTR);
         add(IDToken.typeBOOL);
         add(IDToken.typeINT);
@@ -164,11 +168,11 @@ public class First {
         add(IDToken.idSTRUCT);
         add(IDToken.typeARRAY);
         add(IDToken.typeVOID);
-    }};
+    }});
     /**
      * Primeros de Tipo 
      */
-    public static final HashSet<IDToken> firstTipo = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstTipo = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.typeSTR);
         add(IDToken.typeBOOL);
         add(IDToken.typeINT);
@@ -176,33 +180,33 @@ public class First {
         add(IDToken.idSTRUCT);
         add(IDToken.typeARRAY);
         add(IDToken.spOBJECT);
-    }};
+    }});
     /**
      * Primeros de TipoPrimitivo 
      */
-    public static final HashSet<IDToken> firstTipoPrimitivo = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstTipoPrimitivo = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.typeSTR);
         add(IDToken.typeBOOL);
         add(IDToken.typeINT);
         add(IDToken.typeCHAR);
-    }};
+    }});
     /**
      * Primeros de TipoReferencia 
      */
-    public static final HashSet<IDToken> firstTipoReferencia = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstTipoReferencia = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.idSTRUCT);
         add(IDToken.spOBJECT);
-    }};
+    }});
     /**
      * Primeros de TipoArreglo 
      */
-    public static final HashSet<IDToken> firstTipoArreglo = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstTipoArreglo = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.typeARRAY);
-    }};
+    }});
     /**
      * Primeros de Sentencia 
      */
-    public static final HashSet<IDToken> firstSentencia = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstSentencia = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sSEMICOLON);
         add(IDToken.idOBJECT);
         add(IDToken.idSTRUCT);
@@ -214,60 +218,60 @@ public class First {
         add(IDToken.pWHILE);
         add(IDToken.sKEY_OPEN);
         add(IDToken.pRET);
-    }};
+    }});
     /**
      * Primeros de MoreIF 
      */
-    public static final HashSet<IDToken> firstMoreIF = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstMoreIF = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pELSE);
-    }};
+    }});
     /**
      * Primeros de Bloque 
      */
-    public static final HashSet<IDToken> firstBloque = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstBloque = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sKEY_OPEN);
-    }};
+    }});
     /**
      * Primeros de  Asignacion 
      */
-    public static final HashSet<IDToken>  firstAsignacion = new HashSet<IDToken>(){{
+    public static final Set<IDToken>  firstAsignacion = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.idOBJECT);
         add(IDToken.idSTRUCT);
         add(IDToken.spIO);
         add(IDToken.spOBJECT);
         add(IDToken.pSELF);
-    }};
+    }});
     /**
      * Primeros de  AccesoVarSimple 
      */
-    public static final HashSet<IDToken>  firstAccesoVarSimple = new HashSet<IDToken>(){{
+    public static final Set<IDToken>  firstAccesoVarSimple = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.idOBJECT);
         add(IDToken.idSTRUCT);
         add(IDToken.spIO);
         add(IDToken.spOBJECT);
-    }};
+    }});
     /**
      * Primeros de AccesoSelfSimple 
      */
-    public static final HashSet<IDToken> firstAccesoSelfSimple = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstAccesoSelfSimple = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pSELF);
-    }};
+    }});
     /**
      * Primeros de EncadenadoSimple 
      */
-    public static final HashSet<IDToken> firstEncadenadoSimple = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstEncadenadoSimple = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sDOT);
-    }};
+    }});
     /**
      * Primeros de SentenciaSimple 
      */
-    public static final HashSet<IDToken> firstSentenciaSimple = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstSentenciaSimple = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sPAR_OPEN);
-    }};
+    }});
     /**
      * Primeros de Expresion 
      */
-    public static final HashSet<IDToken> firstExpresion = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstExpresion = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.oSUM);
         add(IDToken.oSUB);
         add(IDToken.oNOT);
@@ -286,80 +290,80 @@ public class First {
         add(IDToken.spIO);
         add(IDToken.spOBJECT);
         add(IDToken.pNEW);
-    }};
+    }});
     /**
      * Primeros de ExpOr 
      */
-    public static final HashSet<IDToken> firstExpOr = firstExpresion;
+    public static final Set<IDToken> firstExpOr = firstExpresion;
     /**
      * Primeros de ExpAnd 
      */
-    public static final HashSet<IDToken> firstExpAnd = firstExpresion;
+    public static final Set<IDToken> firstExpAnd = firstExpresion;
     /**
      * Primeros de ExpIgual 
      */
-    public static final HashSet<IDToken> firstExpIgual = firstExpresion;
+    public static final Set<IDToken> firstExpIgual = firstExpresion;
     /**
      * Primeros de ExpCompuesta 
      */
-    public static final HashSet<IDToken> firstExpCompuesta = firstExpresion;
+    public static final Set<IDToken> firstExpCompuesta = firstExpresion;
     /**
      * Primeros de ExpAd 
      */
-    public static final HashSet<IDToken> firstExpAd = firstExpresion;
+    public static final Set<IDToken> firstExpAd = firstExpresion;
     /**
      * Primeros de ExpMul 
      */
-    public static final HashSet<IDToken> firstExpMul = firstExpresion;
+    public static final Set<IDToken> firstExpMul = firstExpresion;
     /**
      * Primeros de ExpUn 
      */
-    public static final HashSet<IDToken> firstExpUn = firstExpresion;
+    public static final Set<IDToken> firstExpUn = firstExpresion;
     /**
      * Primeros de OpIgual 
      */
-    public static final HashSet<IDToken> firstOpIgual = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstOpIgual = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.oEQUAL);
         add(IDToken.oNOT_EQ);
-    }};
+    }});
     /**
      * Primeros de OpCompuesto 
      */
-    public static final HashSet<IDToken> firstOpCompuesto = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstOpCompuesto = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.oMIN);
         add(IDToken.oMAX);
         add(IDToken.oMIN_EQ);
         add(IDToken.oMAX_EQ);
-    }};
+    }});
     /**
      * Primeros de OpAd 
      */
-    public static final HashSet<IDToken> firstOpAd = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstOpAd = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.oSUM);
         add(IDToken.oSUB);
-    }};
+    }});
     /**
      * Primeros de OpUnario 
      */
-    public static final HashSet<IDToken> firstOpUnario = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstOpUnario = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.oSUM);
         add(IDToken.oSUB);            
         add(IDToken.oNOT);            
         add(IDToken.oSUM_SUM);
         add(IDToken.oSUB_SUB);
-    }};
+    }});
     /**
      * Primeros de OpMul 
      */
-    public static final HashSet<IDToken> firstOpMul = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstOpMul = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.oMULT);
         add(IDToken.oDIV);
         add(IDToken.oMOD);
-    }};
+    }});
     /**
      * Primeros de Operando 
      */
-    public static final HashSet<IDToken> firstOperando = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstOperando = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pNIL);
         add(IDToken.pTRUE);
         add(IDToken.pFALSE);
@@ -373,22 +377,22 @@ public class First {
         add(IDToken.spIO);
         add(IDToken.spOBJECT);
         add(IDToken.pNEW);
-    }};
+    }});
     /**
      * Primeros de Literal 
      */
-    public static final HashSet<IDToken> firstLiteral = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstLiteral = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pNIL);
         add(IDToken.pTRUE);
         add(IDToken.pFALSE);
         add(IDToken.constINT);
         add(IDToken.constSTR);
         add(IDToken.constCHAR);
-    }};
+    }});
     /**
      * Primeros de Primario 
      */
-    public static final HashSet<IDToken> firstPrimario = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstPrimario = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sPAR_OPEN);
         add(IDToken.pSELF);
         add(IDToken.idOBJECT);
@@ -396,160 +400,160 @@ public class First {
         add(IDToken.spIO);
         add(IDToken.spOBJECT);
         add(IDToken.pNEW);
-    }};
+    }});
     /**
      * Primeros de ExpresionParentizada 
      */
-    public static final HashSet<IDToken> firstExpresionParentizada = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstExpresionParentizada = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sPAR_OPEN);
-    }};
+    }});
     /**
      * Primeros de AccesoSelf 
      */
-    public static final HashSet<IDToken> firstAccesoSelf = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstAccesoSelf = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pSELF);
-    }};
+    }});
     /**
      * Primeros de AccesoVar 
      */
-    public static final HashSet<IDToken> firstAccesoVar = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstAccesoVar = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.idOBJECT);
         add(IDToken.idSTRUCT);
         add(IDToken.spIO);
         add(IDToken.spOBJECT);
-    }};
+    }});
     /**
      * Primeros de LlamadaMetodo 
      */
-    public static final HashSet<IDToken> firstLlamadaMetodo = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstLlamadaMetodo = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.idOBJECT);
         add(IDToken.idSTRUCT);
         add(IDToken.spIO);
         add(IDToken.spOBJECT);
-    }};
+    }});
     /**
      * Primeros de LlamadaMetodoEstatico 
      */
-    public static final HashSet<IDToken> firstLlamadaMetodoEstatico = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstLlamadaMetodoEstatico = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.idSTRUCT);
-    }};
+    }});
     /**
      * Primeros de LlamadaConstructor 
      */
-    public static final HashSet<IDToken> firstLlamadaConstructor = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstLlamadaConstructor = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pNEW);
-    }};
+    }});
     /**
      * Primeros de ArgumentosActuales 
      */
-    public static final HashSet<IDToken> firstArgumentosActuales = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstArgumentosActuales = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sPAR_OPEN);
-    }};
+    }});
     /**
      * Primeros de ListaExpresiones 
      */
-    public static final HashSet<IDToken> firstListaExpresiones = firstExpresion;
+    public static final Set<IDToken> firstListaExpresiones = firstExpresion;
     /**
      * Primeros de Encadenado 
      */
-    public static final HashSet<IDToken> firstEncadenado = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstEncadenado = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.sDOT);
-    }};
+    }});
     /**
      * Primeros de LlamadaMetodoEncadenado 
      */
-    public static final HashSet<IDToken> firstLlamadaMetodoEncadenado = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstLlamadaMetodoEncadenado = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.idOBJECT);
         add(IDToken.idSTRUCT);
         add(IDToken.spIO);
         add(IDToken.spOBJECT);
-    }};
+    }});
     /**
      * Primeros de AccesoVariableEncadenado 
      */
-    public static final HashSet<IDToken> firstAccesoVariableEncadenado = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstAccesoVariableEncadenado = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.idOBJECT);
         add(IDToken.idSTRUCT);
         add(IDToken.spIO);
         add(IDToken.spOBJECT);
-    }};
+    }});
     /**
      * Primeros de ListaDefiniciones 
      */
-    public static final HashSet<IDToken> firstListaDefiniciones = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstListaDefiniciones = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.pIMPL);
         add(IDToken.pSTRUCT);
-    }};
+    }});
     /**
      * Primeros de AtributoP 
      */
-    public static final HashSet<IDToken> firstAtributoP = firstAtributo;
+    public static final Set<IDToken> firstAtributoP = firstAtributo;
     /**
      * Primeros de DeclVarLocalesP 
      */
-    public static final HashSet<IDToken> firstDeclVarLocalesP = firstDeclVarLocales;
+    public static final Set<IDToken> firstDeclVarLocalesP = firstDeclVarLocales;
     /**
      * Primeros de SentenciaP 
      */
-    public static final HashSet<IDToken> firstSentenciaP = firstSentencia;
+    public static final Set<IDToken> firstSentenciaP = firstSentencia;
     /**
      * Primeros de EncadenadoSimpleP 
      */
-    public static final HashSet<IDToken> firstEncadenadoSimpleP = firstEncadenadoSimple;
+    public static final Set<IDToken> firstEncadenadoSimpleP = firstEncadenadoSimple;
     /**
      * Primeros de HerenciaP 
      */
-    public static final HashSet<IDToken> firstHerenciaP = firstHerencia;
+    public static final Set<IDToken> firstHerenciaP = firstHerencia;
     /**
      * Primeros de VisibilidadP 
      */
-    public static final HashSet<IDToken> firstVisibilidadP = firstVisibilidad;
+    public static final Set<IDToken> firstVisibilidadP = firstVisibilidad;
     /**
      * Primeros de FormaMetodoP 
      */
-    public static final HashSet<IDToken> firstFormaMetodoP = firstFormaMetodo;
+    public static final Set<IDToken> firstFormaMetodoP = firstFormaMetodo;
     /**
      * Primeros de ExpresionP 
      */
-    public static final HashSet<IDToken> firstExpresionP = firstExpresion;
+    public static final Set<IDToken> firstExpresionP = firstExpresion;
     /**
      * Primeros de EncadenadoP 
      */
-    public static final HashSet<IDToken> firstEncadenadoP = firstEncadenado;
+    public static final Set<IDToken> firstEncadenadoP = firstEncadenado;
     /**
      * Primeros de ListaExpresionesP 
      */
-    public static final HashSet<IDToken> firstListaExpresionesP = firstListaExpresiones;
+    public static final Set<IDToken> firstListaExpresionesP = firstListaExpresiones;
     /**
      * Primeros de ListaArgumentosFormalesP 
      */
-    public static final HashSet<IDToken> firstListaArgumentosFormalesP = firstListaArgumentosFormales;
+    public static final Set<IDToken> firstListaArgumentosFormalesP = firstListaArgumentosFormales;
     /**
      * Primeros de MiembroP 
      */
-    public static final HashSet<IDToken> firstMiembroP = firstMiembro;
+    public static final Set<IDToken> firstMiembroP = firstMiembro;
     /**
      * Primeros de ExpOrP 
      */
-    public static final HashSet<IDToken> firstExpOrP = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstExpOrP = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.oOR);
-    }};
+    }});
     /**
      * Primeros de ExpAndP 
      */
-    public static final HashSet<IDToken> firstExpAndP = new HashSet<IDToken>(){{
+    public static final Set<IDToken> firstExpAndP = Collections.unmodifiableSet(new HashSet<IDToken>(){{
         add(IDToken.oAND);
-    }};
+    }});
     /**
      * Primeros de ExpIgualP 
      */
-    public static final HashSet<IDToken> firstExpIgualP = firstOpIgual;
+    public static final Set<IDToken> firstExpIgualP = firstOpIgual;
     /**
      * Primeros de ExpAdP 
      */
-    public static final HashSet<IDToken> firstExpAdP = firstOpAd;
+    public static final Set<IDToken> firstExpAdP = firstOpAd;
     /**
      * Primeros de ExpMulP 
      */
-    public static final HashSet<IDToken> firstExpMulP = firstOpMul;
+    public static final Set<IDToken> firstExpMulP = firstOpMul;
 }
\ No newline at end of file
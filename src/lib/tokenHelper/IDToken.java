@@ -95,18 +95,10 @@ public enum IDToken {
     /** Para palabra reservada SELF */ pSELF("self"),
     /** Para palabra reservada RET */ pRET("ret");
 
-    private String descripcion;
+    private final String descripcion;
     IDToken(String descripcion) {
         this.descripcion = descripcion;
     }
-
-    /**
-     * Setea la descripción del enum
-     * @param descripcion Nueva descripción del objeto
-     */
-    public void setDescripcion(String descripcion) {
-        this.descripcion = descripcion;
-    }
     
     @Override
     public String toString() {
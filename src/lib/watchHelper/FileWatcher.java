@@ -0,0 +1,204 @@
+package src.lib.watchHelper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import src.lib.Const;
+import src.lib.batchHelper.BatchResult;
+
+/**
+ * Observa un archivo .ru o los archivos .ru de una carpeta (y sus
+ * subcarpetas) y los vuelve a compilar cada vez que cambian, en el mismo
+ * proceso.<br/>
+ *
+ * Los cambios que llegan juntos (Un editor suele escribir el archivo más de
+ * una vez al guardarlo) se agrupan hasta que pasa {@link Const#WATCH_DEBOUNCE}
+ * milisegundos sin cambios, y cada archivo se compila una única vez. Si el
+ * contenido es igual al de la última compilación, no se vuelve a compilar.
+ * Se muestra una línea por archivo compilado.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class FileWatcher {
+    /** Eventos que se observan en cada carpeta */
+    private static final WatchEvent.Kind<?>[] EVENTS = {
+        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE
+    };
+
+    private final Function<String, BatchResult> compiler;
+    private final PrintStream out;
+    private final HashMap<WatchKey, Path> directories;
+    private final HashMap<Path, byte[]> contents;
+    private Path file;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param compiler Compila un archivo y retorna su resultado
+     * @param out Salida en la que se muestran los resultados
+     */
+    public FileWatcher (Function<String, BatchResult> compiler, PrintStream out) {
+        this.compiler = compiler;
+        this.out = out;
+        this.directories = new HashMap<WatchKey, Path>();
+        this.contents = new HashMap<Path, byte[]>();
+    }
+
+    /**
+     * Compila los archivos y luego los observa hasta que se interrumpe el hilo
+     * (o se finaliza el proceso).
+     *
+     * @param root Archivo .ru o carpeta a observar
+     * @throws IOException Si no se puede observar la carpeta
+     * @throws IllegalArgumentException Si el archivo no existe o no es un .ru
+     */
+    public void watch (String root) throws IOException {
+        Path path = Paths.get(root).toAbsolutePath().normalize();
+        TreeSet<Path> changed = new TreeSet<Path>();
+
+        try (WatchService service = FileSystems.getDefault().newWatchService()) {
+            if (Files.isDirectory(path)) {
+                file = null;
+                register(service, path, changed);
+            } else if (Files.isRegularFile(path) && root.endsWith(".ru")) {
+                file = path;
+                changed.add(path);
+                register(service, path.getParent(), changed);
+            } else {
+                throw new IllegalArgumentException(
+                    root.endsWith(".ru") ? Const.ERROR_READ_FILE + path : Const.ERROR_INVALID_EXTENSION + ": " + root
+                );
+            }
+
+            //Compilación inicial
+            compile(changed);
+            out.println(Const.SUCCESS_WATCH + path);
+
+            while (true) {
+                //Espera el primer cambio y agrupa los siguientes
+                WatchKey key = service.take();
+                do {
+                    collect(service, key, changed);
+                    key = service.poll(Const.WATCH_DEBOUNCE, TimeUnit.MILLISECONDS);
+                } while (key != null);
+
+                compile(changed);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Compila los archivos cuyo contenido cambió desde la última compilación.
+     */
+    private void compile (TreeSet<Path> changed) {
+        Path workingDirectory = Paths.get("").toAbsolutePath();
+
+        for (Path path : changed) {
+            byte[] content;
+
+            try {
+                content = Files.readAllBytes(path);
+            } catch (IOException e) {
+                //El archivo se eliminó o se está escribiendo (Llegará otro evento)
+                contents.remove(path);
+                continue;
+            }
+            if (Arrays.equals(content, contents.get(path))) {
+                continue;
+            }
+
+            //Muestra las ubicaciones relativas a la carpeta actual
+            contents.put(path, content);
+            out.println(format(compiler.apply(
+                path.startsWith(workingDirectory) ? workingDirectory.relativize(path).toString() : path.toString()
+            )));
+        }
+        changed.clear();
+    }
+
+    /**
+     * Agrega los archivos .ru modificados de un evento y registra las carpetas creadas.
+     */
+    private void collect (WatchService service, WatchKey key, TreeSet<Path> changed) throws IOException {
+        Path directory = directories.get(key);
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            //Se perdieron eventos: vuelve a revisar todos los archivos conocidos
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed.addAll(contents.keySet());
+                continue;
+            }
+
+            Path path = directory.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                contents.remove(path);
+            } else if (file == null && event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                register(service, path, changed);
+            } else if (file != null ? path.equals(file) : path.toString().endsWith(".ru")) {
+                changed.add(path);
+            }
+        }
+
+        //La carpeta dejó de existir
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+    }
+
+    /**
+     * Registra una carpeta y sus subcarpetas, agregando sus archivos .ru
+     * (Al observar un único archivo solo se registra su carpeta).
+     */
+    private void register (WatchService service, Path root, TreeSet<Path> changed) throws IOException {
+        if (file != null) {
+            directories.put(root.register(service, EVENTS), root);
+            return;
+        }
+
+        try (Stream<Path> stream = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) stream::iterator) {
+                if (Files.isDirectory(path)) {
+                    directories.put(path.register(service, EVENTS), path);
+                } else if (path.toString().endsWith(".ru") && Files.isRegularFile(path)) {
+                    changed.add(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Genera la línea que muestra el resultado de un archivo (Con el primer
+     * error y la cantidad de errores restantes).
+     */
+    private static String format (BatchResult result) {
+        if (result.isCorrect()) {
+            return "| " + result.getPath() + " | CORRECTO | " + result.getMillis() + " ms |";
+        }
+
+        String[] lines = result.getError().split("\n");
+        //El mensaje tiene un encabezado, los títulos de la tabla y una fila por error
+        String detail = lines.length > 2 ? lines[2] : (lines.length > 1 ? lines[1] : "| |"),
+            more = lines.length > 3 ? " (+" + (lines.length - 3) + " errores)" : "";
+
+        return "| " + result.getPath() + " | " + lines[0] + " | " + result.getMillis() + " ms " + detail + more;
+    }
+}
@@ -1,36 +1,149 @@
 package src.main;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import src.lib.CompilerOptions;
 import src.lib.Static;
+import src.lib.cacheHelper.BuildCache;
 import src.lib.exceptionHelper.LexicalException;
 import src.lib.exceptionHelper.SemanticException;
 import src.lib.exceptionHelper.SyntacticException;
+import src.lib.incrementalHelper.IncrementalCompiler;
+import src.lib.semanticHelper.SemanticManager;
+import src.lib.statsHelper.CompilerStats;
 
 public class CodeGenerator {
 
     private SyntacticAnalyzer syntacticAnalyzer;
-    private String resultPath;
+    private CompilerOptions options;
+    private CompilerStats stats;
+    private String sourcePath, resultPath;
+    private boolean cached;
 
     public CodeGenerator(String path){
-        resultPath = path.split(".ru")[0];
+        this(path, new CompilerOptions());
+    }
 
-        //Inicializa el analizador sintactico
-        syntacticAnalyzer = new SyntacticAnalyzer(path);
+    public CodeGenerator(String path, CompilerOptions options){
+        //Quita la extensión (Sin interpretarla como expresión regular)
+        resultPath = path.endsWith(".ru") ? path.substring(0, path.length() - 3) : path;
+        sourcePath = path;
+        this.options = options;
+        stats = new CompilerStats(options.isStatsEnabled());
+        cached = false;
     }
 
     public void run () throws LexicalException, SyntacticException, SemanticException {
-        //Analiza el código fuente y obtiene el codigo MIPS
-        String code = syntacticAnalyzer.run();
+        BuildCache cache = null;
+        String key = null;
+
+        //Si el código fuente no cambió, copia los resultados de la caché
+        if (options.getCachePath() != null && sourcePath.endsWith(".ru") && new File(sourcePath).isFile()) {
+            long[] mark = stats.start();
+            cache = new BuildCache(options.getCachePath(), options.getCacheSize());
+            try {
+                key = cache.key(Files.readAllBytes(Paths.get(sourcePath)), options);
+                cached = cache.restore(key, resultPath);
+            } catch (IOException e) {
+                cache = null;
+            }
+            stats.end("cache", mark);
+
+            if (cached) {
+                stats.count("cache aciertos", 1);
+                return;
+            }
+            stats.count("cache fallos", 1);
+        }
+
+        String code;
+        ArrayList<String> json;
+        SemanticManager semanticManager;
+        long[] mark;
+
+        if (options.isIncremental() && sourcePath.endsWith(".ru")) {
+            //Reutiliza los bloques de la compilación anterior del mismo archivo
+            IncrementalCompiler incremental = IncrementalCompiler.get(sourcePath);
+
+            synchronized (incremental) {
+                code = incremental.run(options, stats);
+
+                mark = stats.start();
+                json = incremental.toJSON();
+                stats.end("json", mark);
+                semanticManager = incremental.getSemanticManager();
+            }
+        } else {
+            //Inicializa el analizador sintactico
+            syntacticAnalyzer = new SyntacticAnalyzer(sourcePath, options, stats);
+
+            //Analiza el código fuente y obtiene el codigo MIPS
+            code = syntacticAnalyzer.run();
+
+            //Genera el codigo MIPS
+            // generateAsm();
 
-        //Genera el codigo MIPS
-        // generateAsm();
+            //Genera el JSON de la tabla de simbolos y del ast
+            mark = stats.start();
+            json = syntacticAnalyzer.toJSON();
+            stats.end("json", mark);
+            semanticManager = syntacticAnalyzer.getSemanticManager();
+        }
+
+        if (stats.isEnabled()) {
+            //Recorre el ast (bloques, sentencias y expresiones)
+            stats.count("nodosAST", semanticManager.getAST().countNodes());
+        }
+
+        mark = stats.start();
 
         //Escribe el resultado de la tabla de simbolos
-        Static.write(syntacticAnalyzer.toJSON().get(0), resultPath + ".ts.json");
+        Static.write(json.get(0), resultPath + ".ts.json");
 
         //Escribe el resultado del ast
-        Static.write(syntacticAnalyzer.toJSON().get(1), resultPath + ".ast.json");
+        Static.write(json.get(1), resultPath + ".ast.json");
 
         //Escribe el codigo MIPS
         Static.write(code, resultPath + ".asm");
+
+        stats.end("escritura", mark);
+
+        //Guarda los resultados en la caché
+        if (cache != null) {
+            mark = stats.start();
+            cache.store(key, resultPath);
+            stats.end("cache", mark);
+        }
+    }
+
+    /**
+     * Avisa si los resultados se obtuvieron de la caché de compilación.
+     *
+     * @return Booleano
+     */
+    public boolean isCached () {
+        return cached;
+    }
+
+    /**
+     * Obtiene las métricas de la compilación.
+     *
+     * @return Métricas (Vacías si no se habilitaron con --stats)
+     */
+    public CompilerStats getStats () {
+        return stats;
+    }
+
+    /**
+     * Obtiene la ubicación (sin extensión) de los archivos resultantes.
+     *
+     * @return String
+     */
+    public String getResultPath () {
+        return resultPath;
     }
 }
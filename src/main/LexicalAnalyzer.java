@@ -1,9 +1,12 @@
 package src.main;
 
+import java.io.File;
+
 import src.lib.Const;
 import src.lib.Static;
 import src.lib.exceptionHelper.LexicalException;
 import src.lib.lexicalHelper.FileManager;
+import src.lib.statsHelper.events.LexFileEvent;
 import src.lib.tokenHelper.IDToken;
 import src.lib.tokenHelper.Token;
 
@@ -33,6 +36,8 @@ public class LexicalAnalyzer {
     // Flags de validaciones
     boolean isWaitingForString, isWaitingForChar, isStartWithUppercase, isStartWithLowercase, isStartWithNumber,
             isCharEnding, validateCERO, flagReplaced;
+    // Evento JFR del archivo (null si JFR no lo registra)
+    LexFileEvent lexEvent;
 
     /**
      * Constructor de la clase.
@@ -42,7 +47,26 @@ public class LexicalAnalyzer {
      */
     public LexicalAnalyzer(String path) {
         // Inicializa el lector de archivos
-        reader = new FileManager(path);
+        this(new FileManager(path));
+
+        // Inicia el evento JFR solo si se esta registrando
+        LexFileEvent event = new LexFileEvent();
+        if (event.isEnabled()) {
+            event.path = path;
+            event.size = new File(path).length();
+            event.begin();
+            lexEvent = event;
+        }
+    }
+
+    /**
+     * Constructor de la clase a partir de un lector de líneas ya creado
+     * (No registra el evento JFR del archivo).
+     * 
+     * @param reader Lector del código fuente
+     */
+    public LexicalAnalyzer(FileManager reader) {
+        this.reader = reader;
 
         // Inicializa el array de linea actual
         currentLine = reader.getLine();
@@ -66,6 +90,33 @@ public class LexicalAnalyzer {
         idToken = null;
     }
 
+    /**
+     * Obtiene el siguiente token del código fuente.<br/>
+     * 
+     * Si se está registrando el evento JFR del archivo, acumula el tiempo
+     * de análisis y lo emite al llegar al EOF.
+     * 
+     * @return Siguiente Token detectado.
+     */
+    public Token nextToken() throws LexicalException {
+        if (lexEvent == null) {
+            return readToken();
+        }
+
+        long start = System.nanoTime();
+        Token result = readToken();
+        lexEvent.lexingTime += System.nanoTime() - start;
+        lexEvent.tokens++;
+
+        // Al llegar al fin del archivo registra el evento
+        if (result.getIDToken().equals(IDToken.EOF)) {
+            lexEvent.lines = lineNumber - 1;
+            lexEvent.commit();
+            lexEvent = null;
+        }
+        return result;
+    }
+
     /**
      * Método se encarga de la lógica global del analizador léxico.
      * Leerá el código fuente y validara si se detecta algún token o error.
@@ -73,7 +124,7 @@ public class LexicalAnalyzer {
      * @since 06/03/2024
      * @return Siguiente Token detectado.
      */
-    public Token nextToken() throws LexicalException {
+    private Token readToken() throws LexicalException {
         token = null;
         idToken = null;
         // Mientras tenga lineas para recorrer y no haya encontrado un token
@@ -3,8 +3,9 @@ package src.main;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.stream.Collectors;
+import java.util.Set;
 
+import src.lib.CompilerOptions;
 import src.lib.exceptionHelper.LexicalException;
 import src.lib.exceptionHelper.SemanticException;
 import src.lib.exceptionHelper.SyntacticException;
@@ -29,6 +30,9 @@ import src.lib.semanticHelper.astHelper.sentences.expressions.primaries.Primary;
 import src.lib.semanticHelper.astHelper.sentences.expressions.primaries.SimpleAccess;
 import src.lib.semanticHelper.astHelper.sentences.expressions.primaries.SimpleSentence;
 import src.lib.semanticHelper.symbolTableHelper.Param;
+import src.lib.optimizationHelper.PassManager;
+import src.lib.statsHelper.CompilerStats;
+import src.lib.statsHelper.events.ParseDeclarationEvent;
 import src.lib.tokenHelper.IDToken;
 import src.lib.tokenHelper.Token;
 import src.lib.syntaxHelper.First;
@@ -45,7 +49,14 @@ import src.lib.syntaxHelper.First;
 public class SyntacticAnalyzer { 
     LexicalAnalyzer lexicalAnalyzer;
     SemanticManager semanticManager;
+    CompilerOptions options;
+    CompilerStats stats;
     Token currentToken;
+    int tokenCount;
+    boolean timing;
+    long lexicalNanos;
+    ArrayList<SyntacticException> errors = new ArrayList<SyntacticException>();
+    boolean errorLimitReached;
 
     /**
      * Constructor de la clase.
@@ -54,7 +65,46 @@ public class SyntacticAnalyzer {
      * @param path Ubicación del código fuente a leer.
      */
     public SyntacticAnalyzer(String path){
-        lexicalAnalyzer = new LexicalAnalyzer(path);
+        this(path, new CompilerOptions());
+    }
+
+    /**
+     * Constructor de la clase con opciones de compilación.
+     * 
+     * @param path Ubicación del código fuente a leer.
+     * @param options Opciones del compilador.
+     */
+    public SyntacticAnalyzer(String path, CompilerOptions options){
+        this(path, options, new CompilerStats(false));
+    }
+
+    /**
+     * Constructor de la clase con opciones de compilación y registro de métricas.
+     * 
+     * @param path Ubicación del código fuente a leer.
+     * @param options Opciones del compilador.
+     * @param stats Métricas de la compilación.
+     */
+    public SyntacticAnalyzer(String path, CompilerOptions options, CompilerStats stats){
+        this(new LexicalAnalyzer(path), null, options, stats);
+    }
+
+    /**
+     * Constructor de la clase que agrega las declaraciones y bloques a un
+     * administrador semántico existente (Se utiliza para analizar por separado
+     * los bloques de un mismo programa).
+     * 
+     * @param lexicalAnalyzer Analizador léxico del código fuente.
+     * @param semanticManager Administrador semántico (null para generar uno nuevo).
+     * @param options Opciones del compilador.
+     * @param stats Métricas de la compilación.
+     */
+    public SyntacticAnalyzer(LexicalAnalyzer lexicalAnalyzer, SemanticManager semanticManager, CompilerOptions options, CompilerStats stats){
+        this.lexicalAnalyzer = lexicalAnalyzer;
+        this.semanticManager = semanticManager;
+        this.options = options;
+        this.stats = stats;
+        this.timing = stats.isEnabled();
     }
 
     /**
@@ -66,20 +116,85 @@ public class SyntacticAnalyzer {
      * @throws SemanticException Error semántico
      */
     public String run () throws LexicalException, SyntacticException, SemanticException{
+        //Realiza el análisis léxico y sintáctico
+        this.analyze();
+
+        //Si el análisis no retorna error, ha sido correcto y consolida la tabla de símbolos y el ast
+        long[] mark = stats.start();
+        semanticManager.consolidate();
+        stats.end("consolidacion", mark);
+
+        //Genera el codigo y lo retorna 
+        mark = stats.start();
+        String code = semanticManager.generateCode();
+        stats.end("generacion", mark);
+
+        //Aplica los pases de optimización del nivel indicado
+        code = new PassManager(options, stats).run(code);
+
+        if (stats.isEnabled()) {
+            stats.count("instrucciones", CompilerStats.countInstructions(code));
+        }
+        return code;
+    }
+
+    /**
+     * Realiza únicamente el análisis léxico y sintáctico, generando la tabla
+     * de símbolos y el ast sin consolidarlos.
+     * 
+     * @throws LexicalException Error léxico
+     * @throws SyntacticException Error sintáctico
+     * @throws SemanticException Error semántico
+     */
+    public void analyze () throws LexicalException, SyntacticException, SemanticException{
+        long[] mark = stats.start();
+
         //Obtiene el token inicial
-        currentToken = lexicalAnalyzer.nextToken();
+        currentToken = nextToken();
 
         //Genera la tabla de símbolos y el ast
-        semanticManager = new SemanticManager();
+        if (semanticManager == null) {
+            semanticManager = new SemanticManager(options);
+        }
 
         //Comienza el análisis
-        this.program();
+        try {
+            this.program();
+        } catch (SemanticException e) {
+            //Luego de un error sintáctico, los errores semánticos suelen ser consecuencia de la recuperación
+            if (!errors.isEmpty()) {
+                throw syntacticErrors();
+            }
+            throw e;
+        }
 
-        //Si el análisis no retorna error, ha sido correcto y consolida la tabla de símbolos y el ast
-        semanticManager.consolidate();
+        //Informa los errores sintácticos de los que se recuperó
+        if (!errors.isEmpty()) {
+            throw syntacticErrors();
+        }
+        stats.end("sintactico (incluye lexico)", mark);
 
-        //Genera el codigo y lo retorna 
-        return semanticManager.generateCode();
+        //El análisis léxico se acumula por token y se registra una única vez
+        stats.add("lexico", lexicalNanos, tokenCount);
+        stats.count("tokens", tokenCount);
+    }
+
+    /**
+     * Solicita el siguiente token al analizador léxico. Si las métricas están
+     * habilitadas acumula el tiempo real del análisis léxico (Medir el tiempo
+     * de CPU y los bytes de cada token costaría más que obtenerlo).
+     * 
+     * @return Token
+     */
+    private Token nextToken() {
+        long start = timing ? System.nanoTime() : 0;
+        Token token = lexicalAnalyzer.nextToken();
+
+        if (timing) {
+            lexicalNanos += System.nanoTime() - start;
+        }
+        tokenCount++;
+        return token;
     }
 
     /**
@@ -94,12 +209,80 @@ public class SyntacticAnalyzer {
     private void match(IDToken idToken){
         //Si matchean, solicita el siguiente token, sino es error
         if(currentToken.getIDToken().equals(idToken)){
-            this.currentToken = this.lexicalAnalyzer.nextToken();
+            this.currentToken = nextToken();
         } else {
             throw throwError(createHashSet(idToken));
         }
     }
 
+    /**
+     * Registra un error sintáctico para continuar el análisis (Recuperación en
+     * modo pánico). Si se alcanzó la cantidad máxima de errores, finaliza el
+     * análisis informando todos los errores encontrados.
+     * 
+     * @param error Error sintáctico
+     */
+    private void recordError(SyntacticException error){
+        //El análisis ya finalizó, la excepción se propaga sin volver a registrarse
+        if (errorLimitReached) {
+            throw error;
+        }
+
+        errors.add(error);
+        if (options.getMaxErrors() > 0 && errors.size() >= options.getMaxErrors()) {
+            errorLimitReached = true;
+            throw syntacticErrors();
+        }
+    }
+
+    /**
+     * Genera la excepción con los errores sintácticos registrados.
+     * 
+     * @return Excepción tipo SyntacticException
+     */
+    private SyntacticException syntacticErrors(){
+        return errors.size() == 1 ? errors.get(0) : new SyntacticException(errors);
+    }
+
+    /**
+     * Descarta tokens hasta el comienzo de la siguiente definición (struct,
+     * impl o start) o el final del archivo.
+     */
+    private void synchronizeDefinition(){
+        while (
+            !checkFirst(First.firstListaDefiniciones) && !currentToken.getIDToken().equals(IDToken.EOF) &&
+            !(currentToken.getIDToken().equals(IDToken.idOBJECT) && currentToken.getLexema().equals("start"))
+        ) {
+            currentToken = nextToken();
+        }
+    }
+
+    /**
+     * Descarta tokens hasta el final de la sentencia actual: un ; (que se
+     * consume), el cierre del bloque que la contiene (que no se consume) o el
+     * cierre de un bloque abierto por la misma sentencia.
+     */
+    private void synchronizeSentence(){
+        int depth = 0;
+
+        while (!currentToken.getIDToken().equals(IDToken.EOF)) {
+            IDToken id = currentToken.getIDToken();
+
+            if (id.equals(IDToken.sKEY_CLOSE) && depth == 0) {
+                return;
+            }
+            currentToken = nextToken();
+
+            if (id.equals(IDToken.sKEY_OPEN)) {
+                depth++;
+            } else if (id.equals(IDToken.sKEY_CLOSE) && --depth == 0) {
+                return;
+            } else if (id.equals(IDToken.sSEMICOLON) && depth == 0) {
+                return;
+            }
+        }
+    }
+
     /**
      * Función auxiliar que retorna una excepción con la descripción
      * correspondiente.
@@ -107,8 +290,8 @@ public class SyntacticAnalyzer {
      * @param expected HashSet<IDToken>
      * @return Excepción tipo SyntacticException
      */
-    private SyntacticException throwError(HashSet<IDToken> expected){
-        return new SyntacticException(currentToken, expected.stream().map(Object::toString).collect(Collectors.joining(", ")));
+    private SyntacticException throwError(Set<IDToken> expected){
+        return new SyntacticException(currentToken, expected);
     }
 
     /**
@@ -127,7 +310,7 @@ public class SyntacticAnalyzer {
      * @param firsts HashSet de IDToken
      * @return boolean
      */
-    private boolean checkFirst(HashSet<IDToken> firsts){
+    private boolean checkFirst(Set<IDToken> firsts){
         return firsts.contains(currentToken.getIDToken());
     }
 
@@ -166,7 +349,12 @@ public class SyntacticAnalyzer {
         if (checkFirst(First.firstListaDefiniciones)){
             listaDefiniciones();
         }
-        start();
+        try {
+            start();
+        } catch (SyntacticException e) {
+            //No quedan definiciones para continuar el análisis
+            recordError(e);
+        }
     }
 
 
@@ -181,6 +369,7 @@ public class SyntacticAnalyzer {
             match(IDToken.idOBJECT);
             
             //Agrega el metodo start
+            stats.count("metodos", 1);
             semanticManager.addMethod(
                 token, 
                 new ArrayList<Param>(), 
@@ -205,10 +394,21 @@ public class SyntacticAnalyzer {
     */
     private void struct() {
         Token token;
+        ParseDeclarationEvent event = new ParseDeclarationEvent();
+        int firstToken = tokenCount;
+
+        event.begin();
         match(IDToken.pSTRUCT);
         token = currentToken;
         match(IDToken.idSTRUCT);
         structP(token);
+
+        if (event.shouldCommit()) {
+            event.kind = "struct";
+            event.struct = token.getLexema();
+            event.tokens = tokenCount - firstToken;
+            event.commit();
+        }
     }
 
 
@@ -228,6 +428,7 @@ public class SyntacticAnalyzer {
         
         //Genera la estructura en la tabla de simbolos
         semanticManager.addStruct(token, aux, true);
+        stats.count("estructuras", 1);
 
         match(IDToken.sKEY_OPEN);
 
@@ -246,6 +447,10 @@ public class SyntacticAnalyzer {
     */
     private void impl () {
         Token token = currentToken;
+        ParseDeclarationEvent event = new ParseDeclarationEvent();
+        int firstToken = tokenCount;
+
+        event.begin();
         match(IDToken.pIMPL);
         token = currentToken;
         match(IDToken.idSTRUCT);
@@ -256,6 +461,13 @@ public class SyntacticAnalyzer {
         match(IDToken.sKEY_OPEN);
         miembroP();
         match(IDToken.sKEY_CLOSE);
+
+        if (event.shouldCommit()) {
+            event.kind = "impl";
+            event.struct = token.getLexema();
+            event.tokens = tokenCount - firstToken;
+            event.commit();
+        }
     }
 
 
@@ -307,6 +519,7 @@ public class SyntacticAnalyzer {
         match(IDToken.sDOT);
         
         //Agrega el metodo constructor
+        stats.count("metodos", 1);
         semanticManager.addMethod(
             token, argumentosFormales(), 
             false, 
@@ -359,6 +572,7 @@ public class SyntacticAnalyzer {
         match(IDToken.sARROW_METHOD);
 
         //Agrega el método a la tabla de símbolos
+        stats.count("metodos", 1);
         semanticManager.addMethod(token, params, isStatic, tipoMetodo(),true);
 
         bloqueMetodo(token,true);
@@ -1336,16 +1550,23 @@ public class SyntacticAnalyzer {
     private void listaDefiniciones() {
         boolean pass = false;
 
-        //Valida si empieza con struct
-        if (checkFirst(First.firstStruct)){
-            struct();
-            pass = true;
-        } else {
-            //Valida si empieza con impl
-            if (checkFirst(First.firstImpl)){
-                impl();
+        try {
+            //Valida si empieza con struct
+            if (checkFirst(First.firstStruct)){
+                struct();
                 pass = true;
+            } else {
+                //Valida si empieza con impl
+                if (checkFirst(First.firstImpl)){
+                    impl();
+                    pass = true;
+                }
             }
+        } catch (SyntacticException e) {
+            //Registra el error y continúa desde la siguiente definición
+            recordError(e);
+            synchronizeDefinition();
+            pass = true;
         }
         
         if (pass) {
@@ -1396,7 +1617,15 @@ public class SyntacticAnalyzer {
     */
     private ArrayList<Sentence> sentenciaP () {
         //Genero el array de sentencias
-        ArrayList<Sentence> sentenceList = new ArrayList<Sentence>() {{ add(sentencia()); }};
+        ArrayList<Sentence> sentenceList = new ArrayList<Sentence>();
+
+        try {
+            sentenceList.add(sentencia());
+        } catch (SyntacticException e) {
+            //Registra el error, descarta la sentencia y continúa con la siguiente
+            recordError(e);
+            synchronizeSentence();
+        }
 
         //Verifico si se deben agregar mas y las concateno
         if (checkFirst(First.firstSentenciaP)) {
@@ -1587,6 +1816,10 @@ public class SyntacticAnalyzer {
     }
 
 
+    public SemanticManager getSemanticManager(){
+        return semanticManager;
+    }
+
     public SymbolTable getSymbolTable(){
         return semanticManager.getSymbolTable();
     }
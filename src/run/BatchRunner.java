@@ -0,0 +1,74 @@
+package src.run;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import src.lib.Const;
+import src.lib.batchHelper.BatchCompiler;
+import src.lib.batchHelper.BatchResult;
+
+/**
+ * Clase BatchRunner encargada de compilar varios archivos .ru en un único
+ * proceso y en paralelo, mostrando los diagnósticos de todos los archivos.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class BatchRunner {
+    private BatchRunner () {}
+
+    /**
+     * Main
+     * @param args args (Archivos, carpetas o patrones glob con código fuente y opciones.
+     * --threads=N: cantidad de hilos (por defecto la cantidad de procesadores),
+     * el resto de las opciones se aplican a todos los archivos como en GenerationCodeRunner)
+     */
+    public static void main(String[] args) {
+        ArrayList<String> sources = new ArrayList<String>(), options = new ArrayList<String>();
+        int threads = Runtime.getRuntime().availableProcessors();
+        BatchCompiler compiler;
+
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--threads=")) {
+                    threads = Integer.parseInt(arg.substring(10));
+                } else if (arg.startsWith("-")) {
+                    options.add(arg);
+                } else {
+                    sources.addAll(BatchCompiler.collect(arg));
+                }
+            }
+            compiler = new BatchCompiler(options.toArray(new String[0]), threads);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        } catch (IOException e) {
+            System.out.println(Const.ERROR_CREATE_FILE_READER);
+            return;
+        }
+
+        if (sources.isEmpty()) {
+            System.out.println(Const.ERROR_READ_SOURCE);
+            return;
+        }
+
+        long start = System.nanoTime();
+        ArrayList<BatchResult> results;
+        try {
+            results = compiler.compileAll(sources);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        int errors = 0;
+        for (BatchResult result : results) {
+            errors += result.isCorrect() ? 0 : 1;
+            System.out.println(result);
+        }
+
+        System.out.println("ARCHIVOS: " + results.size() + " | CORRECTOS: " + (results.size() - errors) +
+            " | ERRORES: " + errors + " | TIEMPO: " + (System.nanoTime() - start) / 1000000 + " ms");
+    }
+}
@@ -0,0 +1,106 @@
+package src.run;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import src.lib.Const;
+import src.lib.Static;
+import src.lib.batchHelper.BatchCompiler;
+import src.lib.benchmarkHelper.Benchmark;
+import src.lib.benchmarkHelper.BenchmarkHarness;
+import src.lib.benchmarkHelper.BenchmarkResult;
+import src.lib.benchmarkHelper.CompilerBenchmarks;
+
+/**
+ * Clase BenchmarkRunner encargada de medir el rendimiento de cada fase del
+ * compilador (léxico, sintáctico, consolidación, generación de código y JSON)
+ * dentro de una misma JVM.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class BenchmarkRunner {
+    private BenchmarkRunner () {}
+
+    /**
+     * Main
+     * @param args args (Archivos o carpetas con código fuente y opciones.
+     * --warmup=N: iteraciones de calentamiento, --iterations=N: iteraciones medidas,
+     * --time=MS: duración de cada iteración, --benchmark=NOMBRE: ejecuta solo ese benchmark,
+     * --json=ARCHIVO: escribe los resultados en formato JSON)
+     */
+    public static void main(String[] args) {
+        ArrayList<String> sources = new ArrayList<String>();
+        String filter = null, jsonPath = null;
+        int warmup = 3, iterations = 5;
+        long time = 1000;
+
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--warmup=")) {
+                    warmup = Integer.parseInt(arg.substring(9));
+                } else if (arg.startsWith("--iterations=")) {
+                    iterations = Integer.parseInt(arg.substring(13));
+                } else if (arg.startsWith("--time=")) {
+                    time = Long.parseLong(arg.substring(7));
+                } else if (arg.startsWith("--benchmark=")) {
+                    filter = arg.substring(12);
+                } else if (arg.startsWith("--json=")) {
+                    jsonPath = arg.substring(7);
+                } else if (arg.startsWith("--")) {
+                    throw new IllegalArgumentException(Const.ERROR_UNKNOWN_OPTION + arg);
+                } else {
+                    sources.addAll(BatchCompiler.collect(arg));
+                }
+            }
+            //Por defecto utiliza el corpus de generación de código
+            if (sources.isEmpty()) {
+                sources.addAll(BatchCompiler.collect("src/test/resources/generationCode"));
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        } catch (IOException e) {
+            System.out.println(Const.ERROR_CREATE_FILE_READER);
+            return;
+        }
+
+        if (sources.isEmpty()) {
+            System.out.println(Const.ERROR_READ_SOURCE);
+            return;
+        }
+
+        BenchmarkHarness harness = new BenchmarkHarness(warmup, iterations, time);
+        ArrayList<BenchmarkResult> results = new ArrayList<BenchmarkResult>();
+
+        System.out.println("| BENCHMARK | ARCHIVO | ITERACIONES | OPS/S | DESVIO | BYTES/OP |");
+        for (Benchmark benchmark : CompilerBenchmarks.getAll()) {
+            if (filter != null && !filter.equals(benchmark.getName())) {
+                continue;
+            }
+            for (String source : sources) {
+                try {
+                    BenchmarkResult result = harness.measure(benchmark, source);
+                    results.add(result);
+                    System.out.println(result.toString());
+                }
+                //Los archivos que no compilan no se pueden medir
+                catch (Exception e) {
+                    System.out.println("| " + benchmark.getName() + " | " + source + " | ERROR: " + e.getMessage() + " |");
+                }
+            }
+        }
+
+        if (jsonPath != null) {
+            String json = "";
+            int count = results.size();
+
+            for (BenchmarkResult result : results) {
+                json += result.toJSON("    ") + (count > 1 ? "," : "") + "\n";
+                count--;
+            }
+            Static.write("[\n" + json + "]", jsonPath);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package src.run;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+import src.lib.Const;
+import src.lib.serverHelper.CompileServer;
+
+/**
+ * Clase CompileClientRunner encargada de enviar un pedido de compilación al
+ * servidor de compilación y mostrar su respuesta (diagnósticos y archivos
+ * generados).
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class CompileClientRunner {
+    private CompileClientRunner () {}
+
+    /** Opciones cuyo valor es una ubicación (Se envían con la ubicación absoluta) */
+    private static final String[] PATH_OPTIONS = {"--cache="};
+
+    /**
+     * Main
+     * @param args args (Ubicación del código fuente y las opciones de GenerationCodeRunner.
+     * --socket=ARCHIVO: ubicación del socket del servidor, --stop: finaliza el servidor)
+     */
+    public static void main(String[] args) {
+        String socket = CompileServer.DEFAULT_SOCKET, request = "";
+
+        for (String arg : args) {
+            if (arg.startsWith("--socket=")) {
+                socket = arg.substring(9);
+            }
+            //El servidor se ejecuta en otra carpeta, por lo que las ubicaciones se envían absolutas
+            else if (!arg.startsWith("-")) {
+                request += new File(arg).getAbsolutePath() + "\n";
+            } else {
+                request += absoluteOption(arg) + "\n";
+            }
+        }
+
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+
+            ByteBuffer buffer = ByteBuffer.wrap((request + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            //Muestra la respuesta
+            InputStream input = Channels.newInputStream(channel);
+            System.out.print(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.out.println(Const.ERROR_SERVER_CONNECTION + socket);
+        }
+    }
+
+    /**
+     * Convierte el valor de una opción de ubicación (--cache=CARPETA) en una ubicación absoluta.
+     *
+     * @param arg Opción
+     * @return Opción con la ubicación absoluta (o sin cambios si no es de ubicación)
+     */
+    private static String absoluteOption (String arg) {
+        for (String option : PATH_OPTIONS) {
+            if (arg.startsWith(option) && arg.length() > option.length()) {
+                return option + new File(arg.substring(option.length())).getAbsolutePath();
+            }
+        }
+        return arg;
+    }
+}
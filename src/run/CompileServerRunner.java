@@ -0,0 +1,49 @@
+package src.run;
+
+import java.io.IOException;
+
+import src.lib.Const;
+import src.lib.serverHelper.CompileServer;
+
+/**
+ * Clase CompileServerRunner encargada de iniciar el servidor de compilación,
+ * que atiende los pedidos de CompileClientRunner sin iniciar una JVM por
+ * cada archivo.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class CompileServerRunner {
+    private CompileServerRunner () {}
+
+    /**
+     * Main
+     * @param args args (--socket=ARCHIVO: ubicación del socket, por defecto compilador.sock
+     * en la carpeta temporal)
+     */
+    public static void main(String[] args) {
+        String socket = CompileServer.DEFAULT_SOCKET;
+
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--socket=")) {
+                    socket = arg.substring(9);
+                } else {
+                    throw new IllegalArgumentException(Const.ERROR_UNKNOWN_OPTION + arg);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+
+        CompileServer server = new CompileServer(socket);
+        try {
+            server.serve();
+            System.out.println("CORRECTO: SERVIDOR FINALIZADO (" + server.getRequests() + " pedidos)");
+        } catch (IOException e) {
+            System.out.println(Const.ERROR_SERVER_CONNECTION + e.getMessage());
+        }
+    }
+}
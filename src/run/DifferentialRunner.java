@@ -0,0 +1,203 @@
+package src.run;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import src.lib.CompilerOptions;
+import src.lib.Const;
+import src.lib.Static;
+import src.lib.batchHelper.BatchCompiler;
+import src.lib.differentialHelper.DeltaReducer;
+import src.lib.differentialHelper.DifferentialTester;
+import src.lib.differentialHelper.ExecutionResult;
+import src.lib.generatorHelper.ProgramGenerator;
+import src.lib.optimizationHelper.Pass;
+import src.lib.optimizationHelper.PassManager;
+import src.lib.statsHelper.CompilerStats;
+
+/**
+ * Clase DifferentialRunner encargada de compilar cada programa con todas las
+ * variantes del compilador, ejecutarlos en el simulador MIPS y reportar las
+ * diferencias de salida contra la variante base, junto con el programa
+ * mínimo que las reproduce.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class DifferentialRunner {
+    private DifferentialRunner () {}
+
+    /** Entrada por defecto de los programas */
+    private static final String DEFAULT_INPUT = "5\n7\nhola\n3\n1\n2\n";
+
+    /**
+     * Main
+     * @param args args (Archivos o carpetas con código fuente y opciones.
+     * --random=N: cantidad de programas aleatorios, --seed=N: semilla de los programas aleatorios,
+     * --steps=N: límite de instrucciones de cada ejecución, --input=ARCHIVO: entrada de los programas,
+     * --variant=NOMBRE:OPCION,OPCION: agrega una variante (por defecto -O1, -O2, cada pase
+     * registrado por separado y --gc),
+     * --out=CARPETA: guarda los programas mínimos que reproducen cada diferencia)
+     */
+    public static void main(String[] args) {
+        ArrayList<String> sources = new ArrayList<String>();
+        ArrayList<String[]> variants = new ArrayList<String[]>();
+        String input = DEFAULT_INPUT, outPath = null;
+        int randomPrograms = 20;
+        long seed = 2024, steps = 2000000;
+
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--random=")) {
+                    randomPrograms = Integer.parseInt(arg.substring(9));
+                } else if (arg.startsWith("--seed=")) {
+                    seed = Long.parseLong(arg.substring(7));
+                } else if (arg.startsWith("--steps=")) {
+                    steps = Long.parseLong(arg.substring(8));
+                } else if (arg.startsWith("--input=")) {
+                    input = new String(Files.readAllBytes(Paths.get(arg.substring(8))), StandardCharsets.UTF_8);
+                } else if (arg.startsWith("--variant=")) {
+                    variants.add(arg.substring(10).split("[:,]"));
+                } else if (arg.startsWith("--out=")) {
+                    outPath = arg.substring(6);
+                } else if (arg.startsWith("--")) {
+                    throw new IllegalArgumentException(Const.ERROR_UNKNOWN_OPTION + arg);
+                } else {
+                    sources.addAll(BatchCompiler.collect(arg));
+                }
+            }
+            //Por defecto utiliza el corpus de generación de código
+            if (sources.isEmpty()) {
+                sources.addAll(BatchCompiler.collect("src/test/resources/generationCode"));
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        } catch (IOException e) {
+            System.out.println(Const.ERROR_CREATE_FILE_READER);
+            return;
+        }
+
+        //Variantes por defecto: los niveles de optimización, cada pase aislado y el recolector de basura
+        if (variants.isEmpty()) {
+            variants.add(new String[] {"O1", "-O1"});
+            variants.add(new String[] {"O2", "-O2"});
+            for (Pass pass : new PassManager(new CompilerOptions(), new CompilerStats(false)).getPasses()) {
+                variants.add(new String[] {pass.getName(), "--enable-pass=" + pass.getName()});
+            }
+            variants.add(new String[] {"gc", "--gc"});
+        }
+        File workDir;
+        try {
+            workDir = Files.createTempDirectory("differential").toFile();
+        } catch (IOException e) {
+            System.out.println(Const.ERROR_CREATE_FILE);
+            return;
+        }
+
+        DifferentialTester tester = new DifferentialTester(input, steps, workDir);
+        for (String[] variant : variants) {
+            tester.addVariant(variant[0], Arrays.copyOfRange(variant, 1, variant.length));
+        }
+
+        //Genera los programas aleatorios
+        Random random = new Random(seed);
+        for (int i = 0; i < randomPrograms; i++) {
+            ProgramGenerator generator = new ProgramGenerator();
+            File file = new File(workDir, "random" + i + ".ru");
+
+            //Sin herencia y con pocas sentencias para que se ejecuten por completo
+            generator.setSeed(random.nextLong());
+            generator.setDepth(1);
+            generator.setStructs(1 + random.nextInt(3));
+            generator.setMethods(1 + random.nextInt(3));
+            generator.setStatements(2 + random.nextInt(8));
+            generator.setNesting(1 + random.nextInt(3));
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+                generator.generate(writer);
+                sources.add(file.getPath());
+            } catch (IOException e) {
+                System.out.println(Const.ERROR_CREATE_FILE);
+            }
+        }
+
+        int divergences = 0, inconclusive = 0, compileErrors = 0, assembleErrors = 0;
+        for (String source : sources) {
+            ArrayList<ExecutionResult> results = tester.executeAll(source);
+            int index = DifferentialTester.findDivergence(results), notAssembled = notAssembled(results);
+
+            if (results.get(0).getCompileError() != null) {
+                compileErrors++;
+                System.out.println("| " + source + " | NO COMPILA |");
+            } else if (notAssembled >= 0) {
+                //El código generado no se pudo ensamblar: no se compara ni se reduce
+                assembleErrors++;
+                System.out.println("| " + source + " | NO ENSAMBLA: " + tester.getVariantNames().get(notAssembled) + " |");
+                System.out.println("    " + tester.getVariantNames().get(notAssembled) + ": " + results.get(notAssembled));
+            } else if (index < 0) {
+                boolean isInconclusive = results.stream().anyMatch(ExecutionResult::isInconclusive);
+                inconclusive += isInconclusive ? 1 : 0;
+                System.out.println("| " + source + " | " + (isInconclusive ? "INCONCLUSO (limite de instrucciones)" : "CORRECTO") + " |");
+            } else {
+                divergences++;
+                System.out.println("| " + source + " | DIVERGENCIA: " + tester.getVariantNames().get(index) + " |");
+                System.out.println("    base: " + results.get(0));
+                System.out.println("    " + tester.getVariantNames().get(index) + ": " + results.get(index));
+                reduce(tester, source, outPath);
+            }
+        }
+
+        System.out.println("PROGRAMAS: " + sources.size() + " | DIVERGENCIAS: " + divergences +
+            " | INCONCLUSOS: " + inconclusive + " | NO COMPILAN: " + compileErrors + " | NO ENSAMBLAN: " + assembleErrors);
+
+        for (File file : workDir.listFiles()) {
+            file.delete();
+        }
+        workDir.delete();
+    }
+
+    /**
+     * Busca la primer variante cuyo código generado no se pudo ensamblar.
+     *
+     * @return Índice de la variante o -1
+     */
+    private static int notAssembled (ArrayList<ExecutionResult> results) {
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).getAssembleError() != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reduce el programa divergente y lo muestra (o lo guarda en la carpeta indicada).
+     */
+    private static void reduce (DifferentialTester tester, String source, String outPath) {
+        try {
+            DeltaReducer reducer = new DeltaReducer();
+            String minimal = reducer.reduce(
+                new String(Files.readAllBytes(Paths.get(source)), StandardCharsets.UTF_8),
+                tester::diverges
+            );
+
+            System.out.println("    Programa minimo (" + reducer.getTests() + " pruebas):");
+            System.out.println(minimal);
+            if (outPath != null) {
+                new File(outPath).mkdirs();
+                Static.write(minimal, new File(outPath, new File(source).getName().replace(".ru", ".min.ru")).getPath());
+            }
+        } catch (IOException e) {
+            System.out.println(Const.ERROR_READ_FILE + source);
+        }
+    }
+}
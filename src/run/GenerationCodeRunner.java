@@ -1,10 +1,16 @@
 package src.run;
 
+import java.io.IOException;
+import java.util.ArrayList;
+
+import src.lib.CompilerOptions;
 import src.lib.Const;
 import src.lib.Static;
+import src.lib.batchHelper.BatchCompiler;
 import src.lib.exceptionHelper.LexicalException;
 import src.lib.exceptionHelper.SemanticException;
 import src.lib.exceptionHelper.SyntacticException;
+import src.lib.watchHelper.FileWatcher;
 import src.main.CodeGenerator;
 
 /**
@@ -21,18 +27,56 @@ public class GenerationCodeRunner {
     
     /** 
      * Main
-     * @param args args
+     * @param args args (Ubicación del código fuente y opciones. --gc: agrega el recolector de basura,
+     * --stats: muestra las métricas de la compilación, --stats=json: las escribe en un archivo .stats.json,
+     * -O0, -O1, -O2: nivel de optimización, --enable-pass=NOMBRE, --disable-pass=NOMBRE: activa o
+     * desactiva un pase de optimización (push-pop, peephole, unreachable), --cache[=CARPETA]: reutiliza
+     * los resultados de los archivos sin cambios, --cache-size=N[KB|MB]: tamaño máximo de la caché,
+     * --max-errors=N: cantidad de errores a informar antes de detener el análisis (0: sin límite),
+     * --jobs=N: cantidad de hilos para consolidar y generar los métodos en paralelo (0: uno por procesador),
+     * --incremental: recompila solo los bloques modificados y los que dependen de ellos (El estado se
+     * conserva en memoria, por lo que se aprovecha en el servidor de compilación),
+     * --watch: observa el archivo o la carpeta indicada y recompila incrementalmente los archivos .ru
+     * que cambian, mostrando una línea por archivo)
      */
     public static void main(String[] args) {
         // args = new String[] {"src/test/resources/generationCode/Fibonacci.ru"};
-        if (args.length > 0) {
+        ArrayList<String> compilerArgs = new ArrayList<String>();
+        CompilerOptions options;
+        boolean watch = false;
+
+        for (String arg : args) {
+            if (arg.equals("--watch")) {
+                watch = true;
+            } else {
+                compilerArgs.add(arg);
+            }
+        }
+
+        try {
+            options = CompilerOptions.parse(compilerArgs.toArray(new String[0]));
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+
+        if (watch && options.getSourcePath() != null) {
+            watch(compilerArgs, options.getSourcePath());
+        } else if (options.getSourcePath() != null) {
             try{
-                CodeGenerator codeGenerator = new CodeGenerator(args[0]);
+                CodeGenerator codeGenerator = new CodeGenerator(options.getSourcePath(), options);
 
                 codeGenerator.run();
 
                 System.out.println("CORRECTO: GENERACION DE CODIGO");
 
+                //Muestra o escribe las métricas de la compilación
+                if (options.isStatsJson()) {
+                    Static.write(codeGenerator.getStats().toJSON(), codeGenerator.getResultPath() + ".stats.json");
+                } else if (options.isStatsEnabled()) {
+                    System.out.print(codeGenerator.getStats().toString());
+                }
+
             }
             //Captura el error sintactico y lo muestra por pantalla 
             catch (SyntacticException e) {
@@ -52,4 +96,29 @@ public class GenerationCodeRunner {
             System.out.println(Const.ERROR_READ_SOURCE);
         }
     }
+
+    /**
+     * Compila y observa los archivos .ru del archivo o carpeta indicada
+     * (Los archivos se compilan con --incremental y las mismas opciones).
+     */
+    private static void watch (ArrayList<String> compilerArgs, String sourcePath) {
+        ArrayList<String> options = new ArrayList<String>();
+
+        //Las opciones se aplican a cada archivo, sin la ubicación indicada
+        for (String arg : compilerArgs) {
+            if (arg.startsWith("-")) {
+                options.add(arg);
+            }
+        }
+        options.add("--incremental");
+
+        BatchCompiler compiler = new BatchCompiler(options.toArray(new String[0]), 1);
+        try {
+            new FileWatcher(compiler::compile, System.out).watch(sourcePath);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        } catch (IOException e) {
+            System.out.println(Const.ERROR_CREATE_FILE_READER);
+        }
+    }
 }
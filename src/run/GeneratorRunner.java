@@ -0,0 +1,87 @@
+package src.run;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import src.lib.Const;
+import src.lib.Static;
+import src.lib.generatorHelper.ProgramGenerator;
+
+/**
+ * Clase GeneratorRunner encargada de generar programas .ru sintéticos para
+ * pruebas de escala del compilador.
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class GeneratorRunner {
+    private GeneratorRunner () {}
+
+    /**
+     * Main
+     * @param args args (Ubicación del archivo .ru a generar y opciones.
+     * --structs=N, --depth=N: largo de las cadenas de herencia (por defecto 3; solo con 1 el código
+     * generado se puede ensamblar y ejecutar), --methods=N: métodos por estructura,
+     * --statements=N: sentencias por método, --nesting=N: anidamiento de expresiones,
+     * --seed=N, --no-strings, --no-arrays, --size=N[KB|MB]: ajusta la cantidad de estructuras
+     * para alcanzar ese tamaño)
+     */
+    public static void main(String[] args) {
+        ProgramGenerator generator = new ProgramGenerator();
+        String path = null;
+        long size = -1;
+
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--structs=")) {
+                    generator.setStructs(Integer.parseInt(arg.substring(10)));
+                } else if (arg.startsWith("--depth=")) {
+                    generator.setDepth(Integer.parseInt(arg.substring(8)));
+                } else if (arg.startsWith("--methods=")) {
+                    generator.setMethods(Integer.parseInt(arg.substring(10)));
+                } else if (arg.startsWith("--statements=")) {
+                    generator.setStatements(Integer.parseInt(arg.substring(13)));
+                } else if (arg.startsWith("--nesting=")) {
+                    generator.setNesting(Integer.parseInt(arg.substring(10)));
+                } else if (arg.startsWith("--seed=")) {
+                    generator.setSeed(Long.parseLong(arg.substring(7)));
+                } else if (arg.equals("--no-strings")) {
+                    generator.setUseStrings(false);
+                } else if (arg.equals("--no-arrays")) {
+                    generator.setUseArrays(false);
+                } else if (arg.startsWith("--size=")) {
+                    size = Static.parseSize(arg);
+                } else if (arg.startsWith("--")) {
+                    throw new IllegalArgumentException(Const.ERROR_UNKNOWN_OPTION + arg);
+                } else {
+                    path = arg;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+
+        if (path == null) {
+            System.out.println(Const.ERROR_READ_SOURCE);
+            return;
+        }
+
+        //El tamaño se aplica al final para usar el resto de la configuración
+        if (size > 0) {
+            generator.setTargetSize(size);
+        }
+
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(path), 1 << 16)) {
+            generator.generate(writer);
+        } catch (IOException e) {
+            System.out.println(Const.ERROR_CREATE_FILE);
+            return;
+        }
+
+        System.out.println("CORRECTO: PROGRAMA GENERADO (" + new File(path).length() + " bytes)");
+    }
+}
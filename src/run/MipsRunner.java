@@ -0,0 +1,100 @@
+package src.run;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import src.lib.Const;
+import src.lib.Static;
+import src.lib.mipsHelper.Assembler;
+import src.lib.mipsHelper.MipsException;
+import src.lib.mipsHelper.MipsProgram;
+import src.lib.mipsHelper.Simulator;
+
+/**
+ * Clase MipsRunner encargada de ensamblar y ejecutar un archivo .asm generado
+ * por el compilador con el simulador MIPS (Reemplazo local de MARS 4.5).
+ *
+ * @author Cristian Serrano
+ * @author Federico Gimenez
+ * @since 19/10/2026
+ */
+public class MipsRunner {
+    private MipsRunner () {}
+
+    /**
+     * Main
+     * @param args args (Ubicación del archivo .asm y opciones.
+     * --input=ARCHIVO: entrada del programa (por defecto la entrada estándar),
+     * --steps=N: límite de instrucciones a ejecutar, --stats: muestra las estadísticas de la ejecución,
+     * --json=ARCHIVO: escribe las estadísticas en formato JSON)
+     */
+    public static void main(String[] args) {
+        String path = null, inputPath = null, jsonPath = null;
+        long steps = 0;
+        boolean stats = false;
+
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--input=")) {
+                    inputPath = arg.substring(8);
+                } else if (arg.startsWith("--steps=")) {
+                    steps = Long.parseLong(arg.substring(8));
+                } else if (arg.equals("--stats")) {
+                    stats = true;
+                } else if (arg.startsWith("--json=")) {
+                    jsonPath = arg.substring(7);
+                } else if (arg.startsWith("--")) {
+                    throw new IllegalArgumentException(Const.ERROR_UNKNOWN_OPTION + arg);
+                } else {
+                    path = arg;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+
+        if (path == null) {
+            System.out.println(Const.ERROR_READ_SOURCE);
+            return;
+        }
+
+        try (BufferedReader input = new BufferedReader(
+            inputPath != null ? new FileReader(inputPath) : new InputStreamReader(System.in)
+        )) {
+            MipsProgram program = new Assembler().assemble(new String(Files.readAllBytes(Paths.get(path))));
+            Simulator simulator = new Simulator(program, input, System.out);
+
+            int status = simulator.run(steps);
+
+            //Informa el error de ejecución
+            if (simulator.getError() != null) {
+                System.out.println("\nERROR: EJECUCION (" + status + "): " + simulator.getError());
+            }
+
+            if (stats) {
+                System.out.println("\n| INSTRUCCIONES | CICLOS | LECTURAS | ESCRITURAS | SALTOS (TOMADOS) | JUMPS | SYSCALLS | HEAP | STACK |");
+                System.out.println("| " + simulator.getInstructions() + " | " + simulator.getCycles() +
+                    " | " + simulator.getLoads() + " | " + simulator.getStores() +
+                    " | " + simulator.getBranches() + " (" + simulator.getBranchesTaken() + ")" +
+                    " | " + simulator.getJumps() + " | " + simulator.getSyscalls() +
+                    " | " + simulator.getHeapBytes() + " | " + simulator.getStackBytes() + " |");
+            }
+
+            if (jsonPath != null) {
+                Static.write(simulator.toJSON(""), jsonPath);
+            }
+        }
+        //Captura el error de ensamblado y lo muestra por pantalla
+        catch (MipsException e) {
+            System.out.println("ERROR: ENSAMBLADO: " + e.getMessage());
+        }
+        catch (IOException e) {
+            System.out.println(Const.ERROR_READ_FILE + path);
+        }
+    }
+}
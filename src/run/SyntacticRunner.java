@@ -1,60 +1,114 @@
 package src.run;
 
+import java.io.IOException;
+import java.util.ArrayList;
+
+import src.lib.CompilerOptions;
 import src.lib.Const;
 import src.lib.Static;
-import src.lib.exceptionHelper.LexicalException;
-import src.lib.exceptionHelper.SemanticException;
-import src.lib.exceptionHelper.SyntacticException;
+import src.lib.batchHelper.BatchResult;
+import src.lib.exceptionHelper.CustomException;
+import src.lib.incrementalHelper.IncrementalCompiler;
+import src.lib.statsHelper.CompilerStats;
+import src.lib.watchHelper.FileWatcher;
 import src.main.SyntacticAnalyzer;
 
 /**
  * Clase SyntacticRunner encargada de ejecutar el analizador sintáctico
- * 
+ *
  * @author Cristian Serrano
  * @author Federico Gimenez
  * @since 08/04/2024
  */
 public class SyntacticRunner {
     private SyntacticRunner () {}
-    
-    /** 
+
+    /**
      * Main
-     * @param args args
+     * @param args args (Ubicación del código fuente y opciones. --watch: observa el archivo o la
+     * carpeta indicada y vuelve a analizar los archivos .ru que cambian, mostrando una línea por archivo)
      */
     public static void main(String[] args) {
         // args = new String[] {"src/test/resources/semantic/sentences/error/TC_ERROR_OPERATION3.ru"};
-        if (args.length > 0) {
-            try{
-                SyntacticAnalyzer syntacticAnalyzer= new SyntacticAnalyzer(args[0]);
+        String path = null;
+        boolean watch = false;
 
-                //Comienza la ejecución
-                syntacticAnalyzer.run();
-                
-                //genenera json file
-                
-                String ruta = args[0].split(".ru")[0];
-                Static.write(syntacticAnalyzer.toJSON().get(0), ruta+".ts.json");
-                Static.write(syntacticAnalyzer.toJSON().get(1), ruta+".ast.json");
-
-                // imprimir mensaje de exito semantico sentencias
-                System.out.println("CORRECTO: SEMANTICO - SENTENCIAS");
-            }
-            //Captura el error sintactico y lo muestra por pantalla 
-            catch (SyntacticException e) {
-                Static.writeError(e, null);
+        for (String arg : args) {
+            if (arg.equals("--watch")) {
+                watch = true;
+            } else if (arg.startsWith("--")) {
+                System.out.println(Const.ERROR_UNKNOWN_OPTION + arg);
+                return;
+            } else if (path == null) {
+                path = arg;
             }
-            catch (SemanticException e) {
-                Static.writeError(e, null);
-            }
-            catch (LexicalException e) {
-                Static.writeError(e, null);
-            }
-            //Captura cualquier otro tipo de error y lo muestra por consola
-            catch (Exception e) {
-                System.out.println("Ocurrio un error al analizar sintacticamente." + e.getMessage());
+        }
+
+        if (path == null) {
+            System.out.println(Const.ERROR_READ_SOURCE);
+        } else if (watch) {
+            try {
+                new FileWatcher(SyntacticRunner::analyzeIncremental, System.out).watch(path);
+            } catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage());
+            } catch (IOException e) {
+                System.out.println(Const.ERROR_CREATE_FILE_READER);
             }
         } else {
-            System.out.println(Const.ERROR_READ_SOURCE);
+            String error = analyze(path, false);
+
+            // imprimir mensaje de exito semantico sentencias
+            System.out.println(error == null ? "CORRECTO: SEMANTICO - SENTENCIAS" : error);
+        }
+    }
+
+    /**
+     * Analiza un archivo reutilizando los bloques sin cambios del análisis anterior.
+     */
+    private static BatchResult analyzeIncremental (String path) {
+        long start = System.nanoTime();
+        String error = analyze(path, true);
+
+        return new BatchResult(path, error, (System.nanoTime() - start) / 1000000);
+    }
+
+    /**
+     * Analiza un archivo y genera los json de la tabla de símbolos y del ast.
+     *
+     * @param path Ubicación del código fuente
+     * @param incremental Booleano que avisa si se reutiliza el análisis anterior del archivo
+     * @return Mensaje de error o null si el análisis fue correcto
+     */
+    private static String analyze (String path, boolean incremental) {
+        try{
+            ArrayList<String> json;
+
+            //Comienza la ejecución
+            if (incremental) {
+                IncrementalCompiler compiler = IncrementalCompiler.get(path);
+                synchronized (compiler) {
+                    compiler.run(new CompilerOptions(), new CompilerStats(false));
+                    json = compiler.toJSON();
+                }
+            } else {
+                SyntacticAnalyzer syntacticAnalyzer= new SyntacticAnalyzer(path);
+                syntacticAnalyzer.run();
+                json = syntacticAnalyzer.toJSON();
+            }
+
+            //genenera json file (Quita la extensión sin interpretarla como expresión regular)
+            String ruta = path.endsWith(".ru") ? path.substring(0, path.length() - 3) : path;
+            Static.write(json.get(0), ruta+".ts.json");
+            Static.write(json.get(1), ruta+".ast.json");
+            return null;
+        }
+        //Captura el error léxico, sintáctico o semántico
+        catch (CustomException e) {
+            return e.getMessage();
+        }
+        //Captura cualquier otro tipo de error
+        catch (Exception e) {
+            return "Ocurrio un error al analizar sintacticamente." + e.getMessage();
         }
     }
 }